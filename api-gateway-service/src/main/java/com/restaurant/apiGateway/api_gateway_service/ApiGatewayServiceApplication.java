@@ -1,6 +1,7 @@
 package com.restaurant.apiGateway.api_gateway_service;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
@@ -16,9 +17,8 @@ import org.springframework.context.annotation.FilterType;
     "com.restaurant.apiGateway.api_gateway_service",
     "com.restaurant.common"
 }, excludeFilters = {
-    @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
-        com.restaurant.common.security.aspect.AuthorizationAspect.class
-    })
+    // common-service auto-configurations are applied by Spring Boot, not by scanning
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class)
 })
 public class ApiGatewayServiceApplication {
 
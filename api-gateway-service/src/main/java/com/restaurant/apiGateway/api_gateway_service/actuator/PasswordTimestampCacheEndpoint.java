@@ -0,0 +1,61 @@
+package com.restaurant.apiGateway.api_gateway_service.actuator;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.restaurant.apiGateway.api_gateway_service.service.PasswordTimestampCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint for inspecting and invalidating the {@link PasswordTimestampCache}.
+ *
+ * <p>
+ * Like the other actuator endpoints it is served on {@code management.server.port}, not on the public gateway
+ * port, since anyone reaching it can invalidate entries.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ *     GET    :9081/actuator/passwordtimestamps                       # size and hit/miss/eviction counts
+ *     DELETE :9081/actuator/passwordtimestamps/user@restaurant.com   # invalidate one user
+ * </pre>
+ */
+@Component
+@Endpoint(id = "passwordtimestamps")
+@RequiredArgsConstructor
+public class PasswordTimestampCacheEndpoint {
+
+    private final PasswordTimestampCache passwordTimestampCache;
+
+    /**
+     * Returns the current size and statistics of the cache.
+     *
+     * @return a map of cache statistics
+     */
+    @ReadOperation
+    public Map<String, Object> stats() {
+        CacheStats stats = passwordTimestampCache.stats();
+        return Map.of(
+                "size", passwordTimestampCache.size(),
+                "hitCount", stats.hitCount(),
+                "missCount", stats.missCount(),
+                "hitRate", stats.hitRate(),
+                "evictionCount", stats.evictionCount()
+        );
+    }
+
+    /**
+     * Invalidates the cached timestamp of a single user.
+     *
+     * @param email the user's email
+     */
+    @DeleteOperation
+    public void invalidate(@Selector String email) {
+        passwordTimestampCache.invalidate(email);
+    }
+}
@@ -0,0 +1,70 @@
+package com.restaurant.apiGateway.api_gateway_service.config;
+
+import com.restaurant.apiGateway.api_gateway_service.util.AuthClientProperties;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration class for the non-blocking HTTP clients used by the API Gateway.
+ *
+ * <p>
+ * The gateway runs on Reactor Netty event-loop threads, so calls to other services
+ * must never block. This configuration provides a pooled {@link WebClient} for the
+ * Authentication Service with bounded connection acquisition and per-call timeouts,
+ * and a plain {@link WebClient} the response cache uses to revalidate cached responses.
+ * </p>
+ */
+@Configuration
+public class WebClientConfig {
+
+    private static final String AUTH_CONNECTION_POOL_NAME = "auth-service";
+
+    /**
+     * Creates the {@link WebClient} used to reach the Authentication Service.
+     *
+     * @param builder              the Spring Boot configured {@link WebClient.Builder}
+     * @param authClientProperties pool and timeout settings for the Authentication Service client
+     * @param authServiceBaseUrl   base URL of the Authentication Service
+     * @return a pooled, timeout-bounded {@link WebClient}
+     */
+    @Bean
+    public WebClient authServiceWebClient(WebClient.Builder builder,
+                                          AuthClientProperties authClientProperties,
+                                          @Value("${auth.service.url}") String authServiceBaseUrl) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(AUTH_CONNECTION_POOL_NAME)
+                .maxConnections(authClientProperties.getMaxConnections())
+                .pendingAcquireMaxCount(authClientProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(authClientProperties.getPendingAcquireTimeout())
+                .maxIdleTime(authClientProperties.getMaxIdleTime())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) authClientProperties.getConnectTimeout().toMillis())
+                .responseTimeout(authClientProperties.getResponseTimeout());
+
+        return builder
+                .baseUrl(authServiceBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * Creates the {@link WebClient} used to revalidate cached responses against any downstream service.
+     * <p>
+     * Revalidations go to absolute URIs and are bounded by the per-route revalidation timeout.
+     * </p>
+     *
+     * @param builder the Spring Boot configured {@link WebClient.Builder}
+     * @return a {@link WebClient} without base URL
+     */
+    @Bean
+    public WebClient responseCacheWebClient(WebClient.Builder builder) {
+        return builder.build();
+    }
+}
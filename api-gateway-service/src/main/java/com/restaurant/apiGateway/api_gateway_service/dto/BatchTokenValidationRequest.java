@@ -0,0 +1,24 @@
+package com.restaurant.apiGateway.api_gateway_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) used for validating many JWT tokens in a single call.
+ *
+ * <p><b>Usage:</b> Sent by the {@code TokenValidationBatcher} to the authentication
+ * service after coalescing pending token checks.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTokenValidationRequest {
+
+    /**
+     * The distinct (email, issuedAt) pairs to validate.
+     */
+    private List<TokenValidationRequest> tokens;
+}
@@ -0,0 +1,19 @@
+package com.restaurant.apiGateway.api_gateway_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) returned by the authentication service's batch token validation endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTokenValidationResponse {
+
+    /** Per-entry verdicts in request order */
+    private List<TokenValidationResult> results;
+}
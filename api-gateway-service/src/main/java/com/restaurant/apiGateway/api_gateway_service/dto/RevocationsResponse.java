@@ -0,0 +1,33 @@
+package com.restaurant.apiGateway.api_gateway_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) received from the authentication service's revocation sync endpoint.
+ * <p>
+ * Each entry maps a user id to the minimum token security version ({@code sv} claim) still accepted.
+ * A {@code full} response replaces the local copy; otherwise its entries are merged into it.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationsResponse {
+
+    /** Identifies the registry instance the sequence belongs to */
+    private long epoch;
+
+    /** Sequence number of the latest change included in this response */
+    private long sequence;
+
+    /** Whether the entries are a full snapshot rather than a delta */
+    private boolean full;
+
+    /** User ids, parallel to {@code minVersions} */
+    private long[] userIds;
+
+    /** Minimum accepted security version per user, parallel to {@code userIds} */
+    private long[] minVersions;
+}
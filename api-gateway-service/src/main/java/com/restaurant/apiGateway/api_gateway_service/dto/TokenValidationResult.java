@@ -0,0 +1,38 @@
+package com.restaurant.apiGateway.api_gateway_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) describing the authentication service's verdict
+ * for one entry of a {@link BatchTokenValidationRequest}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenValidationResult {
+
+    /**
+     * Possible verdicts for a single token.
+     */
+    public enum Status {
+        /** The token was issued after the user's last password change. */
+        VALID,
+        /** The token was issued before the user's last password change. */
+        OUTDATED,
+        /** No user exists with the token's email. */
+        USER_NOT_FOUND
+    }
+
+    /** The email address the verdict refers to */
+    private String email;
+
+    /** The verdict for this token */
+    private Status status;
+
+    /** The user's last password modification timestamp, or {@code null} if the user was not found */
+    private Instant passwordModifiedDate;
+}
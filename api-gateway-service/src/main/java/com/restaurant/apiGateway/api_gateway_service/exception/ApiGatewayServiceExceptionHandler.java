@@ -1,5 +1,6 @@
 package com.restaurant.apiGateway.api_gateway_service.exception;
 
+import com.restaurant.common.exception.ErrorResponse;
 import com.restaurant.common.exception.GlobalExceptionHandler;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -9,8 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.Map;
-
 @RestControllerAdvice
 public class ApiGatewayServiceExceptionHandler extends GlobalExceptionHandler {
     // ========================= JWT SPECIFIC EXCEPTIONS ========================= //
@@ -19,8 +18,9 @@ public class ApiGatewayServiceExceptionHandler extends GlobalExceptionHandler {
      * Handles JWT expiration errors.
      */
     @ExceptionHandler(ExpiredJwtException.class)
-    public ResponseEntity<Map<String, Object>> handleExpiredJwtException(ExpiredJwtException ex) {
+    public ResponseEntity<ErrorResponse> handleExpiredJwtException(ExpiredJwtException ex) {
         return buildErrorResponse(
+                ex,
                 HttpStatus.UNAUTHORIZED,
                 "JWT Token Expired",
                 "The provided token has expired. Please log in again."
@@ -31,8 +31,9 @@ public class ApiGatewayServiceExceptionHandler extends GlobalExceptionHandler {
      * Handles cases where the JWT is malformed (corrupted).
      */
     @ExceptionHandler(MalformedJwtException.class)
-    public ResponseEntity<Map<String, Object>> handleMalformedJwtException(MalformedJwtException ex) {
+    public ResponseEntity<ErrorResponse> handleMalformedJwtException(MalformedJwtException ex) {
         return buildErrorResponse(
+                ex,
                 HttpStatus.FORBIDDEN,
                 "Malformed JWT Token",
                 "The provided token is malformed and cannot be processed."
@@ -43,8 +44,9 @@ public class ApiGatewayServiceExceptionHandler extends GlobalExceptionHandler {
      * Handles cases where the JWT format is unsupported.
      */
     @ExceptionHandler(UnsupportedJwtException.class)
-    public ResponseEntity<Map<String, Object>> handleUnsupportedJwtException(UnsupportedJwtException ex) {
+    public ResponseEntity<ErrorResponse> handleUnsupportedJwtException(UnsupportedJwtException ex) {
         return buildErrorResponse(
+                ex,
                 HttpStatus.FORBIDDEN,
                 "Unsupported JWT Token",
                 "The provided token format is not supported."
@@ -55,8 +57,9 @@ public class ApiGatewayServiceExceptionHandler extends GlobalExceptionHandler {
      * Handles cases where the JWT signature is invalid.
      */
     @ExceptionHandler(SecurityException.class)
-    public ResponseEntity<Map<String, Object>> handleSecurityException(SecurityException ex) {
+    public ResponseEntity<ErrorResponse> handleSecurityException(SecurityException ex) {
         return buildErrorResponse(
+                ex,
                 HttpStatus.FORBIDDEN,
                 "Invalid JWT Signature",
                 "The JWT signature is invalid or has been tampered with."
@@ -66,12 +69,12 @@ public class ApiGatewayServiceExceptionHandler extends GlobalExceptionHandler {
     // ========================= CUSTOM TOKEN VALIDATION EXCEPTIONS ========================= //
 
     @ExceptionHandler(TokenOutdatedException.class)
-    public ResponseEntity<Map<String, Object>> handleTokenOutdated(TokenOutdatedException ex) {
-        return buildErrorResponse(HttpStatus.FORBIDDEN, "Token Outdated", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleTokenOutdated(TokenOutdatedException ex) {
+        return buildErrorResponse(ex, HttpStatus.FORBIDDEN, "Token Outdated", ex.getMessage());
     }
 
     @ExceptionHandler(TokenValidationException.class)
-    public ResponseEntity<Map<String, Object>> handleTokenValidationError(TokenValidationException ex) {
-        return buildErrorResponse(HttpStatus.BAD_GATEWAY, "Token Validation Error", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleTokenValidationError(TokenValidationException ex) {
+        return buildErrorResponse(ex, HttpStatus.BAD_GATEWAY, "Token Validation Error", ex.getMessage());
     }
 }
@@ -1,5 +1,7 @@
 package com.restaurant.apiGateway.api_gateway_service.exception;
 
+import com.restaurant.common.exception.DomainException;
+
 /**
  * Exception thrown when a JWT token is considered outdated.
  *
@@ -11,7 +13,7 @@ package com.restaurant.apiGateway.api_gateway_service.exception;
  * <p><b>Security Note:</b> This ensures that password changes immediately
  * invalidate all previously issued tokens, maintaining security integrity.</p>
  */
-public class TokenOutdatedException extends RuntimeException {
+public class TokenOutdatedException extends DomainException {
 
     /**
      * Creates a new TokenOutdatedException with the given error message.
@@ -0,0 +1,84 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.apiGateway.api_gateway_service.service.AdaptiveConcurrencyLimiter;
+import com.restaurant.apiGateway.api_gateway_service.service.AdaptiveConcurrencyLimiter.RouteLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds calls above a route's adaptive concurrency limit with an empty {@code 503 Service Unavailable}.
+ *
+ * <p>
+ * Runs after the {@link ResponseCacheGatewayFilter} and the {@link RequestCoalescingGatewayFilter}, so only
+ * calls that would reach the downstream service count, and before the {@link CircuitBreakerGatewayFilter}, so
+ * shed calls are not mistaken for downstream failures. The latency sample of a call is measured from the moment
+ * the {@link UpstreamTimingGatewayFilter} forwards it; calls rejected further down the chain give no sample.
+ * Streams such as Server-Sent Events stay open as long as the client listens, which says nothing about the
+ * downstream service: requests for one are not limited, and a call whose response turns out to be one gives
+ * back its unit as soon as the response headers are written, without a sample.
+ * See {@link AdaptiveConcurrencyLimiter}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyGatewayFilter implements GlobalFilter, Ordered {
+
+    // ==================== CONSTANTS ====================
+    /** Position of this filter in the global filter chain */
+    public static final int ORDER = RateLimitGatewayFilter.ORDER + 3;
+
+    // ==================== DEPENDENCIES ====================
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        RouteLimiter limiter = concurrencyLimiter.routeLimiter(route.getId());
+        if (limiter == null || StreamingExchanges.isStreamingRequest(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+
+        if (!limiter.tryAcquire()) {
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return exchange.getResponse().setComplete();
+        }
+        AtomicBoolean completed = new AtomicBoolean();
+        exchange.getResponse().beforeCommit(() -> {
+            if (StreamingExchanges.isStreamingResponse(exchange.getResponse()) && completed.compareAndSet(false, true)) {
+                limiter.release();
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (!completed.compareAndSet(false, true)) {
+                        return;
+                    }
+                    Long upstreamStart = exchange.getAttribute(ServerTimingGatewayFilter.UPSTREAM_START_ATTR);
+                    if (signal == SignalType.CANCEL || upstreamStart == null) {
+                        limiter.release();
+                    } else {
+                        limiter.onComplete(System.nanoTime() - upstreamStart, signal == SignalType.ON_ERROR);
+                    }
+                });
+    }
+}
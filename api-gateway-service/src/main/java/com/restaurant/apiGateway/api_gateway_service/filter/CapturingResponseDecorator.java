@@ -0,0 +1,135 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.common.timing.ServerTiming;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Response decorator that reads the complete downstream body before it is written to the caller, so it can be
+ * stored or shared with other callers.
+ *
+ * <p>
+ * Only bodies written with {@code writeWith} are captured; streamed responses ({@code writeAndFlushWith}) pass
+ * through untouched and are never handed to the {@link Listener}. Neither are bodies larger than the capture
+ * limit: once that many bytes have arrived, the buffered part and the rest of the body are written as they come,
+ * so an unexpectedly large response is never held in memory as a whole.
+ * </p>
+ */
+public class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    // ==================== CONSTANTS ====================
+    // Headers that describe the connection or the individual exchange rather than the response itself
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.DATE, HttpHeaders.SET_COOKIE, HttpHeaders.AGE, ServerTiming.HEADER)
+            .stream().map(name -> name.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+    private static final String ACCESS_CONTROL_PREFIX = "access-control-";
+
+    /**
+     * Receives the captured response right before it is written to the caller.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param response the decorated response, with its final status and headers
+         * @param body     the complete response body
+         */
+        void onCaptured(ServerHttpResponse response, byte[] body);
+    }
+
+    // ==================== DEPENDENCIES ====================
+    private final Listener listener;
+    private final long maxBodyBytes;
+
+    /**
+     * @param delegate     the response to write to
+     * @param maxBodyBytes the largest body that is captured and handed to the listener
+     * @param listener     receives the captured response
+     */
+    public CapturingResponseDecorator(ServerHttpResponse delegate, long maxBodyBytes, Listener listener) {
+        super(delegate);
+        this.listener = listener;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        AtomicLong size = new AtomicLong();
+        // One list holding the whole body, or a list cut right after the limit followed by one list per buffer
+        return Flux.<DataBuffer>from(body)
+                .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxBodyBytes)
+                .switchOnFirst((first, parts) -> size.get() > maxBodyBytes
+                        ? super.writeWith(parts.flatMapIterable(Function.identity()))
+                        : parts.next()
+                                .map(CapturingResponseDecorator::toBytes)
+                                .defaultIfEmpty(new byte[0])
+                                .flatMap(bytes -> {
+                                    listener.onCaptured(this, bytes);
+                                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                                }))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .then();
+    }
+
+    private static byte[] toBytes(List<DataBuffer> buffers) {
+        int length = 0;
+        for (DataBuffer buffer : buffers) {
+            length += buffer.readableByteCount();
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int count = buffer.readableByteCount();
+            buffer.read(bytes, offset, count);
+            offset += count;
+            DataBufferUtils.release(buffer);
+        }
+        return bytes;
+    }
+
+    /**
+     * Copies the headers of a downstream response that can be replayed to other callers, leaving out
+     * connection-level headers, cookies, CORS headers (set per exchange by the gateway) and timings.
+     *
+     * @param headers the downstream response headers
+     * @return a read-only copy of the replayable headers
+     */
+    public static HttpHeaders replayableHeaders(HttpHeaders headers) {
+        HttpHeaders replayable = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if (!EXCLUDED_HEADERS.contains(lowerCaseName) && !lowerCaseName.startsWith(ACCESS_CONTROL_PREFIX)) {
+                replayable.put(name, List.copyOf(values));
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(replayable);
+    }
+
+    /**
+     * Adds replayed headers to a response, keeping the headers the gateway already set for this exchange.
+     *
+     * @param target   the headers of the response being written
+     * @param replayed the replayable headers
+     */
+    public static void replayHeaders(HttpHeaders target, HttpHeaders replayed) {
+        replayed.forEach((name, values) -> {
+            if (!target.containsKey(name)) {
+                target.put(name, values);
+            }
+        });
+    }
+}
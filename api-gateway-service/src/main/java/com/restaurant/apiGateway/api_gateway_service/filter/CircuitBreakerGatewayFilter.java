@@ -0,0 +1,101 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers;
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers.Breaker;
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers.Decision;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Guards every protected route with its circuit breaker and bulkhead.
+ *
+ * <p>
+ * Runs after the {@link ResponseCacheGatewayFilter} and the {@link RequestCoalescingGatewayFilter}, so cached
+ * answers and coalesced followers are still served while a route's circuit is open and take no bulkhead slot,
+ * and after the {@link AdaptiveConcurrencyGatewayFilter}, so calls it sheds are not counted as failures.
+ * A rejected call is answered with an empty {@code 503 Service Unavailable} without touching the downstream
+ * service; when the circuit is open, {@code Retry-After} tells the client when trial calls resume. Calls that
+ * end in an error (connection failure, response timeout) or a {@code 5xx} answer count as failed.
+ * Streams such as Server-Sent Events last as long as the client listens: requests for one bypass the breaker,
+ * and a call whose response turns out to be one releases its slot once the headers are sent, without being
+ * recorded as a slow call.
+ * See {@link RouteCircuitBreakers}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CircuitBreakerGatewayFilter implements GlobalFilter, Ordered {
+
+    // ==================== DEPENDENCIES ====================
+    private final RouteCircuitBreakers circuitBreakers;
+
+    @Override
+    public int getOrder() {
+        return AdaptiveConcurrencyGatewayFilter.ORDER + 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        Breaker breaker = circuitBreakers.breaker(route.getId());
+        if (breaker == null || StreamingExchanges.isStreamingRequest(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.nanoTime();
+        Decision decision = breaker.tryAcquire(start);
+        if (!decision.isPermitted()) {
+            return reject(exchange, breaker, start);
+        }
+        AtomicBoolean completed = new AtomicBoolean();
+        exchange.getResponse().beforeCommit(() -> {
+            if (StreamingExchanges.isStreamingResponse(exchange.getResponse()) && completed.compareAndSet(false, true)) {
+                breaker.onCancel(decision);
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (!completed.compareAndSet(false, true)) {
+                        return;
+                    }
+                    if (signal == SignalType.CANCEL) {
+                        breaker.onCancel(decision);
+                        return;
+                    }
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    boolean failed = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+                    breaker.onComplete(decision, System.nanoTime() - start, failed);
+                });
+    }
+
+    /**
+     * Completes the exchange with HTTP 503 (Service Unavailable).
+     */
+    private static Mono<Void> reject(ServerWebExchange exchange, Breaker breaker, long nowNanos) {
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        long remainingNanos = breaker.remainingOpenNanos(nowNanos);
+        if (remainingNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        }
+        return exchange.getResponse().setComplete();
+    }
+}
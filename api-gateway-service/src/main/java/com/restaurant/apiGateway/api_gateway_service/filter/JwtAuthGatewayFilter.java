@@ -7,24 +7,56 @@ import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.regex.Pattern;
+
+/**
+ * Authenticates every routed request with its JWT and forwards the user's email and role downstream.
+ * <p>
+ * Runs at a fixed, early position in the global filter chain, before route filters such as
+ * {@code StripPrefix}, so the whitelist matches the paths as sent by the client (e.g. {@code /api/auth/login}).
+ * Paths are matched after removing dot segments and repeated slashes, which the downstream service would
+ * otherwise resolve behind the gateway's back. Requests to internal endpoints are rejected outright.
+ * </p>
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class JwtAuthGatewayFilter implements GlobalFilter {
+public class JwtAuthGatewayFilter implements GlobalFilter, Ordered {
+
+    // ==================== CONSTANTS ====================
+    /** Position of this filter in the global filter chain */
+    public static final int ORDER = -100;
+    /** Exchange attribute holding the verified JWT subject of an authenticated request */
+    public static final String AUTHENTICATED_SUBJECT_ATTR = JwtAuthGatewayFilter.class.getName() + ".subject";
+
+    private static final Pattern REPEATED_SLASHES = Pattern.compile("/{2,}");
 
     private final JwtProperties jwtProperties;
 
     private final JwtService jwtService;
 
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, org.springframework.cloud.gateway.filter.GatewayFilterChain chain) {
-        String path = exchange.getRequest().getURI().getPath();
+        String path = normalizedPath(exchange);
+
+        // Internal endpoints are only for direct service-to-service calls
+        for (String internalPath : jwtProperties.getInternalPaths()) {
+            if (path.startsWith(internalPath)) {
+                return reject(exchange, HttpStatus.FORBIDDEN);
+            }
+        }
 
         // Skip validation for whitelisted paths
         for (String whiteListedPath : jwtProperties.getWhitelist()) {
@@ -36,29 +68,55 @@ public class JwtAuthGatewayFilter implements GlobalFilter {
         // Require Authorization header
         String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-            return exchange.getResponse().setComplete();
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
         }
 
-        // Validate JWT
+        // Validate JWT without blocking the event loop, then continue the filter chain
         String token = authHeader.substring(7);
-        Claims claims;
-        try {
-            claims = jwtService.validateToken(token);
-        } catch (Exception e) {
-            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-            return exchange.getResponse().setComplete();
-        }
+        long start = System.nanoTime();
+        return jwtService.validateToken(token)
+                .doOnTerminate(() -> recordValidationTime(exchange, start))
+                .map(claims -> withUserHeaders(exchange, claims))
+                .onErrorResume(e -> {
+                    log.debug("Rejecting request to {}: {}", path, e.getMessage());
+                    return reject(exchange, HttpStatus.UNAUTHORIZED).then(Mono.empty());
+                })
+                .flatMap(chain::filter);
+    }
 
-        // Add user info to headers for downstream services
-        exchange = exchange.mutate().request(
+    /**
+     * Adds user info to headers for downstream services.
+     */
+    private ServerWebExchange withUserHeaders(ServerWebExchange exchange, Claims claims) {
+        exchange.getAttributes().put(AUTHENTICATED_SUBJECT_ATTR, claims.getSubject());
+        return exchange.mutate().request(
                 exchange.getRequest().mutate()
                         .header("X-User-Email", claims.getSubject())
                         .header("X-User-Role", claims.get("role", String.class))
                         .build()
         ).build();
+    }
+
+    /**
+     * Stores the token validation time for the {@code Server-Timing} header.
+     */
+    private void recordValidationTime(ServerWebExchange exchange, long start) {
+        exchange.getAttributes().put(ServerTimingGatewayFilter.TOKEN_VALIDATION_NANOS_ATTR, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the request path with dot segments and repeated slashes removed.
+     */
+    private static String normalizedPath(ServerWebExchange exchange) {
+        String path = exchange.getRequest().getURI().normalize().getPath();
+        return path == null ? "" : REPEATED_SLASHES.matcher(path).replaceAll("/");
+    }
 
-        // Continue the filter chain
-        return chain.filter(exchange);
+    /**
+     * Completes the exchange with the given status, e.g. HTTP 401 (Unauthorized).
+     */
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
     }
 }
@@ -0,0 +1,88 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.apiGateway.api_gateway_service.service.RateLimiter;
+import com.restaurant.apiGateway.api_gateway_service.service.RateLimiter.RouteLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects requests above the configured per-user rate of their route with {@code 429 Too Many Requests}.
+ *
+ * <p>
+ * Runs right after the {@link JwtAuthGatewayFilter}, so users are identified by their verified JWT subject;
+ * requests on whitelisted paths, which carry no token, are limited per client address instead, by the route's
+ * looser anonymous limit when one is configured. The
+ * {@code Retry-After} header of a rejection tells the client, in whole seconds, when its next request would
+ * be allowed. See {@link RateLimiter} for the buckets.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitGatewayFilter implements GlobalFilter, Ordered {
+
+    // ==================== CONSTANTS ====================
+    /** Position of this filter in the global filter chain */
+    public static final int ORDER = JwtAuthGatewayFilter.ORDER + 1;
+
+    private static final String ADDRESS_KEY_PREFIX = "address:";
+    private static final String UNKNOWN_ADDRESS = "unknown";
+
+    // ==================== DEPENDENCIES ====================
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        String subject = exchange.getAttribute(JwtAuthGatewayFilter.AUTHENTICATED_SUBJECT_ATTR);
+        RouteLimiter limiter = subject != null
+                ? rateLimiter.routeLimiter(route.getId())
+                : rateLimiter.anonymousRouteLimiter(route.getId());
+        if (limiter == null) {
+            return chain.filter(exchange);
+        }
+
+        long waitNanos = limiter.tryAcquire(subject != null ? subject : addressKey(exchange), System.nanoTime());
+        if (waitNanos == RateLimiter.ALLOWED) {
+            return chain.filter(exchange);
+        }
+        return reject(exchange, waitNanos);
+    }
+
+    /**
+     * Identifies an unauthenticated caller by client address.
+     */
+    private static String addressKey(ServerWebExchange exchange) {
+        InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+        return ADDRESS_KEY_PREFIX + (address == null ? UNKNOWN_ADDRESS : address.getHostString());
+    }
+
+    /**
+     * Completes the exchange with HTTP 429 (Too Many Requests).
+     */
+    private static Mono<Void> reject(ServerWebExchange exchange, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return exchange.getResponse().setComplete();
+    }
+}
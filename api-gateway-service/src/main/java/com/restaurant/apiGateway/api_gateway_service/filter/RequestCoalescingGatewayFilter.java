@@ -0,0 +1,162 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.apiGateway.api_gateway_service.service.RequestCoalescer;
+import com.restaurant.apiGateway.api_gateway_service.service.RequestCoalescer.RouteFlights;
+import com.restaurant.apiGateway.api_gateway_service.service.RequestCoalescer.Scope;
+import com.restaurant.apiGateway.api_gateway_service.service.RequestCoalescer.SharedResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Collapses identical in-flight GET requests on the configured routes into one downstream call.
+ *
+ * <p>
+ * Runs after the {@link JwtAuthGatewayFilter}, which sets the {@code X-User-Role} and {@code X-User-Email}
+ * headers the key is built from, and after the {@link ResponseCacheGatewayFilter}, so cached routes only reach
+ * it on a miss. Requests are identical when they match on route, path, query, {@code Accept},
+ * {@code Accept-Encoding} and role - plus the user on user-specific paths. While one of them is downstream, the
+ * others wait for its response and are answered with a copy of it; see {@link RequestCoalescer}.
+ * </p>
+ *
+ * <p>
+ * Conditional and range requests are never coalesced: their answer depends on what the caller already holds,
+ * so a {@code 304} or {@code 206} meant for one caller must not reach another.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescingGatewayFilter implements GlobalFilter, Ordered {
+
+    // ==================== CONSTANTS ====================
+    /** Exchange attribute holding how long a follower waited for the leader's response, in nanoseconds */
+    public static final String COALESCED_WAIT_NANOS_ATTR = RequestCoalescingGatewayFilter.class.getName() + ".waitNanos";
+
+    private static final String ROLE_HEADER = "X-User-Role";
+    private static final String USER_HEADER = "X-User-Email";
+    private static final char KEY_SEPARATOR = '\n';
+    private static final List<String> PRECONDITION_HEADERS = List.of(
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_UNMODIFIED_SINCE, HttpHeaders.IF_RANGE, HttpHeaders.RANGE);
+
+    // ==================== DEPENDENCIES ====================
+    private final RequestCoalescer requestCoalescer;
+
+    @Override
+    public int getOrder() {
+        return RateLimitGatewayFilter.ORDER + 2;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !HttpMethod.GET.equals(request.getMethod()) || isConditional(request.getHeaders())) {
+            return chain.filter(exchange);
+        }
+        RouteFlights flights = requestCoalescer.routeFlights(route.getId());
+        if (flights == null) {
+            return chain.filter(exchange);
+        }
+        Scope scope = flights.scope(request.getPath().pathWithinApplication());
+        String user = request.getHeaders().getFirst(USER_HEADER);
+        if (scope == null || (scope == Scope.USER && user == null)) {
+            return chain.filter(exchange);
+        }
+
+        String key = requestKey(request, scope, user);
+        Sinks.One<SharedResponse> sink = Sinks.one();
+        Sinks.One<SharedResponse> inFlight = flights.join(key, sink);
+        if (inFlight != null) {
+            return follow(exchange, chain, flights, inFlight);
+        }
+
+        flights.count(RequestCoalescer.RESULT_LEADER);
+        ServerHttpResponse sharing = new CapturingResponseDecorator(exchange.getResponse(), flights.getMaxBodyBytes(), (response, body) -> {
+            SharedResponse shared = flights.toSharedResponse(response.getStatusCode(), response.getHeaders(), body);
+            if (shared != null) {
+                sink.tryEmitValue(shared);
+            }
+        });
+        return chain.filter(exchange.mutate().response(sharing).build())
+                .doFinally(signal -> flights.complete(key, sink));
+    }
+
+    /**
+     * Waits for the leader's response, or goes downstream if it cannot be shared or takes too long.
+     */
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain, RouteFlights flights,
+                              Sinks.One<SharedResponse> inFlight) {
+        long start = System.nanoTime();
+        return inFlight.asMono()
+                .timeout(flights.getMaxWait(), Mono.empty())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> {
+                    if (shared.isEmpty()) {
+                        flights.count(RequestCoalescer.RESULT_FALLBACK);
+                        return chain.filter(exchange);
+                    }
+                    flights.count(RequestCoalescer.RESULT_FOLLOWER);
+                    exchange.getAttributes().put(COALESCED_WAIT_NANOS_ATTR, System.nanoTime() - start);
+                    return serve(exchange, shared.get());
+                });
+    }
+
+    /**
+     * Writes a copy of the leader's response.
+     */
+    private static Mono<Void> serve(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        CapturingResponseDecorator.replayHeaders(headers, shared.headers());
+        response.setStatusCode(shared.status());
+        headers.setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        for (String header : PRECONDITION_HEADERS) {
+            if (headers.containsKey(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the key of a request from everything the downstream answer may depend on.
+     */
+    private static String requestKey(ServerHttpRequest request, Scope scope, String user) {
+        HttpHeaders headers = request.getHeaders();
+        URI uri = request.getURI();
+        StringBuilder key = new StringBuilder(128)
+                .append(scope).append(KEY_SEPARATOR)
+                .append(headers.getFirst(ROLE_HEADER)).append(KEY_SEPARATOR);
+        if (scope == Scope.USER) {
+            key.append(user).append(KEY_SEPARATOR);
+        }
+        key.append(headers.getFirst(HttpHeaders.ACCEPT)).append(KEY_SEPARATOR)
+                .append(headers.getFirst(HttpHeaders.ACCEPT_ENCODING)).append(KEY_SEPARATOR)
+                .append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            key.append('?').append(uri.getRawQuery());
+        }
+        return key.toString();
+    }
+}
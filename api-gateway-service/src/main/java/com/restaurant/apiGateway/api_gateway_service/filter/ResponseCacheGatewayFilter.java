@@ -0,0 +1,168 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.apiGateway.api_gateway_service.service.ResponseCache;
+import com.restaurant.apiGateway.api_gateway_service.service.ResponseCache.CachedResponse;
+import com.restaurant.apiGateway.api_gateway_service.service.ResponseCache.RouteCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves GET requests on the configured routes from the {@link ResponseCache}.
+ *
+ * <p>
+ * Runs right after the {@link JwtAuthGatewayFilter} and the {@link RateLimitGatewayFilter}, so cached responses
+ * are only served to authenticated callers within their rate limit. For a cacheable request:
+ * </p>
+ * <ul>
+ *   <li>a fresh entry is served from memory</li>
+ *   <li>a stale entry is served from memory and revalidated in the background</li>
+ *   <li>on a miss, the first request goes downstream and its response is stored while being written; identical
+ *       requests arriving meanwhile wait for it, for up to {@code max-wait}, instead of going downstream
+ *       themselves</li>
+ * </ul>
+ *
+ * <p>
+ * Cached answers carry {@code Age} and {@code X-Cache} ({@code HIT}, {@code STALE} or {@code COALESCED}) headers,
+ * and a matching {@code If-None-Match} is answered with {@code 304 Not Modified}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheGatewayFilter implements GlobalFilter, Ordered {
+
+    // ==================== CONSTANTS ====================
+    /** Exchange attribute holding the cache result of the request, for the {@code Server-Timing} header */
+    public static final String CACHE_RESULT_ATTR = ResponseCacheGatewayFilter.class.getName() + ".result";
+
+    private static final String CACHE_HEADER = "X-Cache";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+
+    // ==================== DEPENDENCIES ====================
+    private final ResponseCache responseCache;
+
+    @Override
+    public int getOrder() {
+        return RateLimitGatewayFilter.ORDER + 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !HttpMethod.GET.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+        RouteCache routeCache = responseCache.routeCache(route.getId(), request.getPath().pathWithinApplication());
+        if (routeCache == null) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = routeCache.get(key);
+        long now = System.nanoTime();
+        if (cached != null && cached.isFresh(now)) {
+            routeCache.count(ResponseCache.RESULT_HIT);
+            return serve(exchange, cached, ResponseCache.RESULT_HIT);
+        }
+        if (cached != null && cached.isUsable(now)) {
+            routeCache.count(ResponseCache.RESULT_STALE);
+            responseCache.revalidate(routeCache, key, cached);
+            return serve(exchange, cached, ResponseCache.RESULT_STALE);
+        }
+
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Sinks.One<CachedResponse> inFlight = routeCache.joinMiss(key, sink);
+        if (inFlight != null) {
+            routeCache.count(ResponseCache.RESULT_COALESCED);
+            // Serve the leader's response, or go downstream if it is not cacheable or takes too long
+            return inFlight.asMono()
+                    .timeout(routeCache.getMaxWait(), Mono.empty())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(response -> response.isPresent()
+                            ? serve(exchange, response.get(), ResponseCache.RESULT_COALESCED)
+                            : chain.filter(exchange));
+        }
+
+        routeCache.count(ResponseCache.RESULT_MISS);
+        exchange.getAttributes().put(CACHE_RESULT_ATTR, ResponseCache.RESULT_MISS);
+        ServerHttpResponse caching = new CapturingResponseDecorator(exchange.getResponse(), routeCache.getMaxBodyBytes(), (response, body) -> {
+            URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+            if (!HttpStatus.OK.equals(response.getStatusCode()) || requestUrl == null) {
+                return;
+            }
+            CachedResponse fetched = responseCache.toCachedResponse(routeCache, response.getHeaders(), body, requestUrl);
+            if (fetched != null) {
+                routeCache.put(key, fetched);
+                sink.tryEmitValue(fetched);
+            }
+        });
+        return chain.filter(exchange.mutate().response(caching).build())
+                .doFinally(signal -> routeCache.completeMiss(key, sink));
+    }
+
+    /**
+     * Writes a cached response, or {@code 304} if the caller already has it.
+     */
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, String result) {
+        exchange.getAttributes().put(CACHE_RESULT_ATTR, result);
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        CapturingResponseDecorator.replayHeaders(headers, cached.headers());
+        headers.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds(System.nanoTime())));
+        headers.set(CACHE_HEADER, result);
+
+        if (cached.eTag() != null && matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.eTag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * Compares entity tags with the weak comparison used for {@code If-None-Match}.
+     */
+    private static boolean matches(List<String> ifNoneMatch, String eTag) {
+        String opaqueTag = stripWeakPrefix(eTag);
+        for (String candidate : ifNoneMatch) {
+            if (ANY_ETAG.equals(candidate) || stripWeakPrefix(candidate).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+
+    /**
+     * Builds the cache key from the path and query as sent by the caller.
+     */
+    private static String cacheKey(ServerHttpRequest request) {
+        URI uri = request.getURI();
+        String query = uri.getRawQuery();
+        return query == null ? uri.getRawPath() : uri.getRawPath() + '?' + query;
+    }
+}
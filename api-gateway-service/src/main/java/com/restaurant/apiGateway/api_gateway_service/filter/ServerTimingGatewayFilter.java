@@ -0,0 +1,128 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.apiGateway.api_gateway_service.util.ServerTimingProperties;
+import com.restaurant.common.timing.ServerTiming;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Adds the gateway's own timings to the {@code Server-Timing} response header.
+ *
+ * <p>
+ * Runs first in the filter chain and, right before the response is committed, reports:
+ * </p>
+ * <ul>
+ *   <li>{@code gateway} - the whole exchange as seen by the gateway</li>
+ *   <li>{@code jwt} - the token validation, including any round trip to the Authentication Service</li>
+ *   <li>{@code upstream} - from forwarding the request until the downstream response headers arrive,
+ *       described by the route id</li>
+ *   <li>{@code cache} - the {@link ResponseCacheGatewayFilter} result, on cached routes</li>
+ *   <li>{@code coalesced} - how long the request waited for an identical in-flight request, when the
+ *       {@link RequestCoalescingGatewayFilter} answered it with that request's response</li>
+ * </ul>
+ *
+ * <p>
+ * The entries the downstream service sent ({@code app}, {@code db}, {@code map}, {@code remote}) are
+ * kept after the gateway's, so one header shows every hop. When origins are configured, the
+ * {@code Timing-Allow-Origin} header is added as well.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ServerTimingGatewayFilter implements GlobalFilter, Ordered {
+
+    // ==================== CONSTANTS ====================
+    /** Exchange attribute holding the token validation duration in nanoseconds */
+    public static final String TOKEN_VALIDATION_NANOS_ATTR = ServerTimingGatewayFilter.class.getName() + ".tokenValidationNanos";
+    /** Exchange attribute holding the {@link System#nanoTime()} at which the request was forwarded */
+    public static final String UPSTREAM_START_ATTR = ServerTimingGatewayFilter.class.getName() + ".upstreamStart";
+
+    private static final String TIMING_ALLOW_ORIGIN_HEADER = "Timing-Allow-Origin";
+    private static final String GATEWAY_METRIC = "gateway";
+    private static final String JWT_METRIC = "jwt";
+    private static final String UPSTREAM_METRIC = "upstream";
+    private static final String CACHE_METRIC = "cache";
+    private static final String COALESCED_METRIC = "coalesced";
+
+    // ==================== DEPENDENCIES ====================
+    private final ServerTimingProperties properties;
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        exchange.getResponse().beforeCommit(() -> {
+            writeHeaders(exchange, start);
+            return Mono.empty();
+        });
+        return chain.filter(exchange);
+    }
+
+    /**
+     * Merges the gateway's entries into the response's {@code Server-Timing} header.
+     */
+    private void writeHeaders(ServerWebExchange exchange, long start) {
+        long now = System.nanoTime();
+        StringBuilder value = new StringBuilder(96);
+        value.append(GATEWAY_METRIC);
+        ServerTiming.appendDuration(value, now - start);
+
+        Long tokenValidationNanos = exchange.getAttribute(TOKEN_VALIDATION_NANOS_ATTR);
+        if (tokenValidationNanos != null) {
+            value.append(", ").append(JWT_METRIC);
+            ServerTiming.appendDuration(value, tokenValidationNanos);
+        }
+
+        Long upstreamStart = exchange.getAttribute(UPSTREAM_START_ATTR);
+        if (upstreamStart != null && exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR) != null) {
+            value.append(", ").append(UPSTREAM_METRIC);
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route != null) {
+                value.append(";desc=\"").append(route.getId()).append('"');
+            }
+            ServerTiming.appendDuration(value, now - upstreamStart);
+        }
+
+        String cacheResult = exchange.getAttribute(ResponseCacheGatewayFilter.CACHE_RESULT_ATTR);
+        if (cacheResult != null) {
+            value.append(", ").append(CACHE_METRIC).append(";desc=\"").append(cacheResult).append('"');
+        }
+
+        Long coalescedWaitNanos = exchange.getAttribute(RequestCoalescingGatewayFilter.COALESCED_WAIT_NANOS_ATTR);
+        if (coalescedWaitNanos != null) {
+            value.append(", ").append(COALESCED_METRIC);
+            ServerTiming.appendDuration(value, coalescedWaitNanos);
+        }
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        List<String> downstream = headers.get(ServerTiming.HEADER);
+        if (downstream != null) {
+            for (String entries : downstream) {
+                value.append(", ").append(entries);
+            }
+        }
+        headers.set(ServerTiming.HEADER, value.toString());
+
+        List<String> timingAllowOrigins = properties.getTimingAllowOrigins();
+        if (!timingAllowOrigins.isEmpty()) {
+            headers.set(TIMING_ALLOW_ORIGIN_HEADER, String.join(", ", timingAllowOrigins));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import java.util.List;
+
+/**
+ * Recognizes streaming exchanges such as Server-Sent Events.
+ *
+ * <p>
+ * A stream stays open for as long as the client listens, so its duration says nothing about the health of the
+ * downstream service. Filters that judge a route by call duration or count calls in flight leave streams out.
+ * </p>
+ */
+final class StreamingExchanges {
+
+    // ==================== CONSTANTS ====================
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+            MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_NDJSON);
+
+    private StreamingExchanges() {
+    }
+
+    /**
+     * Returns whether the client asks for a streaming response.
+     */
+    static boolean isStreamingRequest(ServerHttpRequest request) {
+        for (MediaType accepted : request.getHeaders().getAccept()) {
+            if (isStreaming(accepted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the response, once its headers are known, is a stream.
+     */
+    static boolean isStreamingResponse(ServerHttpResponse response) {
+        MediaType contentType = response.getHeaders().getContentType();
+        return contentType != null && isStreaming(contentType);
+    }
+
+    private static boolean isStreaming(MediaType mediaType) {
+        for (MediaType streamingType : STREAMING_TYPES) {
+            if (streamingType.equalsTypeAndSubtype(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Marks the moment a request is handed to the routing filter, for the {@code upstream} entry of the
+ * {@link ServerTimingGatewayFilter} and the latency samples of the {@link AdaptiveConcurrencyGatewayFilter}.
+ */
+@Component
+public class UpstreamTimingGatewayFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        exchange.getAttributes().put(ServerTimingGatewayFilter.UPSTREAM_START_ATTR, System.nanoTime());
+        return chain.filter(exchange);
+    }
+}
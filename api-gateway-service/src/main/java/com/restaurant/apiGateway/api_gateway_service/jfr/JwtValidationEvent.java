@@ -0,0 +1,59 @@
+package com.restaurant.apiGateway.api_gateway_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for one subscription to {@code JwtService.validateToken}.
+ *
+ * <p>
+ * The event begins when the validation is subscribed and is committed when it completes, fails or is
+ * cancelled. Its duration is split into local verification (cache lookup or signature check) and the
+ * remote password timestamp check, if one was needed; {@code revocationCheck} tells which path decided.
+ * Every routed request is validated, so by default only validations slower than 1 ms are recorded.
+ * </p>
+ */
+@Name("restaurant.gateway.JwtValidation")
+@Label("JWT Validation")
+@Category({"Restaurant", "Gateway"})
+@Description("Validation of a JWT by the API Gateway")
+@StackTrace(false)
+@Threshold("1 ms")
+public class JwtValidationEvent extends jdk.jfr.Event {
+
+    // ==================== CONSTANTS ====================
+    public static final String CHECK_REVOCATION_LIST = "REVOCATION_LIST";
+    public static final String CHECK_TIMESTAMP_CACHE = "TIMESTAMP_CACHE";
+    public static final String CHECK_BATCHED = "BATCHED";
+    public static final String CHECK_REMOTE = "REMOTE";
+
+    @Label("User ID")
+    @Description("The token's uid claim, or 0 if the token has none or was not verified")
+    public long userId;
+
+    @Label("Verified Token Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Verify Time")
+    @Description("Time spent on the cache lookup or signature check and the expiration check")
+    @Timespan(Timespan.NANOSECONDS)
+    public long verifyTime;
+
+    @Label("Revocation Check")
+    @Description("REVOCATION_LIST, TIMESTAMP_CACHE, BATCHED or REMOTE; empty if verification failed")
+    public String revocationCheck;
+
+    @Label("Remote Time")
+    @Description("Time spent waiting for the Authentication Service, directly or through the batcher")
+    @Timespan(Timespan.NANOSECONDS)
+    public long remoteTime;
+
+    @Label("Outcome")
+    @Description("VALID, CANCELLED, or the simple name of the exception that rejected the token")
+    public String outcome;
+}
@@ -0,0 +1,222 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.util.AdaptiveConcurrencyProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit per downstream route, following the gradient algorithm.
+ *
+ * <p>
+ * Each route admits at most {@code limit} concurrent calls; calls beyond it are shed by the gateway instead of
+ * queueing in the downstream service's thread pool. The limit is recomputed after every window of at least
+ * {@code window-size} calls and {@code min-window}:
+ * </p>
+ * <ul>
+ *   <li>the window's average round-trip time is the short-term RTT; an exponential average over
+ *       {@code long-window} windows is the long-term RTT, the latency the service has when not overloaded</li>
+ *   <li>the gradient {@code rtt-tolerance * longRtt / shortRtt}, kept between {@code 0.5} and {@code 1}, shrinks
+ *       the limit when calls get slower than usual; {@code sqrt(limit)} is added on top, so a healthy service
+ *       keeps probing for more concurrency</li>
+ *   <li>a window with failed calls multiplies the limit by {@code backoff-ratio} instead</li>
+ *   <li>the limit does not grow while fewer than half of it are in use, so a quiet period cannot inflate it</li>
+ * </ul>
+ *
+ * <p>
+ * Admitting a call is one atomic increment checked against a volatile limit; only completing a call takes the
+ * limiter's lock to add its sample.
+ * </p>
+ *
+ * <p><b>Metrics:</b> per route, {@code gateway.concurrency.limit} reports the current limit and
+ * {@code gateway.concurrency.limit.rejected} counts shed calls.</p>
+ */
+@Service
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    // ==================== CONSTANTS ====================
+    private static final String LIMIT_METRIC = "gateway.concurrency.limit";
+    private static final String REJECTED_METRIC = "gateway.concurrency.limit.rejected";
+    private static final String ROUTE_TAG = "route";
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+    // When the short-term RTT falls far below the long-term one (e.g. after a latency spike), the long-term
+    // average is pulled down faster than its window would
+    private static final double LONG_RTT_RECOVERY_RATIO = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Map<String, RouteLimiter> limiters;
+
+    /**
+     * The adaptive limit of one route.
+     */
+    public static final class RouteLimiter {
+
+        private final String routeId;
+        private final int minLimit;
+        private final int maxLimit;
+        private final double rttTolerance;
+        private final double smoothing;
+        private final double longRttFactor;
+        private final double backoffRatio;
+        private final int windowSize;
+        private final long minWindowNanos;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile int limit;
+        private final Counter rejected;
+
+        // Guarded by this
+        private double estimatedLimit;
+        private double longRttNanos;
+        private long windowStartNanos = System.nanoTime();
+        private long windowRttSum;
+        private int windowSamples;
+        private int windowMaxInFlight;
+        private boolean windowDropped;
+
+        private RouteLimiter(String routeId, AdaptiveConcurrencyProperties.RouteConcurrency settings,
+                             MeterRegistry meterRegistry) {
+            if (settings.getMinLimit() < 1 || settings.getMaxLimit() < settings.getMinLimit()) {
+                throw new IllegalArgumentException("Concurrency limit of route " + routeId
+                        + " needs 1 <= min-limit <= max-limit");
+            }
+            this.routeId = routeId;
+            this.minLimit = settings.getMinLimit();
+            this.maxLimit = settings.getMaxLimit();
+            this.rttTolerance = settings.getRttTolerance();
+            this.smoothing = settings.getSmoothing();
+            this.longRttFactor = 2.0 / (Math.max(1, settings.getLongWindow()) + 1);
+            this.backoffRatio = settings.getBackoffRatio();
+            this.windowSize = Math.max(1, settings.getWindowSize());
+            this.minWindowNanos = settings.getMinWindow().toNanos();
+            this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, settings.getInitialLimit()));
+            this.limit = (int) estimatedLimit;
+
+            Gauge.builder(LIMIT_METRIC, this, limiter -> limiter.limit)
+                    .description("Adaptive concurrency limit")
+                    .tag(ROUTE_TAG, routeId)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder(REJECTED_METRIC)
+                    .description("Calls shed by the adaptive concurrency limit")
+                    .tag(ROUTE_TAG, routeId)
+                    .register(meterRegistry);
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        /**
+         * Admits a call if the route is below its limit. Every admitted call must be completed with
+         * {@link #onComplete} or {@link #release}.
+         *
+         * @return whether the call may go through
+         */
+        public boolean tryAcquire() {
+            if (inFlight.incrementAndGet() > limit) {
+                inFlight.decrementAndGet();
+                rejected.increment();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Completes an admitted call that never reached the downstream service or was cancelled.
+         */
+        public void release() {
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * Completes an admitted call that reached the downstream service and adds its latency sample.
+         *
+         * @param rttNanos how long the downstream call took
+         * @param dropped  whether the call failed without an answer (connection error, timeout)
+         */
+        public void onComplete(long rttNanos, boolean dropped) {
+            int concurrent = inFlight.getAndDecrement();
+            sample(rttNanos, concurrent, dropped, System.nanoTime());
+        }
+
+        private synchronized void sample(long rttNanos, int concurrent, boolean dropped, long nowNanos) {
+            windowRttSum += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, concurrent);
+            windowDropped |= dropped;
+            if (windowSamples < windowSize || nowNanos - windowStartNanos < minWindowNanos) {
+                return;
+            }
+
+            double shortRttNanos = (double) windowRttSum / windowSamples;
+            update(shortRttNanos, windowMaxInFlight, windowDropped);
+            windowStartNanos = nowNanos;
+            windowRttSum = 0;
+            windowSamples = 0;
+            windowMaxInFlight = 0;
+            windowDropped = false;
+        }
+
+        private void update(double shortRttNanos, int maxInFlight, boolean dropped) {
+            if (longRttNanos == 0) {
+                longRttNanos = shortRttNanos;
+            } else {
+                longRttNanos += (shortRttNanos - longRttNanos) * longRttFactor;
+            }
+            if (longRttNanos / shortRttNanos > LONG_RTT_RECOVERY_RATIO) {
+                longRttNanos *= LONG_RTT_DECAY;
+            }
+
+            double newLimit;
+            if (dropped) {
+                newLimit = estimatedLimit * backoffRatio;
+            } else if (maxInFlight < estimatedLimit / 2) {
+                // Not enough load to learn anything about a higher limit
+                return;
+            } else {
+                double gradient = Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, rttTolerance * longRttNanos / shortRttNanos));
+                newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+                newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+            }
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+
+            int previous = limit;
+            limit = (int) estimatedLimit;
+            if (limit != previous && log.isDebugEnabled()) {
+                log.debug("Concurrency limit of route {} changed from {} to {} (short RTT {} us, long RTT {} us)",
+                        routeId, previous, limit, TimeUnit.NANOSECONDS.toMicros((long) shortRttNanos),
+                        TimeUnit.NANOSECONDS.toMicros((long) longRttNanos));
+            }
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter(AdaptiveConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        Map<String, RouteLimiter> routeLimiters = new HashMap<>();
+        properties.getRoutes().forEach((routeId, settings) ->
+                routeLimiters.put(routeId, new RouteLimiter(routeId, settings, meterRegistry)));
+        this.limiters = Map.copyOf(routeLimiters);
+    }
+
+    /**
+     * Returns the adaptive limit of a route.
+     *
+     * @param routeId the id of the matched route
+     * @return the route's limiter, or {@code null} if the route is not limited
+     */
+    public RouteLimiter routeLimiter(String routeId) {
+        return enabled ? limiters.get(routeId) : null;
+    }
+}
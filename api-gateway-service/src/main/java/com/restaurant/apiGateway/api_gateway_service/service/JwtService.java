@@ -2,27 +2,46 @@ package com.restaurant.apiGateway.api_gateway_service.service;
 
 import com.restaurant.apiGateway.api_gateway_service.dto.TokenValidationRequest;
 import com.restaurant.apiGateway.api_gateway_service.exception.TokenOutdatedException;
+import com.restaurant.apiGateway.api_gateway_service.exception.TokenValidationException;
+import com.restaurant.apiGateway.api_gateway_service.jfr.JwtValidationEvent;
 import com.restaurant.apiGateway.api_gateway_service.util.JwtProperties;
-import com.restaurant.common.service.HttpUtilityService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 
 /**
  * Service responsible for validating JSON Web Tokens (JWT) for authenticated users.
  * <p>
- * This service validates the signature and expiration of JWT tokens, and sends a request to the Authentication Service
- * to validate the token timestamp.
+ * This service validates the signature and expiration of JWT tokens, and checks the token timestamp against the
+ * user's last password change. The password change timestamp is answered from the {@link PasswordTimestampCache}
+ * when possible; only misses and stale entries send a non-blocking request to the Authentication Service.
+ * </p>
+ * <p>
+ * Tokens that carry a user id and security version are checked against the in-memory {@link RevocationList}
+ * instead, as long as its copy is fresh.
+ * </p>
+ * <p>
+ * The signing key and {@link JwtParser} are built once at startup, and tokens that were already verified are
+ * answered from the {@link VerifiedTokenCache} without repeating signature verification.
+ * </p>
+ * <p>
+ * Every validation emits a {@link JwtValidationEvent} to Java Flight Recorder, split into local verification
+ * and remote check time.
+ * </p>
  */
 @Service("gatewayJwtService")
-@RequiredArgsConstructor
 @Slf4j
 public class JwtService {
 
@@ -30,54 +49,124 @@ public class JwtService {
     // Error Messages
     private static final String TOKEN_NULL_EMPTY_MSG = "Token cannot be null or empty";
     private static final String JWT_EXPIRED_MSG = "JWT token is expired";
-    
-    // URL Templates
-    private static final String TOKEN_VALIDATION_URL_TEMPLATE = "%s/auth/validateTokenTimestamp";
-    
+    private static final String TOKEN_VALIDATION_FAILED_MSG = "Token validation failed";
+    private static final String TOKEN_OUTDATED_MSG = "Token is outdated due to password change";
+    private static final String TOKEN_REVOKED_MSG = "Token has been revoked";
+    private static final String USER_NOT_FOUND_MSG = "User not found with email: %s";
+    private static final String AUTH_SERVICE_ERROR_MSG = "Authentication service returned status %s";
+    private static final String AUTH_SERVICE_UNREACHABLE_MSG = "Token validation failed: %s";
+
+    // URL Paths
+    private static final String TOKEN_VALIDATION_PATH = "/auth/validateTokenTimestamp";
+
+    // Response Headers
+    private static final String PASSWORD_MODIFIED_AT_HEADER = "X-Password-Modified-At";
+
+    // Claim Names
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String SECURITY_VERSION_CLAIM = "sv";
+
+    // Flight Recorder Outcomes
+    private static final String OUTCOME_VALID = "VALID";
+    private static final String OUTCOME_CANCELLED = "CANCELLED";
+
     // ==================== DEPENDENCIES ====================
-    private final JwtProperties jwtProperties;
-    private final HttpUtilityService httpUtilityService;
+    private final WebClient authServiceWebClient;
+    private final PasswordTimestampCache passwordTimestampCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenValidationBatcher tokenValidationBatcher;
+    private final RevocationList revocationList;
+    private final JwtParser jwtParser;
 
-    @Value("${auth.service.url}")
-    private String authServiceBaseUrl;
+    public JwtService(JwtProperties jwtProperties,
+                      WebClient authServiceWebClient,
+                      PasswordTimestampCache passwordTimestampCache,
+                      VerifiedTokenCache verifiedTokenCache,
+                      TokenValidationBatcher tokenValidationBatcher,
+                      RevocationList revocationList) {
+        this.authServiceWebClient = authServiceWebClient;
+        this.passwordTimestampCache = passwordTimestampCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenValidationBatcher = tokenValidationBatcher;
+        this.revocationList = revocationList;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
 
     /**
      * Validates a JWT token.
      * <p>
-     * This method extracts the claims from the JWT token, validates the signature and expiration, and sends a request to the Authentication Service
-     * to validate the token timestamp.
+     * This method extracts the claims from the JWT token, validates the signature and expiration, and checks that the
+     * token has not been revoked, in memory or through the Authentication Service. The remote check is fully
+     * non-blocking, so the returned {@link Mono} can be composed directly into the gateway filter chain.
      * </p>
      *
      * @param token the JWT token to validate
-     * @return the claims from the JWT token
-     * @throws IllegalArgumentException if the token is null or empty
+     * @return a {@link Mono} emitting the claims from the JWT token, or an error if the token is invalid
      */
-    public Claims validateToken(String token) {
+    public Mono<Claims> validateToken(String token) {
         if (token == null || token.trim().isEmpty()) {
-            throw new IllegalArgumentException(TOKEN_NULL_EMPTY_MSG);
+            return Mono.error(new IllegalArgumentException(TOKEN_NULL_EMPTY_MSG));
+        }
+
+        return Mono.defer(() -> {
+            JwtValidationEvent event = new JwtValidationEvent();
+            event.begin();
+            return Mono.fromCallable(() -> verifyToken(token, event))
+                    .flatMap(claims -> validateNotRevoked(claims, event).thenReturn(claims))
+                    .doOnSuccess(claims -> event.outcome = OUTCOME_VALID)
+                    .doOnError(e -> event.outcome = e.getClass().getSimpleName())
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            event.outcome = OUTCOME_CANCELLED;
+                        }
+                        event.commit();
+                    });
+        });
+    }
+
+    /**
+     * Verifies the signature and expiration of the JWT token.
+     * <p>
+     * Tokens seen before are answered from the {@link VerifiedTokenCache}; otherwise the token is parsed and
+     * verified, and the resulting claims are cached until the token expires.
+     * </p>
+     *
+     * @param token the JWT token to verify
+     * @param event the flight recorder event of this validation
+     * @return the claims from the JWT token
+     */
+    private Claims verifyToken(String token, JwtValidationEvent event) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = verifiedTokenCache.get(token);
+            if (claims != null) {
+                event.cacheHit = true;
+                validateExpiration(claims);
+                return claims;
+            }
+
+            claims = extractAndValidateSignature(token);
+            validateExpiration(claims);
+            verifiedTokenCache.put(token, claims);
+            return claims;
+        } finally {
+            event.verifyTime = System.nanoTime() - start;
         }
-        
-        Claims claims = extractAndValidateSignature(token);
-        validateExpiration(claims);
-        sendTokenValidationRequest(claims);
-        return claims;
     }
 
     /**
      * Extracts the claims from the JWT token and validates the signature.
      * <p>
-     * This method extracts the claims from the JWT token and validates the signature using the signing key.
+     * This method extracts the claims from the JWT token and validates the signature using the shared parser.
      * </p>
      *
      * @param token the JWT token to extract the claims from
      * @return the claims from the JWT token
      */
     private Claims extractAndValidateSignature(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey()) // validates signature
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody(); // validates signature
     }
 
     /**
@@ -96,48 +185,135 @@ public class JwtService {
     }
 
     /**
-     * Gets the signing key for the JWT token.
+     * Validates that the token has not been revoked.
+     * <p>
+     * Tokens carrying {@code uid} and {@code sv} claims are checked in memory against the {@link RevocationList}
+     * while its copy is fresh. Older tokens, or any token while the copy is stale, go through the password
+     * timestamp check.
+     * </p>
+     *
+     * @param claims the claims from the JWT token
+     * @param event  the flight recorder event of this validation
+     * @return a {@link Mono} that completes empty if the token is still valid
+     */
+    private Mono<Void> validateNotRevoked(Claims claims, JwtValidationEvent event) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        Long securityVersion = claims.get(SECURITY_VERSION_CLAIM, Long.class);
+        if (userId != null) {
+            event.userId = userId;
+        }
+        if (userId == null || securityVersion == null || !revocationList.isFresh()) {
+            return validateTokenTimestamp(claims, event);
+        }
+        event.revocationCheck = JwtValidationEvent.CHECK_REVOCATION_LIST;
+        if (revocationList.isRevoked(userId, securityVersion)) {
+            return Mono.error(new TokenOutdatedException(TOKEN_REVOKED_MSG));
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * Validates that the token was not issued before the user's last password change.
      * <p>
-     * This method gets the signing key for the JWT token from the JwtProperties.
+     * On a cache hit the decision is made in-process with the same rule the Authentication Service applies.
+     * On a miss the Authentication Service is asked, through the {@link TokenValidationBatcher} when batching is
+     * enabled, and its answer populates the cache.
      * </p>
      *
-     * @return the signing key for the JWT token
+     * @param claims the claims from the JWT token
+     * @param event  the flight recorder event of this validation
+     * @return a {@link Mono} that completes empty if the token timestamp is still valid
      */
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+    private Mono<Void> validateTokenTimestamp(Claims claims, JwtValidationEvent event) {
+        Instant passwordModifiedAt = passwordTimestampCache.get(claims.getSubject());
+        if (passwordModifiedAt == null) {
+            boolean batched = tokenValidationBatcher.isEnabled();
+            event.revocationCheck = batched ? JwtValidationEvent.CHECK_BATCHED : JwtValidationEvent.CHECK_REMOTE;
+            long remoteStart = System.nanoTime();
+            return (batched ? sendBatchedTokenValidationRequest(claims) : sendTokenValidationRequest(claims))
+                    .doOnTerminate(() -> event.remoteTime = System.nanoTime() - remoteStart);
+        }
+        event.revocationCheck = JwtValidationEvent.CHECK_TIMESTAMP_CACHE;
+        if (claims.getIssuedAt().toInstant().isBefore(passwordModifiedAt)) {
+            return Mono.error(new TokenOutdatedException(TOKEN_OUTDATED_MSG));
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * Queues the token timestamp check with the {@link TokenValidationBatcher} and applies its verdict.
+     *
+     * @param claims the claims from the JWT token
+     * @return a {@link Mono} that completes empty if the token timestamp is still valid
+     */
+    private Mono<Void> sendBatchedTokenValidationRequest(Claims claims) {
+        String email = claims.getSubject();
+        return tokenValidationBatcher.validate(email, claims.getIssuedAt().toInstant())
+                .flatMap(result -> {
+                    if (result.getPasswordModifiedDate() != null) {
+                        passwordTimestampCache.put(email, result.getPasswordModifiedDate());
+                    }
+                    return switch (result.getStatus()) {
+                        case VALID -> Mono.<Void>empty();
+                        case OUTDATED -> Mono.<Void>error(new TokenOutdatedException(TOKEN_OUTDATED_MSG));
+                        case USER_NOT_FOUND -> Mono.<Void>error(
+                                new TokenOutdatedException(String.format(USER_NOT_FOUND_MSG, email)));
+                    };
+                });
     }
 
     /**
      * Sends a request to the Authentication Service to validate the token timestamp.
      * <p>
-     * This method sends a request to the Authentication Service to validate the token timestamp.
-     * If the token is invalid (HTTP 403), it throws a TokenOutdatedException.
+     * The call goes through the pooled, timeout-bounded {@link WebClient}. A 4xx answer means the token was issued
+     * before the user's last password change and is mapped to a {@link TokenOutdatedException}. Any other failure
+     * (5xx, timeout, connection refused) is mapped to a {@link TokenValidationException}.
      * </p>
      *
      * @param claims the claims from the JWT token
-     * @throws TokenOutdatedException if the token is outdated due to password change
-     * @throws RuntimeException if the HTTP request fails
+     * @return a {@link Mono} that completes empty if the token timestamp is still valid
      */
-    private void sendTokenValidationRequest(Claims claims) {
-        final String url = String.format(TOKEN_VALIDATION_URL_TEMPLATE, authServiceBaseUrl);
-
+    private Mono<Void> sendTokenValidationRequest(Claims claims) {
         TokenValidationRequest requestBody = new TokenValidationRequest(
             claims.getSubject(), // email from JWT
             claims.getIssuedAt().toInstant() // issuedAt from JWT
         );
-        
-        try {
-            ResponseEntity<String> response = httpUtilityService.postJsonRequest(url, requestBody, String.class);
-            
-            // Check if the response indicates an invalid token (HTTP 403)
-            if (response.getStatusCode().is4xxClientError()) {
-                String errorMessage = response.getBody() != null ? response.getBody() : "Token validation failed";
-                throw new TokenOutdatedException(errorMessage);
-            }
-            
+
+        return authServiceWebClient.post()
+                .uri(TOKEN_VALIDATION_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, response -> {
+                    cachePasswordTimestamp(claims.getSubject(), response.headers().asHttpHeaders());
+                    return response.bodyToMono(String.class)
+                            .defaultIfEmpty(TOKEN_VALIDATION_FAILED_MSG)
+                            .map(TokenOutdatedException::new);
+                })
+                .onStatus(HttpStatusCode::is5xxServerError, response -> Mono.just(
+                        new TokenValidationException(String.format(AUTH_SERVICE_ERROR_MSG, response.statusCode().value()))))
+                .toBodilessEntity()
+                .doOnNext(response -> cachePasswordTimestamp(claims.getSubject(), response.getHeaders()))
+                .onErrorMap(e -> !(e instanceof TokenOutdatedException) && !(e instanceof TokenValidationException),
+                        e -> new TokenValidationException(String.format(AUTH_SERVICE_UNREACHABLE_MSG, e.getMessage())))
+                .then();
+    }
+
+    /**
+     * Stores the password modification timestamp reported by the Authentication Service, if present.
+     *
+     * @param email   the user's email (JWT subject)
+     * @param headers the response headers from the Authentication Service
+     */
+    private void cachePasswordTimestamp(String email, HttpHeaders headers) {
+        String passwordModifiedAt = headers.getFirst(PASSWORD_MODIFIED_AT_HEADER);
+        if (passwordModifiedAt == null) {
+            return;
         }
-        catch (Exception e) {
-            throw new RuntimeException("Token validation failed: " + e.getMessage(), e);
+        try {
+            passwordTimestampCache.put(email, Instant.parse(passwordModifiedAt));
+        } catch (DateTimeParseException e) {
+            log.warn("Ignoring malformed {} header: {}", PASSWORD_MODIFIED_AT_HEADER, passwordModifiedAt);
         }
-    }   
+    }
 }
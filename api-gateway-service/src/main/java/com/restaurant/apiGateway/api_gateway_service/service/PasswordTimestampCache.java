@@ -0,0 +1,88 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.restaurant.apiGateway.api_gateway_service.util.PasswordTimestampCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Bounded, concurrent in-memory cache mapping a user's email to the last known password modification timestamp.
+ *
+ * <p>
+ * The gateway uses this cache to answer the common "was this token issued before the last password change?"
+ * question in-process. Only misses and expired entries go to the Authentication Service.
+ * </p>
+ *
+ * <p><b>Metrics:</b> hit, miss and eviction counters are published under the {@code cache.*} meters with the
+ * tag {@code cache=passwordTimestamps}.</p>
+ */
+@Service
+public class PasswordTimestampCache {
+
+    // ==================== CONSTANTS ====================
+    private static final String CACHE_NAME = "passwordTimestamps";
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Cache<String, Instant> cache;
+
+    public PasswordTimestampCache(PasswordTimestampCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached password modification timestamp for the given user.
+     *
+     * @param email the user's email (JWT subject)
+     * @return the cached timestamp, or {@code null} on a miss, an expired entry or when the cache is disabled
+     */
+    public Instant get(String email) {
+        return enabled ? cache.getIfPresent(email) : null;
+    }
+
+    /**
+     * Stores the password modification timestamp returned by the Authentication Service.
+     *
+     * @param email              the user's email (JWT subject)
+     * @param passwordModifiedAt the user's last password modification timestamp
+     */
+    public void put(String email, Instant passwordModifiedAt) {
+        if (enabled) {
+            cache.put(email, passwordModifiedAt);
+        }
+    }
+
+    /**
+     * Removes a single user from the cache so the next request is checked remotely.
+     *
+     * @param email the user's email
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    /**
+     * Returns the number of cached users.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,215 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.util.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory token bucket rate limiter, one bucket per user and route.
+ *
+ * <p>
+ * Anonymous callers are limited per client address, by a route's anonymous limit if it has one; see
+ * {@link RateLimitProperties#getAnonymousRoutes()}.
+ * </p>
+ *
+ * <p>
+ * Nothing is shared between gateway instances and nothing is stored outside the JVM, so no Redis is needed;
+ * with several instances, each enforces the configured limit on its own share of the traffic.
+ * </p>
+ *
+ * <p>
+ * Buckets are spread over a fixed number of stripes (four per available processor, rounded up to a power of
+ * two), each holding a plain {@link HashMap} guarded by its own lock, so requests of different users rarely
+ * contend and an allowed request costs one hash lookup and a few arithmetic operations under an uncontended
+ * lock. Tokens are refilled lazily from the time elapsed since the bucket was last used. Idle buckets are
+ * evicted lazily as well: at most once per idle timeout, the stripe being accessed drops the buckets that were
+ * not used within it.
+ * </p>
+ *
+ * <p><b>Metrics:</b> per route, {@code gateway.rate.limit.requests} counts requests by {@code result}
+ * ({@code ALLOWED}, {@code REJECTED}) and {@code gateway.rate.limit.buckets} reports the number of live buckets,
+ * both tagged with the {@code caller} kind ({@code user} or {@code anonymous}).</p>
+ */
+@Service
+public class RateLimiter {
+
+    // ==================== CONSTANTS ====================
+    /** Returned by {@link RouteLimiter#tryAcquire(String, long)} when the request is allowed */
+    public static final long ALLOWED = 0;
+
+    private static final String RESULT_ALLOWED = "ALLOWED";
+    private static final String RESULT_REJECTED = "REJECTED";
+    private static final String REQUESTS_METRIC = "gateway.rate.limit.requests";
+    private static final String BUCKETS_METRIC = "gateway.rate.limit.buckets";
+    private static final String ROUTE_TAG = "route";
+    private static final String CALLER_TAG = "caller";
+    private static final String CALLER_USER = "user";
+    private static final String CALLER_ANONYMOUS = "anonymous";
+    private static final int STRIPES_PER_PROCESSOR = 4;
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Map<String, RouteLimiter> routeLimiters;
+    private final Map<String, RouteLimiter> anonymousRouteLimiters;
+
+    /**
+     * The buckets and meters of one route.
+     */
+    public static final class RouteLimiter {
+
+        private final Stripe[] stripes;
+        private final int stripeMask;
+        private final double capacity;
+        private final double tokensPerNano;
+        private final long idleNanos;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private RouteLimiter(String routeId, String caller, RateLimitProperties.RouteLimit settings,
+                             MeterRegistry meterRegistry) {
+            if (settings.getCapacity() < 1 || settings.getRefillTokens() < 1 || settings.getRefillPeriod().isZero()) {
+                throw new IllegalArgumentException("Rate limit of route " + routeId
+                        + " needs a positive capacity, refill-tokens and refill-period");
+            }
+            int stripeCount = Integer.highestOneBit(
+                    Math.max(1, STRIPES_PER_PROCESSOR * Runtime.getRuntime().availableProcessors() - 1)) << 1;
+            this.stripes = new Stripe[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe();
+            }
+            this.stripeMask = stripeCount - 1;
+            this.capacity = settings.getCapacity();
+            this.tokensPerNano = (double) settings.getRefillTokens() / settings.getRefillPeriod().toNanos();
+            // Dropping a bucket that is not full yet would hand out extra tokens
+            this.idleNanos = Math.max(settings.getIdleTimeout().toNanos(), (long) Math.ceil(capacity / tokensPerNano));
+
+            this.allowed = counter(meterRegistry, routeId, caller, RESULT_ALLOWED);
+            this.rejected = counter(meterRegistry, routeId, caller, RESULT_REJECTED);
+            Gauge.builder(BUCKETS_METRIC, this, RouteLimiter::bucketCount)
+                    .description("Live rate limit buckets")
+                    .tag(ROUTE_TAG, routeId)
+                    .tag(CALLER_TAG, caller)
+                    .register(meterRegistry);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String routeId, String caller, String result) {
+            return Counter.builder(REQUESTS_METRIC)
+                    .description("Rate limited gateway requests")
+                    .tag(ROUTE_TAG, routeId)
+                    .tag(CALLER_TAG, caller)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Takes one token from the caller's bucket.
+         *
+         * @param key       the caller, e.g. the JWT subject
+         * @param nowNanos  the current {@link System#nanoTime()}
+         * @return {@link #ALLOWED}, or how many nanoseconds remain until the next token is available
+         */
+        public long tryAcquire(String key, long nowNanos) {
+            int hash = key.hashCode();
+            Stripe stripe = stripes[(hash ^ (hash >>> 16)) & stripeMask];
+            long waitNanos;
+            synchronized (stripe) {
+                if (nowNanos - stripe.lastSweepNanos >= idleNanos) {
+                    stripe.buckets.values().removeIf(bucket -> nowNanos - bucket.lastUsedNanos >= idleNanos);
+                    stripe.lastSweepNanos = nowNanos;
+                }
+                Bucket bucket = stripe.buckets.get(key);
+                if (bucket == null) {
+                    bucket = new Bucket(capacity, nowNanos);
+                    stripe.buckets.put(key, bucket);
+                }
+                waitNanos = bucket.tryTake(capacity, tokensPerNano, nowNanos);
+            }
+            (waitNanos == ALLOWED ? allowed : rejected).increment();
+            return waitNanos;
+        }
+
+        private double bucketCount() {
+            long count = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    count += stripe.buckets.size();
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * A lock stripe: the buckets of the keys hashed to it.
+     */
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets = new HashMap<>();
+        private long lastSweepNanos = System.nanoTime();
+    }
+
+    /**
+     * The tokens of one caller; only accessed while holding its stripe's lock.
+     */
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastUsedNanos;
+
+        private Bucket(double tokens, long nowNanos) {
+            this.tokens = tokens;
+            this.lastUsedNanos = nowNanos;
+        }
+
+        private long tryTake(double capacity, double tokensPerNano, long nowNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastUsedNanos) * tokensPerNano);
+            lastUsedNanos = nowNanos;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return ALLOWED;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+    }
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        Map<String, RouteLimiter> limiters = new HashMap<>();
+        properties.getRoutes().forEach((routeId, settings) ->
+                limiters.put(routeId, new RouteLimiter(routeId, CALLER_USER, settings, meterRegistry)));
+        this.routeLimiters = Map.copyOf(limiters);
+
+        Map<String, RouteLimiter> anonymousLimiters = new HashMap<>();
+        properties.getAnonymousRoutes().forEach((routeId, settings) ->
+                anonymousLimiters.put(routeId, new RouteLimiter(routeId, CALLER_ANONYMOUS, settings, meterRegistry)));
+        this.anonymousRouteLimiters = Map.copyOf(anonymousLimiters);
+    }
+
+    /**
+     * Returns the limiter of a route.
+     *
+     * @param routeId the id of the matched route
+     * @return the route's limiter, or {@code null} if the route is not rate limited
+     */
+    public RouteLimiter routeLimiter(String routeId) {
+        return enabled ? routeLimiters.get(routeId) : null;
+    }
+
+    /**
+     * Returns the limiter of a route for callers without a verified token.
+     *
+     * @param routeId the id of the matched route
+     * @return the route's anonymous limiter, else its regular limiter, or {@code null} if the route is not rate limited
+     */
+    public RouteLimiter anonymousRouteLimiter(String routeId) {
+        if (!enabled) {
+            return null;
+        }
+        RouteLimiter limiter = anonymousRouteLimiters.get(routeId);
+        return limiter != null ? limiter : routeLimiters.get(routeId);
+    }
+}
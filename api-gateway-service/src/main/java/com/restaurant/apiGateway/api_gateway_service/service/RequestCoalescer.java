@@ -0,0 +1,203 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.filter.CapturingResponseDecorator;
+import com.restaurant.apiGateway.api_gateway_service.util.RequestCoalescingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight registry for identical in-flight GET requests.
+ *
+ * <p>
+ * The first request for a key (the leader) goes downstream; identical requests arriving before its response
+ * is complete (followers) wait for it and are answered with a copy of the same status, headers and body. Nothing
+ * is kept once the leader's response has been written - this is not a cache, it only collapses concurrent
+ * duplicates.
+ * </p>
+ *
+ * <p>
+ * The key is built by the caller from the route, path, query and the role the gateway forwards to the
+ * downstream service. On user-specific paths the user is part of the key as well, so answers are never shared
+ * between users there. Responses that set cookies or exceed the route's {@code max-body-size} are not shared.
+ * </p>
+ *
+ * <p><b>Metrics:</b> per route, {@code gateway.request.coalescing} counts coalesced requests by {@code result}:
+ * {@code LEADER}, {@code FOLLOWER} (answered with the leader's response) and {@code FALLBACK} (went downstream
+ * itself because the leader's response could not be shared or took longer than {@code max-wait}).</p>
+ */
+@Service
+public class RequestCoalescer {
+
+    // ==================== CONSTANTS ====================
+    public static final String RESULT_LEADER = "LEADER";
+    public static final String RESULT_FOLLOWER = "FOLLOWER";
+    public static final String RESULT_FALLBACK = "FALLBACK";
+
+    private static final String REQUESTS_METRIC = "gateway.request.coalescing";
+    private static final String ROUTE_TAG = "route";
+    private static final String RESULT_TAG = "result";
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Map<String, RouteFlights> routeFlights;
+
+    /**
+     * A downstream response shared with the followers of a request.
+     *
+     * @param status  the response status
+     * @param headers the downstream headers worth replaying
+     * @param body    the complete response body
+     */
+    public record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    /**
+     * How a request on a coalesced route is keyed.
+     */
+    public enum Scope {
+        /** Shared between callers of the same role */
+        ROLE,
+        /** Shared only between requests of the same user */
+        USER
+    }
+
+    /**
+     * The in-flight requests, settings and meters of one route.
+     */
+    public static final class RouteFlights {
+
+        private final String routeId;
+        private final List<PathPattern> paths;
+        private final List<PathPattern> userSpecificPaths;
+        private final RequestCoalescingProperties.RouteCoalescing settings;
+        private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+        private final Map<String, Counter> requestCounters;
+
+        private RouteFlights(String routeId, RequestCoalescingProperties.RouteCoalescing settings,
+                             MeterRegistry meterRegistry) {
+            this.routeId = routeId;
+            this.settings = settings;
+            this.paths = settings.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.userSpecificPaths = settings.getUserSpecificPaths().stream()
+                    .map(PathPatternParser.defaultInstance::parse).toList();
+            Map<String, Counter> counters = new HashMap<>();
+            for (String result : List.of(RESULT_LEADER, RESULT_FOLLOWER, RESULT_FALLBACK)) {
+                counters.put(result, Counter.builder(REQUESTS_METRIC)
+                        .description("Coalesced gateway requests")
+                        .tag(ROUTE_TAG, routeId)
+                        .tag(RESULT_TAG, result)
+                        .register(meterRegistry));
+            }
+            this.requestCounters = Map.copyOf(counters);
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public Duration getMaxWait() {
+            return settings.getMaxWait();
+        }
+
+        public long getMaxBodyBytes() {
+            return settings.getMaxBodySize().toBytes();
+        }
+
+        /**
+         * Registers the caller as the leader of a request.
+         *
+         * @param key  the request key
+         * @param sink the sink that will receive the leader's response
+         * @return {@code null} if the caller leads, or the sink of the identical request already in flight
+         */
+        public Sinks.One<SharedResponse> join(String key, Sinks.One<SharedResponse> sink) {
+            return inFlight.putIfAbsent(key, sink);
+        }
+
+        /**
+         * Releases the followers of a leader; those not answered yet go downstream themselves.
+         */
+        public void complete(String key, Sinks.One<SharedResponse> sink) {
+            inFlight.remove(key, sink);
+            sink.tryEmitEmpty();
+        }
+
+        /**
+         * Builds the response to share with the followers.
+         *
+         * @param status  the downstream status
+         * @param headers the downstream headers
+         * @param body    the complete response body, at most {@link #getMaxBodyBytes()} long
+         * @return the shared response, or {@code null} if it must not be shared
+         */
+        public SharedResponse toSharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+            // 304 and 206 only make sense to the caller whose validators or range produced them
+            if (status == null || status.isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                    || status.isSameCodeAs(HttpStatus.PARTIAL_CONTENT)
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+                return null;
+            }
+            return new SharedResponse(status, CapturingResponseDecorator.replayableHeaders(headers), body);
+        }
+
+        public void count(String result) {
+            requestCounters.get(result).increment();
+        }
+
+        /**
+         * Returns how a request on this route is keyed.
+         *
+         * @param path the request path as seen by the gateway
+         * @return the scope, or {@code null} if requests on this path are not coalesced
+         */
+        public Scope scope(PathContainer path) {
+            for (PathPattern pattern : userSpecificPaths) {
+                if (pattern.matches(path)) {
+                    return Scope.USER;
+                }
+            }
+            for (PathPattern pattern : paths) {
+                if (pattern.matches(path)) {
+                    return Scope.ROLE;
+                }
+            }
+            return null;
+        }
+    }
+
+    public RequestCoalescer(RequestCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        Map<String, RouteFlights> flights = new HashMap<>();
+        properties.getRoutes().forEach((routeId, settings) ->
+                flights.put(routeId, new RouteFlights(routeId, settings, meterRegistry)));
+        this.routeFlights = Map.copyOf(flights);
+    }
+
+    // ---------------------------------------------------------------------
+    // Lookup
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns the in-flight registry responsible for a request.
+     *
+     * @param routeId the id of the matched route
+     * @return the route's registry, or {@code null} if the route is not coalesced
+     */
+    public RouteFlights routeFlights(String routeId) {
+        return enabled ? routeFlights.get(routeId) : null;
+    }
+}
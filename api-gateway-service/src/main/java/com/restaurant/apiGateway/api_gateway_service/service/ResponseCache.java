@@ -0,0 +1,422 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.restaurant.apiGateway.api_gateway_service.filter.CapturingResponseDecorator;
+import com.restaurant.apiGateway.api_gateway_service.util.ResponseCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route-scoped, in-memory cache of complete downstream responses.
+ *
+ * <p>
+ * Only {@code 200} answers to GET requests on the configured routes and paths are stored, with their
+ * body bytes and headers. The downstream's {@code Cache-Control} decides: {@code no-store}, {@code no-cache}
+ * and {@code private} responses and responses that set cookies are never stored, and {@code s-maxage},
+ * {@code max-age} and {@code stale-while-revalidate} override the route's defaults. A stored response is:
+ * </p>
+ * <ul>
+ *   <li><b>fresh</b> until its max age - served from memory</li>
+ *   <li><b>stale</b> for the stale-while-revalidate window after that - still served from memory, while one
+ *       background request revalidates it with {@code If-None-Match}</li>
+ *   <li>expired after that - removed, so the next request goes downstream</li>
+ * </ul>
+ *
+ * <p>
+ * Cached responses are shared by all callers, so only routes whose answers do not depend on the caller
+ * (such as the public active menu) should be configured.
+ * </p>
+ *
+ * <p><b>Metrics:</b> per route, {@code gateway.response.cache.requests} counts lookups by {@code result}
+ * ({@code HIT}, {@code STALE}, {@code MISS}, {@code COALESCED}), {@code gateway.response.cache.revalidations}
+ * counts background revalidations by {@code outcome} ({@code NOT_MODIFIED}, {@code UPDATED},
+ * {@code REMOVED}, {@code FAILED}), and the {@code cache.*} meters with {@code cache=responses.<route id>}
+ * report size, hits and evictions.</p>
+ */
+@Service
+@Slf4j
+public class ResponseCache {
+
+    // ==================== CONSTANTS ====================
+    public static final String RESULT_HIT = "HIT";
+    public static final String RESULT_STALE = "STALE";
+    public static final String RESULT_MISS = "MISS";
+    public static final String RESULT_COALESCED = "COALESCED";
+
+    private static final String OUTCOME_NOT_MODIFIED = "NOT_MODIFIED";
+    private static final String OUTCOME_UPDATED = "UPDATED";
+    private static final String OUTCOME_REMOVED = "REMOVED";
+    private static final String OUTCOME_FAILED = "FAILED";
+
+    private static final String CACHE_NAME_PREFIX = "responses.";
+    private static final String REQUESTS_METRIC = "gateway.response.cache.requests";
+    private static final String REVALIDATIONS_METRIC = "gateway.response.cache.revalidations";
+    private static final String ROUTE_TAG = "route";
+
+    // Cache-Control directives
+    private static final String NO_STORE = "no-store";
+    private static final String NO_CACHE = "no-cache";
+    private static final String PRIVATE = "private";
+    private static final String MAX_AGE = "max-age";
+    private static final String S_MAXAGE = "s-maxage";
+    private static final String STALE_WHILE_REVALIDATE = "stale-while-revalidate";
+
+    // ==================== DEPENDENCIES ====================
+    private final WebClient webClient;
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Map<String, RouteCache> routeCaches;
+
+    /**
+     * A cached downstream response.
+     *
+     * @param headers       the downstream headers worth replaying
+     * @param body          the complete response body
+     * @param eTag          the entity tag, or {@code null} if the downstream sent none
+     * @param upstreamUri   the downstream URI the response came from, used for revalidation
+     * @param storedAtNanos the {@link System#nanoTime()} at which the response was stored or last revalidated
+     * @param freshNanos    how long the response is fresh
+     * @param staleNanos    how long after that the response may still be served while revalidating
+     */
+    public record CachedResponse(HttpHeaders headers, byte[] body, String eTag, URI upstreamUri,
+                                 long storedAtNanos, long freshNanos, long staleNanos) {
+
+        public boolean isFresh(long nowNanos) {
+            return nowNanos - storedAtNanos < freshNanos;
+        }
+
+        public boolean isUsable(long nowNanos) {
+            return nowNanos - storedAtNanos < freshNanos + staleNanos;
+        }
+
+        public long ageSeconds(long nowNanos) {
+            return TimeUnit.NANOSECONDS.toSeconds(nowNanos - storedAtNanos);
+        }
+    }
+
+    /**
+     * The cache, in-flight misses and meters of one route.
+     */
+    public static final class RouteCache {
+
+        private final String routeId;
+        private final List<PathPattern> paths;
+        private final ResponseCacheProperties.RouteCache settings;
+        private final Cache<String, CachedResponse> responses;
+        private final Map<String, Sinks.One<CachedResponse>> misses = new ConcurrentHashMap<>();
+        private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+        private final Map<String, Counter> requestCounters;
+        private final Map<String, Counter> revalidationCounters;
+
+        private RouteCache(String routeId, ResponseCacheProperties.RouteCache settings, MeterRegistry meterRegistry) {
+            this.routeId = routeId;
+            this.settings = settings;
+            this.paths = settings.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.responses = Caffeine.newBuilder()
+                    .maximumSize(settings.getMaximumSize())
+                    .expireAfter(new ExpireWhenUnusable())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME_PREFIX + routeId);
+            this.requestCounters = counters(meterRegistry, REQUESTS_METRIC, "Response cache lookups",
+                    "result", RESULT_HIT, RESULT_STALE, RESULT_MISS, RESULT_COALESCED);
+            this.revalidationCounters = counters(meterRegistry, REVALIDATIONS_METRIC, "Response cache revalidations",
+                    "outcome", OUTCOME_NOT_MODIFIED, OUTCOME_UPDATED, OUTCOME_REMOVED, OUTCOME_FAILED);
+        }
+
+        private Map<String, Counter> counters(MeterRegistry meterRegistry, String name, String description,
+                                              String tag, String... values) {
+            Map<String, Counter> counters = new HashMap<>();
+            for (String value : values) {
+                counters.put(value, Counter.builder(name)
+                        .description(description)
+                        .tag(ROUTE_TAG, routeId)
+                        .tag(tag, value)
+                        .register(meterRegistry));
+            }
+            return Map.copyOf(counters);
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public long getMaxBodyBytes() {
+            return settings.getMaxBodySize().toBytes();
+        }
+
+        public Duration getMaxWait() {
+            return settings.getMaxWait();
+        }
+
+        public CachedResponse get(String key) {
+            return responses.getIfPresent(key);
+        }
+
+        public void put(String key, CachedResponse response) {
+            responses.put(key, response);
+        }
+
+        /**
+         * Registers the caller as the one request that fetches a missing response.
+         *
+         * @param key  the cache key
+         * @param sink the sink that will receive the fetched response
+         * @return {@code null} if the caller leads the fetch, or the sink of the fetch already in flight
+         */
+        public Sinks.One<CachedResponse> joinMiss(String key, Sinks.One<CachedResponse> sink) {
+            return misses.putIfAbsent(key, sink);
+        }
+
+        public void completeMiss(String key, Sinks.One<CachedResponse> sink) {
+            sink.tryEmitEmpty();
+            misses.remove(key, sink);
+        }
+
+        public void count(String result) {
+            requestCounters.get(result).increment();
+        }
+
+        private boolean matches(PathContainer path) {
+            for (PathPattern pattern : paths) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public ResponseCache(ResponseCacheProperties properties,
+                         MeterRegistry meterRegistry,
+                         @Qualifier("responseCacheWebClient") WebClient webClient) {
+        this.webClient = webClient;
+        this.enabled = properties.isEnabled();
+        Map<String, RouteCache> caches = new HashMap<>();
+        properties.getRoutes().forEach((routeId, settings) ->
+                caches.put(routeId, new RouteCache(routeId, settings, meterRegistry)));
+        this.routeCaches = Map.copyOf(caches);
+    }
+
+    // ---------------------------------------------------------------------
+    // Lookup
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns the cache responsible for a request.
+     *
+     * @param routeId the id of the matched route
+     * @param path    the request path as seen by the gateway
+     * @return the route's cache, or {@code null} if responses to this request are not cached
+     */
+    public RouteCache routeCache(String routeId, PathContainer path) {
+        if (!enabled) {
+            return null;
+        }
+        RouteCache routeCache = routeCaches.get(routeId);
+        return routeCache != null && routeCache.matches(path) ? routeCache : null;
+    }
+
+    /**
+     * Builds the cache entry for a {@code 200} downstream response.
+     *
+     * @param routeCache  the route's cache
+     * @param headers     the downstream response headers
+     * @param body        the complete response body
+     * @param upstreamUri the downstream URI
+     * @return the entry, or {@code null} if the response must not be cached
+     */
+    public CachedResponse toCachedResponse(RouteCache routeCache, HttpHeaders headers, byte[] body, URI upstreamUri) {
+        if (body.length > routeCache.getMaxBodyBytes() || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return null;
+        }
+        Map<String, String> directives = cacheControl(headers);
+        if (directives.containsKey(NO_STORE) || directives.containsKey(NO_CACHE) || directives.containsKey(PRIVATE)) {
+            return null;
+        }
+
+        return new CachedResponse(CapturingResponseDecorator.replayableHeaders(headers), body, headers.getETag(), upstreamUri,
+                System.nanoTime(), freshNanos(routeCache, directives), staleNanos(routeCache, directives));
+    }
+
+    // ---------------------------------------------------------------------
+    // Revalidation
+    // ---------------------------------------------------------------------
+
+    /**
+     * Revalidates a stale response in the background, unless a revalidation of the same key is already running.
+     *
+     * <p>
+     * A {@code 304} answer renews the entry, a {@code 200} answer replaces it, and a {@code 4xx} answer removes
+     * it. Other failures leave it in place, so it keeps being served until it expires.
+     * </p>
+     *
+     * @param routeCache the route's cache
+     * @param key        the cache key
+     * @param stale      the stale entry
+     */
+    public void revalidate(RouteCache routeCache, String key, CachedResponse stale) {
+        if (!routeCache.revalidating.add(key)) {
+            return;
+        }
+        webClient.get()
+                .uri(stale.upstreamUri())
+                .headers(headers -> {
+                    if (stale.eTag() != null) {
+                        headers.setIfNoneMatch(stale.eTag());
+                    }
+                })
+                .exchangeToMono(response -> handleRevalidation(routeCache, key, stale, response))
+                .timeout(routeCache.settings.getRevalidationTimeout())
+                .doFinally(signal -> routeCache.revalidating.remove(key))
+                .subscribe(
+                        outcome -> routeCache.revalidationCounters.get(outcome).increment(),
+                        e -> {
+                            log.debug("Revalidation of {} failed: {}", stale.upstreamUri(), e.getMessage());
+                            routeCache.revalidationCounters.get(OUTCOME_FAILED).increment();
+                        });
+    }
+
+    private Mono<String> handleRevalidation(RouteCache routeCache, String key, CachedResponse stale, ClientResponse response) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            Map<String, String> directives = cacheControl(headers);
+            routeCache.put(key, new CachedResponse(stale.headers(), stale.body(), stale.eTag(), stale.upstreamUri(),
+                    System.nanoTime(), freshNanos(routeCache, directives), staleNanos(routeCache, directives)));
+            return response.releaseBody().thenReturn(OUTCOME_NOT_MODIFIED);
+        }
+        if (response.statusCode().value() == HttpStatus.OK.value()) {
+            int maxBodyBytes = (int) Math.min(Integer.MAX_VALUE, routeCache.getMaxBodyBytes());
+            return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()), maxBodyBytes)
+                    .map(buffer -> {
+                        byte[] body = new byte[buffer.readableByteCount()];
+                        buffer.read(body);
+                        DataBufferUtils.release(buffer);
+                        return body;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .map(body -> {
+                        CachedResponse updated = toCachedResponse(routeCache, headers, body, stale.upstreamUri());
+                        if (updated == null) {
+                            routeCache.responses.invalidate(key);
+                            return OUTCOME_REMOVED;
+                        }
+                        routeCache.put(key, updated);
+                        return OUTCOME_UPDATED;
+                    })
+                    .onErrorResume(DataBufferLimitException.class, e -> {
+                        // The new version is too large to cache, so the old one must not be served either
+                        routeCache.responses.invalidate(key);
+                        return Mono.just(OUTCOME_REMOVED);
+                    });
+        }
+        if (response.statusCode().is4xxClientError()) {
+            routeCache.responses.invalidate(key);
+            return response.releaseBody().thenReturn(OUTCOME_REMOVED);
+        }
+        return response.releaseBody().thenReturn(OUTCOME_FAILED);
+    }
+
+    // ---------------------------------------------------------------------
+    // Helper Methods
+    // ---------------------------------------------------------------------
+
+    /**
+     * Parses the {@code Cache-Control} header into lower-case directive names and their (possibly empty) values.
+     */
+    private static Map<String, String> cacheControl(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null || cacheControl.isBlank()) {
+            return Map.of();
+        }
+        Map<String, String> directives = new HashMap<>();
+        for (String directive : cacheControl.split(",")) {
+            int equals = directive.indexOf('=');
+            String name = (equals < 0 ? directive : directive.substring(0, equals)).trim().toLowerCase(Locale.ROOT);
+            String value = equals < 0 ? "" : directive.substring(equals + 1).trim().replace("\"", "");
+            if (!name.isEmpty()) {
+                directives.put(name, value);
+            }
+        }
+        return directives;
+    }
+
+    private static long freshNanos(RouteCache routeCache, Map<String, String> directives) {
+        long seconds = seconds(directives.get(S_MAXAGE));
+        if (seconds < 0) {
+            seconds = seconds(directives.get(MAX_AGE));
+        }
+        return seconds < 0 ? routeCache.settings.getTtl().toNanos() : TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private static long staleNanos(RouteCache routeCache, Map<String, String> directives) {
+        long seconds = seconds(directives.get(STALE_WHILE_REVALIDATE));
+        return seconds < 0 ? routeCache.settings.getStaleWhileRevalidate().toNanos() : TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    /**
+     * Parses a delta-seconds directive value.
+     *
+     * @return the number of seconds, or {@code -1} if the value is missing or malformed
+     */
+    private static long seconds(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Removes each entry once it can no longer be served, i.e. at the end of its stale-while-revalidate window.
+     */
+    private static final class ExpireWhenUnusable implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return response.freshNanos() + response.staleNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
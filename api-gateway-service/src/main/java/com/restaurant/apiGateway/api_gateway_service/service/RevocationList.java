@@ -0,0 +1,166 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.dto.RevocationsResponse;
+import com.restaurant.apiGateway.api_gateway_service.util.RevocationSyncProperties;
+import com.restaurant.common.collection.LongLongHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local, periodically synced copy of the Authentication Service's token revocation registry.
+ *
+ * <p>
+ * The copy maps user ids to the minimum token security version still accepted, so a token's
+ * {@code uid}/{@code sv} claims are checked with one in-memory lookup. The map is replaced, never
+ * modified, on each sync and published through a {@code volatile} field, so lookups take no lock.
+ * </p>
+ *
+ * <p>
+ * The copy is exact: a token is rejected if and only if the registry had revoked it at the time of
+ * the last sync. {@link #isFresh()} reports whether that sync is recent enough to rely on; callers
+ * must fall back to a remote check otherwise.
+ * </p>
+ *
+ * <p><b>Metrics:</b> {@code auth.revocations.entries} (entries held) and {@code auth.revocations.age}
+ * (seconds since the last successful sync).</p>
+ */
+@Service
+@Slf4j
+public class RevocationList {
+
+    // ==================== CONSTANTS ====================
+    private static final String REVOCATIONS_PATH = "/auth/revocations";
+    private static final String ENTRIES_GAUGE = "auth.revocations.entries";
+    private static final String AGE_GAUGE = "auth.revocations.age";
+
+    // ==================== DEPENDENCIES ====================
+    private final WebClient authServiceWebClient;
+    private final RevocationSyncProperties properties;
+
+    // ==================== STATE ====================
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private Disposable subscription;
+
+    /**
+     * Immutable state of the local copy.
+     *
+     * @param minVersions    user id to minimum accepted security version
+     * @param epoch          epoch of the registry the copy was synced from
+     * @param sequence       sequence of the last applied change
+     * @param syncedAtNanos  {@link System#nanoTime()} when the last successful sync was started, or 0 if never
+     */
+    private record Snapshot(LongLongHashMap minVersions, long epoch, long sequence, long syncedAtNanos) {
+        static final Snapshot EMPTY = new Snapshot(new LongLongHashMap(0), 0, 0, 0);
+    }
+
+    public RevocationList(WebClient authServiceWebClient, RevocationSyncProperties properties, MeterRegistry meterRegistry) {
+        this.authServiceWebClient = authServiceWebClient;
+        this.properties = properties;
+        Gauge.builder(ENTRIES_GAUGE, this, list -> list.snapshot.minVersions().size()).register(meterRegistry);
+        Gauge.builder(AGE_GAUGE, this, RevocationList::ageSeconds).baseUnit("seconds").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        subscription = Flux.interval(Duration.ZERO, properties.getInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> sync(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Lookup
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns whether the local copy is recent enough to decide on revocation without the
+     * Authentication Service.
+     */
+    public boolean isFresh() {
+        long syncedAtNanos = snapshot.syncedAtNanos();
+        return properties.isEnabled()
+                && syncedAtNanos != 0
+                && System.nanoTime() - syncedAtNanos <= properties.getMaxStaleness().toNanos();
+    }
+
+    /**
+     * Returns whether a token with the given claims has been revoked.
+     *
+     * @param userId          the token's {@code uid} claim
+     * @param securityVersion the token's {@code sv} claim
+     * @return {@code true} if the token's security version is below the user's minimum
+     */
+    public boolean isRevoked(long userId, long securityVersion) {
+        return securityVersion < snapshot.minVersions().get(userId, 0);
+    }
+
+    // ---------------------------------------------------------------------
+    // Sync
+    // ---------------------------------------------------------------------
+
+    /**
+     * Fetches the changes since the last sync and publishes the updated copy.
+     *
+     * @return a {@link Mono} that completes when the sync is done; failures are logged and swallowed
+     */
+    private Mono<Void> sync() {
+        Snapshot current = snapshot;
+        long startedAtNanos = System.nanoTime();
+        return authServiceWebClient.get()
+                .uri(uri -> uri.path(REVOCATIONS_PATH)
+                        .queryParam("since", current.sequence())
+                        .queryParam("epoch", current.epoch())
+                        .build())
+                .retrieve()
+                .bodyToMono(RevocationsResponse.class)
+                .doOnNext(response -> snapshot = apply(current, response, startedAtNanos))
+                .onErrorResume(e -> {
+                    log.warn("Revocation sync failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Snapshot apply(Snapshot current, RevocationsResponse response, long startedAtNanos) {
+        long[] userIds = response.getUserIds();
+        long[] minVersions = response.getMinVersions();
+        if (!response.isFull() && userIds.length == 0) {
+            return new Snapshot(current.minVersions(), current.epoch(), current.sequence(), startedAtNanos);
+        }
+
+        LongLongHashMap updated = response.isFull() ? new LongLongHashMap(userIds.length) : current.minVersions().copy();
+        for (int i = 0; i < userIds.length; i++) {
+            updated.putMax(userIds[i], minVersions[i]);
+        }
+        if (response.isFull()) {
+            log.info("Revocation list resynced with {} entries", updated.size());
+        }
+        return new Snapshot(updated, response.getEpoch(), response.getSequence(), startedAtNanos);
+    }
+
+    private double ageSeconds() {
+        long syncedAtNanos = snapshot.syncedAtNanos();
+        return syncedAtNanos == 0 ? Double.NaN : (double) (System.nanoTime() - syncedAtNanos) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,353 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.util.CircuitBreakerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker and bulkhead per downstream route.
+ *
+ * <p>
+ * The circuit of a route is:
+ * </p>
+ * <ul>
+ *   <li><b>closed</b> - calls go through, and the outcomes of the last {@code window-size} calls are kept;
+ *       once at least {@code minimum-calls} are known and the failure or slow-call rate reaches its threshold,
+ *       the circuit opens</li>
+ *   <li><b>open</b> - calls fail fast for {@code open-duration}, without touching the downstream service</li>
+ *   <li><b>half-open</b> - {@code half-open-calls} trial calls go through; if their rates stay below the
+ *       thresholds the circuit closes with an empty window, otherwise it opens again</li>
+ * </ul>
+ *
+ * <p>
+ * Independently of the circuit, the bulkhead rejects calls while {@code max-concurrent-calls} are in flight,
+ * so a stalled service cannot tie up the gateway's connections and memory and slow down the other routes.
+ * Deciding whether a call may go through reads one volatile field and updates one or two atomic counters;
+ * only recording an outcome takes the breaker's lock.
+ * </p>
+ *
+ * <p><b>Metrics:</b> per route, {@code gateway.circuit.breaker.state} reports the state ({@code 0} closed,
+ * {@code 1} open, {@code 2} half-open), {@code gateway.circuit.breaker.transitions} counts state changes by
+ * {@code from} and {@code to}, {@code gateway.circuit.breaker.rejected} counts fast-failed calls by
+ * {@code reason} ({@code CIRCUIT_OPEN}, {@code BULKHEAD_FULL}) and {@code gateway.bulkhead.in.flight} reports
+ * the calls in flight.</p>
+ */
+@Service
+@Slf4j
+public class RouteCircuitBreakers {
+
+    // ==================== CONSTANTS ====================
+    private static final String STATE_METRIC = "gateway.circuit.breaker.state";
+    private static final String TRANSITIONS_METRIC = "gateway.circuit.breaker.transitions";
+    private static final String REJECTED_METRIC = "gateway.circuit.breaker.rejected";
+    private static final String IN_FLIGHT_METRIC = "gateway.bulkhead.in.flight";
+    private static final String ROUTE_TAG = "route";
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Map<String, Breaker> breakers;
+
+    /**
+     * The state of a circuit; the ordinal is the value of the state gauge.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Whether a call may go to the downstream service.
+     */
+    public enum Decision {
+        /** The call goes through */
+        PERMITTED,
+        /** The call goes through as one of the half-open trial calls */
+        TRIAL,
+        /** Rejected: the circuit is open, or all trial calls are taken */
+        CIRCUIT_OPEN,
+        /** Rejected: the bulkhead is full */
+        BULKHEAD_FULL;
+
+        public boolean isPermitted() {
+            return this == PERMITTED || this == TRIAL;
+        }
+    }
+
+    /**
+     * The circuit breaker and bulkhead of one route.
+     */
+    public static final class Breaker {
+
+        private final String routeId;
+        private final int failureRateThreshold;
+        private final int slowCallRateThreshold;
+        private final long slowCallNanos;
+        private final int minimumCalls;
+        private final long openNanos;
+        private final int halfOpenCalls;
+        private final int maxConcurrentCalls;
+
+        private volatile State state = State.CLOSED;
+        private volatile long openUntilNanos;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger trialPermits = new AtomicInteger();
+
+        // Sliding window of call outcomes (FAILED and SLOW bits), guarded by this
+        private final byte[] window;
+        private int next;
+        private int recorded;
+        private int failures;
+        private int slowCalls;
+
+        // Trial call outcomes while half-open, guarded by this
+        private int trialCalls;
+        private int trialFailures;
+        private int trialSlowCalls;
+
+        private final Map<State, Map<State, Counter>> transitions = new EnumMap<>(State.class);
+        private final Counter rejectedOpen;
+        private final Counter rejectedFull;
+
+        private Breaker(String routeId, CircuitBreakerProperties.RouteBreaker settings, MeterRegistry meterRegistry) {
+            if (settings.getWindowSize() < 1 || settings.getHalfOpenCalls() < 1 || settings.getMaxConcurrentCalls() < 1) {
+                throw new IllegalArgumentException("Circuit breaker of route " + routeId
+                        + " needs a positive window-size, half-open-calls and max-concurrent-calls");
+            }
+            this.routeId = routeId;
+            this.failureRateThreshold = settings.getFailureRateThreshold();
+            this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+            this.slowCallNanos = settings.getSlowCallDuration().toNanos();
+            this.minimumCalls = Math.min(Math.max(1, settings.getMinimumCalls()), settings.getWindowSize());
+            this.openNanos = settings.getOpenDuration().toNanos();
+            this.halfOpenCalls = settings.getHalfOpenCalls();
+            this.maxConcurrentCalls = settings.getMaxConcurrentCalls();
+            this.window = new byte[settings.getWindowSize()];
+
+            Gauge.builder(STATE_METRIC, this, breaker -> breaker.state.ordinal())
+                    .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                    .tag(ROUTE_TAG, routeId)
+                    .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get)
+                    .description("Calls in flight through the bulkhead")
+                    .tag(ROUTE_TAG, routeId)
+                    .register(meterRegistry);
+            registerTransition(meterRegistry, State.CLOSED, State.OPEN);
+            registerTransition(meterRegistry, State.OPEN, State.HALF_OPEN);
+            registerTransition(meterRegistry, State.HALF_OPEN, State.OPEN);
+            registerTransition(meterRegistry, State.HALF_OPEN, State.CLOSED);
+            this.rejectedOpen = rejectedCounter(meterRegistry, Decision.CIRCUIT_OPEN);
+            this.rejectedFull = rejectedCounter(meterRegistry, Decision.BULKHEAD_FULL);
+        }
+
+        private void registerTransition(MeterRegistry meterRegistry, State from, State to) {
+            transitions.computeIfAbsent(from, state -> new EnumMap<>(State.class))
+                    .put(to, Counter.builder(TRANSITIONS_METRIC)
+                            .description("Circuit breaker state transitions")
+                            .tag(ROUTE_TAG, routeId)
+                            .tag("from", from.name())
+                            .tag("to", to.name())
+                            .register(meterRegistry));
+        }
+
+        private Counter rejectedCounter(MeterRegistry meterRegistry, Decision reason) {
+            return Counter.builder(REJECTED_METRIC)
+                    .description("Calls failed fast by the circuit breaker or bulkhead")
+                    .tag(ROUTE_TAG, routeId)
+                    .tag("reason", reason.name())
+                    .register(meterRegistry);
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        // ---------------------------------------------------------------------
+        // Calls
+        // ---------------------------------------------------------------------
+
+        /**
+         * Decides whether a call may go through. Every permitted call must be completed with
+         * {@link #onComplete} or {@link #onCancel}.
+         *
+         * @param nowNanos the current {@link System#nanoTime()}
+         * @return the decision
+         */
+        public Decision tryAcquire(long nowNanos) {
+            State current = state;
+            if (current == State.OPEN) {
+                if (nowNanos - openUntilNanos < 0) {
+                    rejectedOpen.increment();
+                    return Decision.CIRCUIT_OPEN;
+                }
+                halfOpen(nowNanos);
+                current = state;
+            }
+
+            Decision decision = Decision.PERMITTED;
+            if (current != State.CLOSED) {
+                // Never below zero, so a cancelled trial call always hands its permit back
+                if (current == State.OPEN || trialPermits.getAndUpdate(permits -> permits > 0 ? permits - 1 : 0) <= 0) {
+                    rejectedOpen.increment();
+                    return Decision.CIRCUIT_OPEN;
+                }
+                decision = Decision.TRIAL;
+            }
+
+            if (inFlight.incrementAndGet() > maxConcurrentCalls) {
+                inFlight.decrementAndGet();
+                if (decision == Decision.TRIAL) {
+                    trialPermits.incrementAndGet();
+                }
+                rejectedFull.increment();
+                return Decision.BULKHEAD_FULL;
+            }
+            return decision;
+        }
+
+        /**
+         * Records the outcome of a permitted call and releases its bulkhead slot.
+         *
+         * @param decision      the decision the call was permitted with
+         * @param durationNanos how long the call took
+         * @param failed        whether the call failed or the downstream answered with {@code 5xx}
+         */
+        public void onComplete(Decision decision, long durationNanos, boolean failed) {
+            inFlight.decrementAndGet();
+            byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallNanos ? SLOW : 0));
+            record(decision == Decision.TRIAL, outcome, System.nanoTime());
+        }
+
+        /**
+         * Releases the bulkhead slot of a permitted call that was cancelled, without recording an outcome.
+         *
+         * @param decision the decision the call was permitted with
+         */
+        public void onCancel(Decision decision) {
+            inFlight.decrementAndGet();
+            if (decision == Decision.TRIAL) {
+                trialPermits.incrementAndGet();
+            }
+        }
+
+        /**
+         * Returns how long the circuit stays open.
+         *
+         * @param nowNanos the current {@link System#nanoTime()}
+         * @return the remaining open time in nanoseconds, or {@code 0} if it may let trial calls through now
+         */
+        public long remainingOpenNanos(long nowNanos) {
+            return state == State.OPEN ? Math.max(0, openUntilNanos - nowNanos) : 0;
+        }
+
+        // ---------------------------------------------------------------------
+        // State Machine
+        // ---------------------------------------------------------------------
+
+        private synchronized void record(boolean trial, byte outcome, long nowNanos) {
+            if (trial) {
+                if (state != State.HALF_OPEN) {
+                    return;
+                }
+                trialCalls++;
+                trialFailures += outcome & FAILED;
+                trialSlowCalls += (outcome & SLOW) >> 1;
+                if (trialCalls >= halfOpenCalls) {
+                    if (exceedsThresholds(trialFailures, trialSlowCalls, trialCalls)) {
+                        open(nowNanos);
+                    } else {
+                        resetWindow();
+                        transition(State.CLOSED);
+                    }
+                }
+                return;
+            }
+            // Calls started before the circuit opened no longer count
+            if (state != State.CLOSED) {
+                return;
+            }
+
+            if (recorded == window.length) {
+                byte evicted = window[next];
+                failures -= evicted & FAILED;
+                slowCalls -= (evicted & SLOW) >> 1;
+            } else {
+                recorded++;
+            }
+            window[next] = outcome;
+            next = (next + 1) % window.length;
+            failures += outcome & FAILED;
+            slowCalls += (outcome & SLOW) >> 1;
+
+            if (recorded >= minimumCalls && exceedsThresholds(failures, slowCalls, recorded)) {
+                open(nowNanos);
+            }
+        }
+
+        private boolean exceedsThresholds(int failed, int slow, int calls) {
+            return failed * 100 >= failureRateThreshold * calls || slow * 100 >= slowCallRateThreshold * calls;
+        }
+
+        private synchronized void halfOpen(long nowNanos) {
+            if (state == State.OPEN && nowNanos - openUntilNanos >= 0) {
+                trialCalls = 0;
+                trialFailures = 0;
+                trialSlowCalls = 0;
+                trialPermits.set(halfOpenCalls);
+                transition(State.HALF_OPEN);
+            }
+        }
+
+        private void open(long nowNanos) {
+            openUntilNanos = nowNanos + openNanos;
+            transition(State.OPEN);
+        }
+
+        private void resetWindow() {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+
+        private void transition(State to) {
+            State from = state;
+            state = to;
+            transitions.get(from).get(to).increment();
+            if (to == State.OPEN) {
+                log.warn("Circuit of route {} opened for {} ms ({} -> {})",
+                        routeId, TimeUnit.NANOSECONDS.toMillis(openNanos), from, to);
+            } else {
+                log.info("Circuit of route {} changed from {} to {}", routeId, from, to);
+            }
+        }
+    }
+
+    public RouteCircuitBreakers(CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        Map<String, Breaker> routeBreakers = new HashMap<>();
+        properties.getRoutes().forEach((routeId, settings) ->
+                routeBreakers.put(routeId, new Breaker(routeId, settings, meterRegistry)));
+        this.breakers = Map.copyOf(routeBreakers);
+    }
+
+    /**
+     * Returns the circuit breaker of a route.
+     *
+     * @param routeId the id of the matched route
+     * @return the route's breaker, or {@code null} if the route is not protected
+     */
+    public Breaker breaker(String routeId) {
+        return enabled ? breakers.get(routeId) : null;
+    }
+}
@@ -0,0 +1,193 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.dto.BatchTokenValidationRequest;
+import com.restaurant.apiGateway.api_gateway_service.dto.BatchTokenValidationResponse;
+import com.restaurant.apiGateway.api_gateway_service.dto.TokenValidationRequest;
+import com.restaurant.apiGateway.api_gateway_service.dto.TokenValidationResult;
+import com.restaurant.apiGateway.api_gateway_service.exception.TokenValidationException;
+import com.restaurant.apiGateway.api_gateway_service.util.TokenValidationBatchProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Micro-batching client for the Authentication Service's batch token validation endpoint.
+ *
+ * <p>
+ * Token checks that miss the {@link PasswordTimestampCache} are queued and flushed together
+ * when either {@code maxSize} checks are pending or the {@code window} elapses, whichever comes first.
+ * Identical (email, issuedAt) pairs within a batch are sent once and the verdict is fanned out to
+ * every waiting request.
+ * </p>
+ *
+ * <p>
+ * A failed batch call fails every check in that batch with a {@link TokenValidationException}, and so does a
+ * check that gets no verdict within {@code timeout}. Should the batching pipeline itself fail, every pending
+ * check is failed and a new pipeline is started, so later checks never wait on a dead one.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenValidationBatcher {
+
+    // ==================== CONSTANTS ====================
+    // Error Messages
+    private static final String AUTH_SERVICE_ERROR_MSG = "Authentication service returned status %s";
+    private static final String AUTH_SERVICE_UNREACHABLE_MSG = "Token validation failed: %s";
+    private static final String RESULT_COUNT_MISMATCH_MSG = "Expected %d token validation results but received %d";
+    private static final String VALIDATION_TIMEOUT_MSG = "Token validation timed out after %d ms";
+    private static final String BATCHING_FAILED_MSG = "Token validation batching failed: %s";
+
+    // URL Paths
+    private static final String BATCH_VALIDATION_PATH = "/auth/validateTokenTimestamps";
+
+    // ==================== DEPENDENCIES ====================
+    private final WebClient authServiceWebClient;
+    private final TokenValidationBatchProperties properties;
+
+    // ==================== STATE ====================
+    // FluxSink serializes concurrent next() calls from different event-loop threads
+    private volatile FluxSink<PendingValidation> pending;
+    private volatile Disposable subscription;
+    private volatile boolean stopped;
+    // Checks queued or in a batch call, failed together if the pipeline dies
+    private final Set<PendingValidation> outstanding = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled() || stopped) {
+            return;
+        }
+        // The fair variant only requests what flatMap can take, and Flux.create buffers the rest, so a burst
+        // beyond maxConcurrentBatches in-flight calls waits instead of overflowing
+        subscription = Flux.<PendingValidation>create(sink -> pending = sink)
+                .bufferTimeout(properties.getMaxSize(), properties.getWindow(), true)
+                .flatMap(this::flush, properties.getMaxConcurrentBatches())
+                .subscribe(null, this::restart);
+    }
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Fails every pending check and starts a new pipeline after the current one failed.
+     */
+    private void restart(Throwable error) {
+        log.error("Token validation batching failed, restarting", error);
+        List<PendingValidation> stranded = List.copyOf(outstanding);
+        start();
+        TokenValidationException failure = new TokenValidationException(String.format(BATCHING_FAILED_MSG, error.getMessage()));
+        for (PendingValidation validation : stranded) {
+            validation.result().tryEmitError(failure);
+        }
+    }
+
+    /**
+     * Returns whether checks should go through this batcher.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Queues a token timestamp check for the next batch.
+     *
+     * @param email    the user's email (JWT subject)
+     * @param issuedAt the token's {@code issuedAt} timestamp
+     * @return a {@link Mono} emitting the verdict for this token once its batch completes
+     */
+    public Mono<TokenValidationResult> validate(String email, Instant issuedAt) {
+        return Mono.defer(() -> {
+            PendingValidation validation = new PendingValidation(new TokenValidationRequest(email, issuedAt), Sinks.one());
+            outstanding.add(validation);
+            pending.next(validation);
+            return validation.result().asMono()
+                    .timeout(properties.getTimeout(), Mono.error(() -> new TokenValidationException(
+                            String.format(VALIDATION_TIMEOUT_MSG, properties.getTimeout().toMillis()))))
+                    .doFinally(signal -> outstanding.remove(validation));
+        });
+    }
+
+    /**
+     * Sends one batch to the Authentication Service and completes every waiting check.
+     *
+     * @param batch the pending checks collected for this batch
+     * @return a {@link Mono} that completes when every check has been answered; it never errors
+     */
+    private Mono<Void> flush(List<PendingValidation> batch) {
+        Map<TokenValidationRequest, List<Sinks.One<TokenValidationResult>>> waiters = new LinkedHashMap<>();
+        for (PendingValidation validation : batch) {
+            waiters.computeIfAbsent(validation.request(), key -> new ArrayList<>(1)).add(validation.result());
+        }
+        List<TokenValidationRequest> tokens = new ArrayList<>(waiters.keySet());
+
+        return authServiceWebClient.post()
+                .uri(BATCH_VALIDATION_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BatchTokenValidationRequest(tokens))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> Mono.just(
+                        new TokenValidationException(String.format(AUTH_SERVICE_ERROR_MSG, response.statusCode().value()))))
+                .bodyToMono(BatchTokenValidationResponse.class)
+                .doOnNext(response -> complete(tokens, waiters, response.getResults()))
+                .onErrorResume(e -> {
+                    TokenValidationException error = e instanceof TokenValidationException tve
+                            ? tve
+                            : new TokenValidationException(String.format(AUTH_SERVICE_UNREACHABLE_MSG, e.getMessage()));
+                    log.debug("Token validation batch of {} failed: {}", tokens.size(), error.getMessage());
+                    waiters.values().forEach(sinks -> sinks.forEach(sink -> sink.tryEmitError(error)));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Hands each verdict to every request waiting on the same (email, issuedAt) pair.
+     *
+     * @param tokens  the distinct tokens sent, in request order
+     * @param waiters the waiting requests per token
+     * @param results the verdicts returned, in request order
+     */
+    private void complete(List<TokenValidationRequest> tokens,
+                          Map<TokenValidationRequest, List<Sinks.One<TokenValidationResult>>> waiters,
+                          List<TokenValidationResult> results) {
+        if (results == null || results.size() != tokens.size()) {
+            throw new TokenValidationException(String.format(
+                    RESULT_COUNT_MISMATCH_MSG, tokens.size(), results == null ? 0 : results.size()));
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            TokenValidationResult result = results.get(i);
+            waiters.get(tokens.get(i)).forEach(sink -> sink.tryEmitValue(result));
+        }
+    }
+
+    /**
+     * A queued token check together with the sink that receives its verdict.
+     */
+    private record PendingValidation(TokenValidationRequest request, Sinks.One<TokenValidationResult> result) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.restaurant.apiGateway.api_gateway_service.util.VerifiedTokenCacheProperties;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, concurrent in-memory cache mapping a digest of a raw JWT token to its verified {@link Claims}.
+ *
+ * <p>
+ * Clients such as waiter tablets send the same token on every request. Caching the outcome of signature
+ * verification lets the gateway skip HMAC verification and JSON parsing for repeat tokens. Keys are SHA-256
+ * digests, so raw tokens are never held in memory, and every entry expires no later than the token's
+ * {@code exp} claim.
+ * </p>
+ *
+ * <p><b>Metrics:</b> hit, miss and eviction counters are published under the {@code cache.*} meters with the
+ * tag {@code cache=verifiedTokens}.</p>
+ */
+@Service
+public class VerifiedTokenCache {
+
+    // ==================== CONSTANTS ====================
+    private static final String CACHE_NAME = "verifiedTokens";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(VerifiedTokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new ExpireAtTokenExpiry(properties.getMaxTtl().toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the verified claims for the given token.
+     *
+     * @param token the raw JWT token
+     * @return the cached claims, or {@code null} on a miss, an expired entry or when the cache is disabled
+     */
+    public Claims get(String token) {
+        return enabled ? cache.getIfPresent(digest(token)) : null;
+    }
+
+    /**
+     * Stores the claims of a token whose signature and expiration were just verified.
+     *
+     * @param token  the raw JWT token
+     * @param claims the verified claims
+     */
+    public void put(String token, Claims claims) {
+        if (enabled) {
+            cache.put(digest(token), claims);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 digest of the token, Base64 encoded.
+     *
+     * @param token the raw JWT token
+     * @return the digest used as cache key
+     */
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Expires each entry at the token's {@code exp} claim, capped by the configured maximum TTL.
+     */
+    private static final class ExpireAtTokenExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private ExpireAtTokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long untilExpiration = TimeUnit.MILLISECONDS.toNanos(
+                    claims.getExpiration().getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(untilExpiration, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
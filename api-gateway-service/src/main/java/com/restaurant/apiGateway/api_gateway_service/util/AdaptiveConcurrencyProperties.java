@@ -0,0 +1,100 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the gateway's adaptive concurrency limits.
+ * <p>
+ * This class binds the settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code adaptive-concurrency}.
+ * Only the routes listed under {@code routes}, keyed by route id, are limited. Each route starts at
+ * {@code initial-limit} concurrent calls and moves between {@code min-limit} and {@code max-limit} as the
+ * downstream latency changes.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * adaptive-concurrency:
+ *   enabled: true
+ *   routes:
+ *     table-order-service:
+ *       initial-limit: 20
+ *       min-limit: 5
+ *       max-limit: 100
+ *       rtt-tolerance: 1.5
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "adaptive-concurrency")
+@Data
+public class AdaptiveConcurrencyProperties {
+
+    /**
+     * Whether the configured routes are limited.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Adaptive limit settings per route id.
+     */
+    private Map<String, RouteConcurrency> routes = new LinkedHashMap<>();
+
+    /**
+     * Adaptive limit settings of one route.
+     */
+    @Data
+    public static class RouteConcurrency {
+
+        /**
+         * Concurrency limit until the first latency samples are in.
+         */
+        private int initialLimit = 20;
+
+        /**
+         * The limit never drops below this.
+         */
+        private int minLimit = 5;
+
+        /**
+         * The limit never grows above this; keep it at or below the route's bulkhead.
+         */
+        private int maxLimit = 100;
+
+        /**
+         * How much slower than its long-term average the downstream may answer before the limit shrinks,
+         * e.g. {@code 1.5} tolerates 50% more latency.
+         */
+        private double rttTolerance = 1.5;
+
+        /**
+         * Share of each new estimate applied to the limit, between {@code 0} (never changes) and {@code 1}.
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * Number of windows the long-term latency average spans.
+         */
+        private int longWindow = 600;
+
+        /**
+         * Minimum number of calls per window.
+         */
+        private int windowSize = 10;
+
+        /**
+         * Minimum duration of a window.
+         */
+        private Duration minWindow = Duration.ofMillis(250);
+
+        /**
+         * Factor the limit is multiplied by after a window with failed calls (errors and timeouts).
+         */
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,50 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the reactive HTTP client used to call the Authentication Service.
+ * <p>
+ * This class binds connection pool and timeout settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code auth.client}.
+ * </p>
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.client")
+@Data
+public class AuthClientProperties {
+
+    /**
+     * Maximum time allowed to establish a TCP connection to the Authentication Service.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time to wait for the Authentication Service to respond to a single request.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(3);
+
+    /**
+     * Maximum number of pooled connections kept open to the Authentication Service.
+     */
+    private int maxConnections = 200;
+
+    /**
+     * Maximum number of requests allowed to wait for a free pooled connection.
+     */
+    private int pendingAcquireMaxCount = 1000;
+
+    /**
+     * Maximum time a request may wait for a free pooled connection.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time after which an idle pooled connection is closed.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+}
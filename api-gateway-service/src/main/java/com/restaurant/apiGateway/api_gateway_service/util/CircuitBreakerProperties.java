@@ -0,0 +1,95 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the gateway's per-route circuit breakers and bulkheads.
+ * <p>
+ * This class binds the settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code circuit-breaker}.
+ * Only the routes listed under {@code routes}, keyed by route id, are protected. The circuit opens when,
+ * over the last {@code window-size} calls, the share of failed or of slow calls reaches its threshold; the
+ * bulkhead caps the number of calls in flight to the route at any time.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * circuit-breaker:
+ *   enabled: true
+ *   routes:
+ *     table-order-service:
+ *       failure-rate-threshold: 50
+ *       slow-call-rate-threshold: 80
+ *       slow-call-duration: 2s
+ *       open-duration: 10s
+ *       max-concurrent-calls: 100
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "circuit-breaker")
+@Data
+public class CircuitBreakerProperties {
+
+    /**
+     * Whether the configured routes are protected.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Circuit breaker and bulkhead settings per route id.
+     */
+    private Map<String, RouteBreaker> routes = new LinkedHashMap<>();
+
+    /**
+     * Circuit breaker and bulkhead settings of one route.
+     */
+    @Data
+    public static class RouteBreaker {
+
+        /**
+         * Percentage of failed calls (errors and {@code 5xx} answers) at which the circuit opens.
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * Percentage of slow calls at which the circuit opens.
+         */
+        private int slowCallRateThreshold = 80;
+
+        /**
+         * Calls taking at least this long count as slow.
+         */
+        private Duration slowCallDuration = Duration.ofSeconds(3);
+
+        /**
+         * Number of most recent calls the rates are computed over.
+         */
+        private int windowSize = 50;
+
+        /**
+         * Minimum number of calls in the window before the rates are evaluated.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * How long the circuit stays open, failing calls fast, before trial calls are let through.
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * Number of trial calls let through while half-open; they decide whether the circuit closes again.
+         */
+        private int halfOpenCalls = 5;
+
+        /**
+         * Bulkhead: maximum number of calls in flight to the route.
+         */
+        private int maxConcurrentCalls = 100;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,7 +12,8 @@ import java.util.List;
  * <p>
  * This class binds JWT-related settings from the application's
  * `application.properties` or `application.yml` file using the prefix {@code jwt}.
- * It provides the secret key and whitelist for JWT validation.
+ * It provides the secret key, the whitelist for JWT validation and the internal paths that are
+ * never routed for clients.
  * </p>
  */
 @Component
@@ -28,4 +30,10 @@ public class JwtProperties {
      * The whitelist of paths that do not require JWT validation.
      */
     private List<String> whitelist;
+
+    /**
+     * Path prefixes of internal service-to-service endpoints; client requests to them are rejected
+     * with {@code 403 Forbidden}, even with a valid token.
+     */
+    private List<String> internalPaths = new ArrayList<>();
 }
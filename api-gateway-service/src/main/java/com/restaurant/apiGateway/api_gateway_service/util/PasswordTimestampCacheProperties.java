@@ -0,0 +1,38 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the gateway-local cache of password modification timestamps.
+ * <p>
+ * This class binds cache sizing settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code auth.password-timestamp-cache}.
+ * </p>
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.password-timestamp-cache")
+@Data
+public class PasswordTimestampCacheProperties {
+
+    /**
+     * Whether token timestamps are checked against the local cache before calling the Authentication Service.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of users kept in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which a cached timestamp is considered stale and is fetched again.
+     * <p>
+     * This bounds how long a token stays accepted after a password change made through another gateway instance.
+     * </p>
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,90 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the gateway's in-memory rate limiter.
+ * <p>
+ * This class binds rate limit settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code rate-limit}.
+ * Only the routes listed under {@code routes}, keyed by route id, are limited. Every user (JWT subject) gets
+ * one token bucket per route, holding up to {@code capacity} requests and refilled with
+ * {@code refill-tokens} every {@code refill-period}.
+ * </p>
+ * <p>
+ * Requests without a verified token (whitelisted paths such as the login) can only be told apart by client
+ * address, and every device behind one NAT shares it. They are limited by the route's {@code anonymous-routes}
+ * entry when there is one, which should be sized for a whole site rather than a single user.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * rate-limit:
+ *   enabled: true
+ *   routes:
+ *     table-order-service:
+ *       capacity: 40
+ *       refill-tokens: 20
+ *       refill-period: 1s
+ *   anonymous-routes:
+ *     auth-service:
+ *       capacity: 200
+ *       refill-tokens: 100
+ *       refill-period: 1s
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProperties {
+
+    /**
+     * Whether requests on the configured routes are rate limited.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Rate limits per route id.
+     */
+    private Map<String, RouteLimit> routes = new LinkedHashMap<>();
+
+    /**
+     * Rate limits per route id for requests without a verified token, applied per client address.
+     * Routes not listed here apply their {@code routes} entry to those requests as well.
+     */
+    private Map<String, RouteLimit> anonymousRoutes = new LinkedHashMap<>();
+
+    /**
+     * Rate limit of one route.
+     */
+    @Data
+    public static class RouteLimit {
+
+        /**
+         * Maximum burst: the number of tokens a bucket holds when full.
+         */
+        private long capacity = 20;
+
+        /**
+         * Tokens added to a bucket every {@code refill-period}, i.e. the sustained rate.
+         */
+        private long refillTokens = 10;
+
+        /**
+         * Period over which {@code refill-tokens} are added; tokens are added continuously, not in steps.
+         */
+        private Duration refillPeriod = Duration.ofSeconds(1);
+
+        /**
+         * Buckets unused for this long are dropped the next time their stripe is touched. A dropped bucket
+         * comes back full, so this should be at least the time a bucket takes to refill completely.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,79 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class for coalescing identical in-flight GET requests in the gateway.
+ * <p>
+ * This class binds coalescing settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code request-coalescing}.
+ * Only the routes listed under {@code routes}, keyed by route id, are coalesced. Requests on
+ * {@code paths} share a response with callers of the same role; requests on {@code user-specific-paths}
+ * only with callers of the same user, since their answers depend on who is asking.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * request-coalescing:
+ *   enabled: true
+ *   routes:
+ *     table-order-service:
+ *       paths:
+ *         - /api/table-order-service/**
+ *       user-specific-paths:
+ *         - /api/table-order-service/tables/all
+ *       max-wait: 5s
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "request-coalescing")
+@Data
+public class RequestCoalescingProperties {
+
+    /**
+     * Whether identical in-flight requests on the configured routes are coalesced.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Coalescing settings per route id.
+     */
+    private Map<String, RouteCoalescing> routes = new LinkedHashMap<>();
+
+    /**
+     * Coalescing settings of one route.
+     */
+    @Data
+    public static class RouteCoalescing {
+
+        /**
+         * Path patterns (as seen by the gateway) whose GET requests are coalesced per role.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * Path patterns whose answers depend on the caller; their GET requests are coalesced per user.
+         * Takes precedence over {@code paths}.
+         */
+        private List<String> userSpecificPaths = new ArrayList<>();
+
+        /**
+         * How long a request waits for an identical in-flight request before going downstream itself.
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        /**
+         * Responses with larger bodies are not shared; waiting requests go downstream themselves.
+         */
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+    }
+}
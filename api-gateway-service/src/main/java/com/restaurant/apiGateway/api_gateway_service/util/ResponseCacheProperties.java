@@ -0,0 +1,92 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class for the gateway's response cache.
+ * <p>
+ * This class binds cache settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code response-cache}.
+ * Only the routes listed under {@code routes}, keyed by route id, are cached, and only for the
+ * listed path patterns.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * response-cache:
+ *   enabled: true
+ *   routes:
+ *     menu-service:
+ *       paths:
+ *         - /api/menu/active
+ *       ttl: 5s
+ *       stale-while-revalidate: 30s
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "response-cache")
+@Data
+public class ResponseCacheProperties {
+
+    /**
+     * Whether responses of the configured routes are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cache settings per route id.
+     */
+    private Map<String, RouteCache> routes = new LinkedHashMap<>();
+
+    /**
+     * Cache settings of one route.
+     */
+    @Data
+    public static class RouteCache {
+
+        /**
+         * Path patterns (as seen by the gateway, e.g. {@code /api/menu/active}) whose GET responses are cached.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * How long a response is fresh when the downstream sends no {@code max-age}.
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        /**
+         * How long a response may be served stale while it is revalidated in the background, when the
+         * downstream sends no {@code stale-while-revalidate}.
+         */
+        private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+
+        /**
+         * Maximum number of cached responses (distinct path and query strings) for the route.
+         */
+        private long maximumSize = 100;
+
+        /**
+         * Responses with larger bodies are passed through without being cached.
+         */
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+        /**
+         * Upper bound on a background revalidation call.
+         */
+        private Duration revalidationTimeout = Duration.ofSeconds(5);
+
+        /**
+         * How long a request waits for an identical in-flight miss before going downstream itself.
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+}
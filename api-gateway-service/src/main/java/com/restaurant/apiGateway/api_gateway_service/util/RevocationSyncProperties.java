@@ -0,0 +1,42 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the gateway's replicated copy of the token revocation registry.
+ * <p>
+ * This class binds sync settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code auth.revocation-sync}.
+ * </p>
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.revocation-sync")
+@Data
+public class RevocationSyncProperties {
+
+    /**
+     * Whether tokens carrying {@code uid}/{@code sv} claims are checked against the local copy.
+     * <p>
+     * When disabled, every token is checked through the password timestamp path.
+     * </p>
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time between two sync calls to the Authentication Service.
+     */
+    private Duration interval = Duration.ofSeconds(2);
+
+    /**
+     * Maximum age of the local copy for it to be trusted.
+     * <p>
+     * This bounds how long a revocation can go unnoticed. Once the last successful sync is older,
+     * tokens fall back to the password timestamp check until sync recovers.
+     * </p>
+     */
+    private Duration maxStaleness = Duration.ofSeconds(10);
+}
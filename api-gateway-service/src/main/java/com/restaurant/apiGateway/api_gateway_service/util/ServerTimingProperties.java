@@ -0,0 +1,39 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration class for the gateway's {@code Server-Timing} response header.
+ * <p>
+ * This class binds settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code metrics.server-timing},
+ * the same prefix that switches the header off in the downstream services.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * metrics.server-timing.enabled=true
+ * metrics.server-timing.timing-allow-origins=http://localhost:3000,http://127.0.0.1:3000
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "metrics.server-timing")
+@Data
+public class ServerTimingProperties {
+
+    /**
+     * Whether responses carry the gateway's timings merged with the downstream service's.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Origins sent in the {@code Timing-Allow-Origin} header, which lets pages on those origins read
+     * the timings through the Resource Timing API. The header is omitted when empty.
+     */
+    private List<String> timingAllowOrigins = new ArrayList<>();
+}
@@ -0,0 +1,48 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for micro-batching token timestamp checks sent to the Authentication Service.
+ * <p>
+ * This class binds batching settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code auth.validation-batch}.
+ * </p>
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.validation-batch")
+@Data
+public class TokenValidationBatchProperties {
+
+    /**
+     * Whether pending token checks are coalesced into batch calls.
+     * <p>
+     * When disabled, every check is sent on its own to {@code /auth/validateTokenTimestamp}.
+     * </p>
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of pending checks that triggers an immediate flush.
+     */
+    private int maxSize = 64;
+
+    /**
+     * Maximum time a check waits for others before its batch is flushed.
+     */
+    private Duration window = Duration.ofMillis(5);
+
+    /**
+     * Maximum number of batch calls in flight at the same time.
+     */
+    private int maxConcurrentBatches = 8;
+
+    /**
+     * Maximum time a check waits for its verdict, including the time spent queued for a batch.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
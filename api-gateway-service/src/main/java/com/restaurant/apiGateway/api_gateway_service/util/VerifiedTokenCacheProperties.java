@@ -0,0 +1,38 @@
+package com.restaurant.apiGateway.api_gateway_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the gateway-local cache of verified JWT tokens.
+ * <p>
+ * This class binds cache sizing settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code jwt.verified-token-cache}.
+ * </p>
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt.verified-token-cache")
+@Data
+public class VerifiedTokenCacheProperties {
+
+    /**
+     * Whether verified tokens are cached to skip signature verification on repeat requests.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of verified tokens kept in the cache.
+     */
+    private long maximumSize = 50_000;
+
+    /**
+     * Upper bound on how long a verified token is cached.
+     * <p>
+     * An entry never outlives the token's own {@code exp} claim, whichever comes first.
+     * </p>
+     */
+    private Duration maxTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,38 @@
+package com.restaurant.apiGateway.api_gateway_service.actuator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Checks that the {@link PasswordTimestampCacheEndpoint} is only reachable on the management port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "auth.revocation-sync.enabled=false"
+})
+class PasswordTimestampCacheEndpointTest {
+
+    private static final String ENDPOINT_PATH = "/actuator/passwordtimestamps";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void publicPortDoesNotServeTheEndpoint() {
+        webTestClient.get().uri(ENDPOINT_PATH).exchange().expectStatus().isNotFound();
+        webTestClient.delete().uri(ENDPOINT_PATH + "/user@restaurant.com").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void managementPortServesTheEndpoint() {
+        WebTestClient.bindToServer().baseUrl("http://localhost:" + managementPort).build()
+                .get().uri(ENDPOINT_PATH).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.size").exists();
+    }
+}
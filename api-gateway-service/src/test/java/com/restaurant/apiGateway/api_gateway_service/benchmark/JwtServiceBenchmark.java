@@ -0,0 +1,121 @@
+package com.restaurant.apiGateway.api_gateway_service.benchmark;
+
+import com.restaurant.apiGateway.api_gateway_service.service.JwtService;
+import com.restaurant.apiGateway.api_gateway_service.service.PasswordTimestampCache;
+import com.restaurant.apiGateway.api_gateway_service.service.RevocationList;
+import com.restaurant.apiGateway.api_gateway_service.service.VerifiedTokenCache;
+import com.restaurant.apiGateway.api_gateway_service.util.JwtProperties;
+import com.restaurant.apiGateway.api_gateway_service.util.PasswordTimestampCacheProperties;
+import com.restaurant.apiGateway.api_gateway_service.util.RevocationSyncProperties;
+import com.restaurant.apiGateway.api_gateway_service.util.VerifiedTokenCacheProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the CPU cost of {@link JwtService#validateToken(String)} for a repeat token with and without the
+ * {@link VerifiedTokenCache}.
+ *
+ * <p>
+ * {@code cachedDigest} answers from the cache, so it pays for the SHA-256 digest and one lookup; {@code fullParse}
+ * has the cache disabled and verifies the HMAC signature and parses the claims on every call. Both check revocation
+ * against a warm password timestamp cache, so neither leaves the process.
+ * </p>
+ *
+ * <p>Run from the repository root after {@code mvn -pl api-gateway-service test-compile}:</p>
+ * <pre>
+ * mvn -pl api-gateway-service dependency:build-classpath -Dmdep.outputFile=target/test.cp -Dmdep.includeScope=test
+ * java -cp api-gateway-service/target/test-classes:api-gateway-service/target/classes:$(cat api-gateway-service/target/test.cp) \
+ *     com.restaurant.apiGateway.api_gateway_service.benchmark.JwtServiceBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "Fj93jsLk2mN7XyZ9wT1qU0oPrsVx5aKb";
+    private static final String EMAIL = "waiter@restaurant.com";
+
+    private String token;
+    private JwtService cachingService;
+    private JwtService parsingService;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .setSubject(EMAIL)
+                .claim("role", "USER")
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        cachingService = jwtService(true, now);
+        parsingService = jwtService(false, now);
+        cachingService.validateToken(token).block();
+    }
+
+    private static JwtService jwtService(boolean cacheVerifiedTokens, Instant issuedAt) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+
+        VerifiedTokenCacheProperties tokenCacheProperties = new VerifiedTokenCacheProperties();
+        tokenCacheProperties.setEnabled(cacheVerifiedTokens);
+
+        PasswordTimestampCacheProperties timestampCacheProperties = new PasswordTimestampCacheProperties();
+        timestampCacheProperties.setTtl(Duration.ofHours(1));
+        PasswordTimestampCache passwordTimestampCache = new PasswordTimestampCache(timestampCacheProperties, meterRegistry);
+        passwordTimestampCache.put(EMAIL, issuedAt.minus(Duration.ofDays(1)));
+
+        RevocationSyncProperties revocationProperties = new RevocationSyncProperties();
+        revocationProperties.setEnabled(false);
+        WebClient unusedWebClient = WebClient.create();
+
+        return new JwtService(jwtProperties, unusedWebClient, passwordTimestampCache,
+                new VerifiedTokenCache(tokenCacheProperties, meterRegistry), null,
+                new RevocationList(unusedWebClient, revocationProperties, meterRegistry));
+    }
+
+    @Benchmark
+    public Claims cachedDigest() {
+        return cachingService.validateToken(token).block();
+    }
+
+    @Benchmark
+    public Claims fullParse() {
+        return parsingService.validateToken(token).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package com.restaurant.apiGateway.api_gateway_service.benchmark;
+
+import com.restaurant.apiGateway.api_gateway_service.service.RateLimiter;
+import com.restaurant.apiGateway.api_gateway_service.service.RateLimiter.RouteLimiter;
+import com.restaurant.apiGateway.api_gateway_service.util.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the per-request overhead of {@link RouteLimiter#tryAcquire(String, long)} with one thread per core.
+ *
+ * <p>
+ * The buckets are large enough that every request is allowed, so the numbers are the cost the limiter adds to
+ * a normal request: the stripe lookup, the bucket refill and the Micrometer counter. {@code distinctUsers} gives
+ * every thread its own key, as in production; {@code sharedUser} sends all threads to one bucket, the worst case
+ * for lock contention.
+ * </p>
+ *
+ * <p>Run from the repository root after {@code mvn -pl api-gateway-service test-compile}:</p>
+ * <pre>
+ * mvn -pl api-gateway-service dependency:build-classpath -Dmdep.outputFile=target/test.cp -Dmdep.includeScope=test
+ * java -cp api-gateway-service/target/test-classes:api-gateway-service/target/classes:$(cat api-gateway-service/target/test.cp) \
+ *     com.restaurant.apiGateway.api_gateway_service.benchmark.RateLimiterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final String ROUTE_ID = "benchmark";
+    private static final String SHARED_KEY = "shared@restaurant.com";
+
+    private RouteLimiter limiter;
+
+    /**
+     * The key of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+        private String key;
+
+        @Setup
+        public void setUp() {
+            key = "user-" + NEXT_ID.incrementAndGet() + "@restaurant.com";
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.RouteLimit routeLimit = new RateLimitProperties.RouteLimit();
+        routeLimit.setCapacity(Long.MAX_VALUE / 2);
+        routeLimit.setRefillTokens(Long.MAX_VALUE / 2);
+        routeLimit.setRefillPeriod(Duration.ofSeconds(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put(ROUTE_ID, routeLimit);
+        limiter = new RateLimiter(properties, new SimpleMeterRegistry()).routeLimiter(ROUTE_ID);
+    }
+
+    @Benchmark
+    public long distinctUsers(Caller caller) {
+        return limiter.tryAcquire(caller.key, System.nanoTime());
+    }
+
+    @Benchmark
+    public long sharedUser() {
+        return limiter.tryAcquire(SHARED_KEY, System.nanoTime());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RateLimiterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks through the gateway that long-lived streams do not use up the {@link AdaptiveConcurrencyGatewayFilter}'s
+ * limit, against a stub downstream service that streams Server-Sent Events on {@code /stream}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.whitelist[0]=" + AdaptiveConcurrencyGatewayFilterTest.ROUTE_PATH,
+        "auth.revocation-sync.enabled=false",
+        "rate-limit.enabled=false",
+        "response-cache.enabled=false",
+        "request-coalescing.enabled=false",
+        "circuit-breaker.enabled=false",
+        "adaptive-concurrency.routes.table-order-service.initial-limit=2",
+        "adaptive-concurrency.routes.table-order-service.min-limit=2",
+        "adaptive-concurrency.routes.table-order-service.max-limit=2"
+})
+class AdaptiveConcurrencyGatewayFilterTest {
+
+    static final String ROUTE_PATH = "/api/table-order-service";
+    private static final String STREAM_PATH = "/stream";
+
+    private static final DisposableServer stub = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> request.uri().endsWith(STREAM_PATH)
+                    ? response.header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                            .sendString(Flux.interval(Duration.ZERO, Duration.ofMillis(100))
+                                    .map(tick -> "data: " + tick + "\n\n")
+                                    .take(100))
+                    : response.header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                            .sendString(Mono.just("ok")))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void stubUrl(DynamicPropertyRegistry registry) {
+        registry.add("table-order.service.url", () -> "http://localhost:" + stub.port());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.disposeNow();
+    }
+
+    @Test
+    void openStreamsDoNotHoldConcurrencyUnits() {
+        List<Disposable> streams = new ArrayList<>();
+        try {
+            // Neither request asks for a stream, so the filter only learns from the response headers
+            for (int i = 0; i < 2; i++) {
+                streams.add(webTestClient.get().uri(ROUTE_PATH + STREAM_PATH)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(String.class)
+                        .getResponseBody()
+                        .subscribe());
+            }
+
+            webTestClient.get().uri(ROUTE_PATH + "/orders")
+                    .exchange()
+                    .expectStatus().isOk();
+        } finally {
+            streams.forEach(Disposable::dispose);
+        }
+    }
+
+    @Test
+    void requestsForStreamsAreNotLimited() {
+        List<Disposable> streams = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                streams.add(webTestClient.get().uri(ROUTE_PATH + STREAM_PATH)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(String.class)
+                        .getResponseBody()
+                        .subscribe());
+            }
+
+            webTestClient.get().uri(ROUTE_PATH + "/orders")
+                    .exchange()
+                    .expectStatus().isOk();
+        } finally {
+            streams.forEach(Disposable::dispose);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks which bodies the {@link CapturingResponseDecorator} captures, and that larger ones are written through
+ * as they arrive.
+ */
+class CapturingResponseDecoratorTest {
+
+    private static final long MAX_BODY_BYTES = 8;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private final MockServerHttpResponse delegate = new MockServerHttpResponse(bufferFactory);
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    private final AtomicReference<byte[]> captured = new AtomicReference<>();
+    private final CapturingResponseDecorator decorator =
+            new CapturingResponseDecorator(delegate, MAX_BODY_BYTES, (response, body) -> captured.set(body));
+
+    @Test
+    void capturesBodiesWithinTheLimit() {
+        delegate.setWriteHandler(this::record);
+
+        decorator.writeWith(Flux.just(buffer("abc"), buffer("defgh"))).block();
+
+        assertThat(captured.get()).asString(StandardCharsets.UTF_8).isEqualTo("abcdefgh");
+        assertThat(written.toString(StandardCharsets.UTF_8)).isEqualTo("abcdefgh");
+    }
+
+    @Test
+    void capturesEmptyBodies() {
+        delegate.setWriteHandler(this::record);
+
+        decorator.writeWith(Flux.empty()).block();
+
+        assertThat(captured.get()).isEmpty();
+    }
+
+    @Test
+    void writesLargerBodiesThroughWithoutCapturingThem() {
+        delegate.setWriteHandler(this::record);
+
+        // The body never completes, so nothing would be written if it were joined first
+        Disposable write = decorator.writeWith(Flux.concat(
+                        Flux.just(buffer("abcde"), buffer("fghij"), buffer("klm")), Flux.never()))
+                .subscribe();
+        try {
+            assertThat(written.toString(StandardCharsets.UTF_8)).isEqualTo("abcdefghijklm");
+            assertThat(captured.get()).isNull();
+        } finally {
+            write.dispose();
+        }
+    }
+
+    private Mono<Void> record(Flux<DataBuffer> body) {
+        return body.doOnNext(buffer -> {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            written.writeBytes(bytes);
+        }).then();
+    }
+
+    private DataBuffer buffer(String content) {
+        return bufferFactory.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,223 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers;
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers.State;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the {@link CircuitBreakerGatewayFilter} through the gateway against a stub downstream service whose
+ * latency each test sets.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.whitelist[0]=" + CircuitBreakerGatewayFilterTest.ROUTE_PATH,
+        "auth.revocation-sync.enabled=false",
+        "rate-limit.enabled=false",
+        "response-cache.enabled=false",
+        "request-coalescing.enabled=false",
+        "adaptive-concurrency.enabled=false",
+        "circuit-breaker.routes.table-order-service.failure-rate-threshold=50",
+        "circuit-breaker.routes.table-order-service.slow-call-rate-threshold=50",
+        "circuit-breaker.routes.table-order-service.slow-call-duration=200ms",
+        "circuit-breaker.routes.table-order-service.window-size=4",
+        "circuit-breaker.routes.table-order-service.minimum-calls=4",
+        "circuit-breaker.routes.table-order-service.open-duration=500ms",
+        "circuit-breaker.routes.table-order-service.half-open-calls=2",
+        "circuit-breaker.routes.table-order-service.max-concurrent-calls=2"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CircuitBreakerGatewayFilterTest {
+
+    static final String ROUTE_ID = "table-order-service";
+    static final String ROUTE_PATH = "/api/table-order-service";
+    private static final String STREAM_PATH = "/stream";
+    private static final Duration SLOW = Duration.ofMillis(400);
+    private static final Duration STATE_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration SETTLE_TIME = Duration.ofMillis(300);
+    private static final String IN_FLIGHT_METRIC = "gateway.bulkhead.in.flight";
+
+    private static final AtomicInteger stubCalls = new AtomicInteger();
+    private static volatile Duration stubLatency = Duration.ZERO;
+    private static final DisposableServer stub = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> {
+                stubCalls.incrementAndGet();
+                if (request.uri().endsWith(STREAM_PATH)) {
+                    // Streams stay open until the client goes away
+                    return Mono.delay(stubLatency).then(Mono.from(response
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                            .sendString(Flux.interval(Duration.ZERO, Duration.ofMillis(100))
+                                    .map(tick -> "data: " + tick + "\n\n"))));
+                }
+                return Mono.delay(stubLatency).then(Mono.from(response
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                        .sendString(Mono.just("ok"))));
+            })
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private RouteCircuitBreakers circuitBreakers;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void stubUrl(DynamicPropertyRegistry registry) {
+        registry.add("table-order.service.url", () -> "http://localhost:" + stub.port());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.disposeNow();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        stubLatency = Duration.ZERO;
+        stubCalls.set(0);
+    }
+
+    @Test
+    void opensWhenCallsAreSlow() throws InterruptedException {
+        stubLatency = SLOW;
+        for (int i = 0; i < 4; i++) {
+            call().expectStatus().isOk();
+        }
+
+        awaitState(State.OPEN);
+        call().expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER);
+        assertThat(stubCalls).hasValue(4);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondTheLimit() {
+        stubLatency = SLOW;
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> call().returnResult(String.class).getStatus().value(), callers));
+        }
+
+        List<Integer> statuses = calls.stream().map(CompletableFuture::join).sorted().toList();
+        callers.shutdown();
+        assertThat(statuses).containsExactly(200, 200, 503);
+        assertThat(stubCalls).hasValue(2);
+        assertThat(circuitBreakers.breaker(ROUTE_ID).getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void closesAgainAfterSuccessfulTrialCalls() throws InterruptedException {
+        stubLatency = SLOW;
+        for (int i = 0; i < 4; i++) {
+            call().expectStatus().isOk();
+        }
+        awaitState(State.OPEN);
+
+        stubLatency = Duration.ZERO;
+        Thread.sleep(600);
+        call().expectStatus().isOk();
+        awaitState(State.HALF_OPEN);
+        call().expectStatus().isOk();
+
+        awaitState(State.CLOSED);
+        call().expectStatus().isOk();
+    }
+
+    @Test
+    void streamsNeitherTakeBulkheadSlotsNorCountAsSlowCalls() throws InterruptedException {
+        stubLatency = SLOW;
+        List<Disposable> streams = new ArrayList<>();
+        try {
+            // Two requests ask for a stream; the other four are only recognised by the response headers
+            for (int i = 0; i < 6; i++) {
+                WebTestClient.RequestHeadersSpec<?> request = webTestClient.get().uri(ROUTE_PATH + STREAM_PATH);
+                if (i < 2) {
+                    request.accept(MediaType.TEXT_EVENT_STREAM);
+                }
+                streams.add(request.exchange()
+                        .expectStatus().isOk()
+                        .returnResult(String.class)
+                        .getResponseBody()
+                        .subscribe());
+            }
+
+            assertThat(inFlight()).isZero();
+            call().expectStatus().isOk();
+        } finally {
+            streams.forEach(Disposable::dispose);
+        }
+
+        awaitInFlight(0);
+        assertStaysClosed();
+        assertThat(stubCalls).hasValue(7);
+    }
+
+    /**
+     * Waits for the breaker to reach a state, since the outcome of a call is recorded only after the client has
+     * already received its response.
+     */
+    private void awaitState(State expected) throws InterruptedException {
+        long deadline = System.nanoTime() + STATE_TIMEOUT.toNanos();
+        while (circuitBreakers.breaker(ROUTE_ID).getState() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(circuitBreakers.breaker(ROUTE_ID).getState()).isEqualTo(expected);
+    }
+
+    private double inFlight() {
+        return meterRegistry.get(IN_FLIGHT_METRIC).tag("route", ROUTE_ID).gauge().value();
+    }
+
+    private void awaitInFlight(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + STATE_TIMEOUT.toNanos();
+        while (inFlight() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(inFlight()).isEqualTo(expected);
+    }
+
+    /**
+     * Checks the circuit for a while, since a wrongly recorded outcome could still be on its way.
+     */
+    private void assertStaysClosed() throws InterruptedException {
+        long deadline = System.nanoTime() + SETTLE_TIME.toNanos();
+        do {
+            assertThat(circuitBreakers.breaker(ROUTE_ID).getState()).isEqualTo(State.CLOSED);
+            Thread.sleep(10);
+        } while (System.nanoTime() < deadline);
+    }
+
+    private WebTestClient.ResponseSpec call() {
+        return webTestClient.get().uri(ROUTE_PATH + "/orders").exchange();
+    }
+}
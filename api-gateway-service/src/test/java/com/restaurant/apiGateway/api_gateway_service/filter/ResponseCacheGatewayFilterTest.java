@@ -0,0 +1,127 @@
+package com.restaurant.apiGateway.api_gateway_service.filter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks through the gateway that requests waiting for an in-flight cache miss of the
+ * {@link ResponseCacheGatewayFilter} are not held up by a leader that is cancelled or hangs.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.whitelist[0]=" + ResponseCacheGatewayFilterTest.ROUTE_PATH,
+        "auth.revocation-sync.enabled=false",
+        "rate-limit.enabled=false",
+        "request-coalescing.enabled=false",
+        "adaptive-concurrency.enabled=false",
+        "circuit-breaker.enabled=false",
+        "response-cache.routes.table-order-service.paths[0]=" + ResponseCacheGatewayFilterTest.ROUTE_PATH + "/menu/**",
+        "response-cache.routes.table-order-service.max-wait=2s"
+})
+class ResponseCacheGatewayFilterTest {
+
+    static final String ROUTE_PATH = "/api/table-order-service";
+    private static final String HANG_HEADER = "X-Stub-Hang";
+    private static final Duration MAX_WAIT = Duration.ofSeconds(2);
+    private static final Duration HANG = Duration.ofSeconds(8);
+
+    private static final AtomicInteger stubCalls = new AtomicInteger();
+    private static final DisposableServer stub = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> {
+                stubCalls.incrementAndGet();
+                Duration latency = request.requestHeaders().contains(HANG_HEADER) ? HANG : Duration.ZERO;
+                return Mono.delay(latency).then(Mono.from(response
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                        .sendString(Mono.just("menu"))));
+            })
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubUrl(DynamicPropertyRegistry registry) {
+        registry.add("table-order.service.url", () -> "http://localhost:" + stub.port());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.disposeNow();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        stubCalls.set(0);
+    }
+
+    @Test
+    void cancelledLeaderReleasesWaitingRequests() throws InterruptedException {
+        String path = ROUTE_PATH + "/menu/cancelled";
+        Disposable leader = startHangingLeader(path);
+
+        long start = System.nanoTime();
+        Disposable cancel = Mono.delay(Duration.ofMillis(300)).subscribe(tick -> leader.dispose());
+        try {
+            webTestClient.get().uri(path).exchange().expectStatus().isOk();
+        } finally {
+            cancel.dispose();
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(MAX_WAIT);
+        assertThat(stubCalls).hasValue(2);
+    }
+
+    @Test
+    void hangingLeaderReleasesWaitingRequestsAfterMaxWait() throws InterruptedException {
+        String path = ROUTE_PATH + "/menu/hanging";
+        Disposable leader = startHangingLeader(path);
+        try {
+            long start = System.nanoTime();
+            webTestClient.get().uri(path).exchange().expectStatus().isOk();
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isBetween(MAX_WAIT, HANG);
+            assertThat(stubCalls).hasValue(2);
+        } finally {
+            leader.dispose();
+        }
+    }
+
+    /**
+     * Sends a request that the stub does not answer for {@link #HANG}, and waits until it reached the stub.
+     */
+    private Disposable startHangingLeader(String path) throws InterruptedException {
+        Disposable leader = WebClient.create("http://localhost:" + port).get().uri(path)
+                .header(HANG_HEADER, "true")
+                .retrieve()
+                .toBodilessEntity()
+                .subscribe();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (stubCalls.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(stubCalls).hasValue(1);
+        return leader;
+    }
+}
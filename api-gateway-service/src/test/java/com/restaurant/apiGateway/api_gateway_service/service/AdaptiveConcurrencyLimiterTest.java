@@ -0,0 +1,92 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.util.AdaptiveConcurrencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the latency samples of one {@link AdaptiveConcurrencyLimiter.RouteLimiter} directly and checks how its
+ * limit moves after each window.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String ROUTE_ID = "table-order-service";
+    private static final int INITIAL_LIMIT = 20;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final AdaptiveConcurrencyProperties.RouteConcurrency settings = new AdaptiveConcurrencyProperties.RouteConcurrency();
+
+    AdaptiveConcurrencyLimiterTest() {
+        settings.setInitialLimit(INITIAL_LIMIT);
+        settings.setMinLimit(1);
+        settings.setMaxLimit(100);
+        settings.setRttTolerance(1.0);
+        settings.setSmoothing(1.0);
+        settings.setMinWindow(Duration.ZERO);
+        settings.setBackoffRatio(BACKOFF_RATIO);
+    }
+
+    @Test
+    void limitShrinksWhenShortRttRisesAboveLongRtt() {
+        settings.setWindowSize(INITIAL_LIMIT);
+        AdaptiveConcurrencyLimiter.RouteLimiter limiter = routeLimiter();
+
+        runWindow(limiter, INITIAL_LIMIT, 10, false);
+        int steadyLimit = limiter.getLimit();
+        runWindow(limiter, INITIAL_LIMIT, 40, false);
+
+        // 20 + sqrt(20) at a steady latency, then halved by the clamped gradient plus sqrt(24.47)
+        assertThat(steadyLimit).isEqualTo(24);
+        assertThat(limiter.getLimit()).isEqualTo(17);
+    }
+
+    @Test
+    void limitDropsByBackoffRatioAfterDroppedCall() {
+        settings.setWindowSize(INITIAL_LIMIT);
+        AdaptiveConcurrencyLimiter.RouteLimiter limiter = routeLimiter();
+
+        runWindow(limiter, INITIAL_LIMIT, 10, true);
+
+        assertThat(limiter.getLimit()).isEqualTo((int) (INITIAL_LIMIT * BACKOFF_RATIO));
+    }
+
+    @Test
+    void limitDoesNotGrowWhileLessThanHalfIsInUse() {
+        int halfLimit = INITIAL_LIMIT / 2;
+        settings.setWindowSize(halfLimit);
+        AdaptiveConcurrencyLimiter.RouteLimiter limiter = routeLimiter();
+
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, halfLimit - 1, 10, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(INITIAL_LIMIT);
+
+        runWindow(limiter, halfLimit, 10, false);
+        assertThat(limiter.getLimit()).isGreaterThan(INITIAL_LIMIT);
+    }
+
+    private AdaptiveConcurrencyLimiter.RouteLimiter routeLimiter() {
+        AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyProperties();
+        properties.getRoutes().put(ROUTE_ID, settings);
+        return new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry()).routeLimiter(ROUTE_ID);
+    }
+
+    /**
+     * Admits {@code calls} concurrent calls, then completes them all with the same latency, so the window's
+     * peak in-flight count is {@code calls}. Only the first call is marked dropped.
+     */
+    private static void runWindow(AdaptiveConcurrencyLimiter.RouteLimiter limiter, int calls, long rttMillis,
+                                  boolean dropped) {
+        for (int call = 0; call < calls; call++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        for (int call = 0; call < calls; call++) {
+            limiter.onComplete(TimeUnit.MILLISECONDS.toNanos(rttMillis), dropped && call == 0);
+        }
+    }
+}
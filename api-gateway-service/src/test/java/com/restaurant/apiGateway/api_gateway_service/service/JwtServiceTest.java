@@ -0,0 +1,127 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.config.WebClientConfig;
+import com.restaurant.apiGateway.api_gateway_service.util.AuthClientProperties;
+import com.restaurant.apiGateway.api_gateway_service.util.JwtProperties;
+import com.restaurant.apiGateway.api_gateway_service.util.PasswordTimestampCacheProperties;
+import com.restaurant.apiGateway.api_gateway_service.util.RevocationSyncProperties;
+import com.restaurant.apiGateway.api_gateway_service.util.VerifiedTokenCacheProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks that {@link JwtService#validateToken(String)} waits for the Authentication Service without holding a
+ * thread, so parallel validations overlap instead of queueing behind each other.
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "Fj93jsLk2mN7XyZ9wT1qU0oPrsVx5aKb";
+    private static final Duration STUB_LATENCY = Duration.ofMillis(500);
+    private static final int VALIDATIONS = 100;
+
+    private static final AtomicInteger running = new AtomicInteger();
+    private static final AtomicInteger maxConcurrent = new AtomicInteger();
+    private static final DisposableServer stub = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> request.receive().then()
+                    .then(Mono.fromRunnable(() -> maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max)))
+                    .then(Mono.delay(STUB_LATENCY))
+                    .doFinally(signal -> running.decrementAndGet())
+                    .then(response.send()))
+            .bindNow();
+
+    @AfterAll
+    static void stopStub() {
+        stub.disposeNow();
+    }
+
+    @Test
+    void parallelValidationsWaitForAuthServiceTogether() {
+        JwtService jwtService = jwtService();
+        // Opens the pooled connections and warms up the code path outside the measurement
+        validateInParallel(jwtService, tokens("warmup"));
+        maxConcurrent.set(0);
+
+        List<String> tokens = tokens("waiter");
+        long start = System.nanoTime();
+        List<Claims> validated = validateInParallel(jwtService, tokens);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(validated).hasSize(VALIDATIONS);
+        assertThat(maxConcurrent).hasValue(VALIDATIONS);
+        // About one stub latency plus request handling on a small CI box; sequential calls would take
+        // VALIDATIONS times as long
+        assertThat(elapsed).isLessThan(STUB_LATENCY.multipliedBy(3));
+    }
+
+    private static List<Claims> validateInParallel(JwtService jwtService, List<String> tokens) {
+        return Flux.fromIterable(tokens)
+                .flatMap(jwtService::validateToken, VALIDATIONS)
+                .collectList()
+                .block();
+    }
+
+    private static JwtService jwtService() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+
+        AuthClientProperties clientProperties = new AuthClientProperties();
+        clientProperties.setResponseTimeout(STUB_LATENCY.multipliedBy(4));
+        WebClient authServiceWebClient = new WebClientConfig()
+                .authServiceWebClient(WebClient.builder(), clientProperties, "http://localhost:" + stub.port());
+
+        RevocationSyncProperties revocationProperties = new RevocationSyncProperties();
+        revocationProperties.setEnabled(false);
+
+        // A mocked batcher reports itself disabled, so every miss takes the direct WebClient call
+        return new JwtService(jwtProperties, authServiceWebClient,
+                new PasswordTimestampCache(new PasswordTimestampCacheProperties(), meterRegistry),
+                new VerifiedTokenCache(new VerifiedTokenCacheProperties(), meterRegistry),
+                mock(TokenValidationBatcher.class),
+                new RevocationList(authServiceWebClient, revocationProperties, meterRegistry));
+    }
+
+    /**
+     * Returns tokens of {@link #VALIDATIONS} distinct users, so each validation misses the timestamp cache and
+     * calls the stub.
+     */
+    private static List<String> tokens(String userPrefix) {
+        return Flux.range(0, VALIDATIONS)
+                .map(i -> token(userPrefix + i + "@restaurant.com"))
+                .collectList()
+                .block();
+    }
+
+    private static String token(String email) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(email)
+                .claim("role", "USER")
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
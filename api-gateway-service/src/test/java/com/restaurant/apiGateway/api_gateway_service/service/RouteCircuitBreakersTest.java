@@ -0,0 +1,60 @@
+package com.restaurant.apiGateway.api_gateway_service.service;
+
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers.Breaker;
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers.Decision;
+import com.restaurant.apiGateway.api_gateway_service.service.RouteCircuitBreakers.State;
+import com.restaurant.apiGateway.api_gateway_service.util.CircuitBreakerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the state machine of one {@link Breaker} directly.
+ */
+class RouteCircuitBreakersTest {
+
+    private static final String ROUTE_ID = "table-order-service";
+    private static final long AFTER_OPEN_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private Breaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties.RouteBreaker settings = new CircuitBreakerProperties.RouteBreaker();
+        settings.setWindowSize(2);
+        settings.setMinimumCalls(2);
+        settings.setOpenDuration(Duration.ofMillis(1));
+        settings.setHalfOpenCalls(1);
+        settings.setMaxConcurrentCalls(100);
+
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.getRoutes().put(ROUTE_ID, settings);
+        breaker = new RouteCircuitBreakers(properties, new SimpleMeterRegistry()).breaker(ROUTE_ID);
+    }
+
+    @Test
+    void cancelledTrialCallHandsItsPermitBackWhileOthersAreRejected() {
+        for (int i = 0; i < 2; i++) {
+            Decision decision = breaker.tryAcquire(System.nanoTime());
+            breaker.onComplete(decision, 0, true);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        long halfOpenNanos = System.nanoTime() + AFTER_OPEN_NANOS;
+        Decision trial = breaker.tryAcquire(halfOpenNanos);
+        assertThat(trial).isEqualTo(Decision.TRIAL);
+        for (int i = 0; i < 50; i++) {
+            assertThat(breaker.tryAcquire(halfOpenNanos)).isEqualTo(Decision.CIRCUIT_OPEN);
+        }
+        breaker.onCancel(trial);
+
+        Decision retry = breaker.tryAcquire(halfOpenNanos);
+        assertThat(retry).isEqualTo(Decision.TRIAL);
+        breaker.onComplete(retry, 0, false);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+}
@@ -0,0 +1,65 @@
+package com.restaurant.auth.auth_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Benchmarks BCrypt cost factors on the current hardware at startup.
+ *
+ * <p>
+ * Each additional cost step doubles hashing time, so the calibrator walks upwards from the
+ * minimum cost and stops at the first cost whose median hash time exceeds the target.
+ * </p>
+ */
+@Slf4j
+final class BcryptStrengthCalibrator {
+
+    // ==================== CONSTANTS ====================
+    private static final String SAMPLE_PASSWORD = "Calibration@123";
+    private static final int SAMPLES_PER_STRENGTH = 3;
+
+    private BcryptStrengthCalibrator() {
+    }
+
+    /**
+     * Returns the strongest BCrypt cost whose median hash time stays under the target.
+     *
+     * @param minStrength lowest cost to return, even if it exceeds the target
+     * @param maxStrength highest cost to consider
+     * @param target      time budget for hashing one password
+     * @return the chosen cost factor
+     */
+    static int calibrate(int minStrength, int maxStrength, Duration target) {
+        long targetNanos = target.toNanos();
+        int chosen = minStrength;
+
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD); // warm up
+
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long medianNanos = medianHashNanos(strength);
+            log.debug("BCrypt cost {} takes {} ms", strength, Duration.ofNanos(medianNanos).toMillis());
+            if (medianNanos > targetNanos) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("Calibrated BCrypt cost to {} for a {} ms hashing target", chosen, target.toMillis());
+        return chosen;
+    }
+
+    private static long medianHashNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long[] samples = new long[SAMPLES_PER_STRENGTH];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
@@ -0,0 +1,149 @@
+package com.restaurant.auth.auth_service.config;
+
+import com.restaurant.auth.auth_service.exceptions.PasswordHashingUnavailableException;
+import com.restaurant.auth.auth_service.util.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link PasswordEncoder} decorator that runs every hash and verification on a dedicated,
+ * size-limited executor.
+ *
+ * <p>
+ * BCrypt is deliberately CPU-heavy. Running it on request threads lets a login storm starve
+ * cheap endpoints such as {@code /auth/validateTokenTimestamp}. This encoder caps hashing to a
+ * fixed number of threads with a bounded queue; when the queue is full the work is rejected
+ * immediately with a {@link PasswordHashingUnavailableException} (HTTP 503).
+ * </p>
+ *
+ * <p><b>Metrics:</b></p>
+ * <ul>
+ *   <li>{@code executor.*} with tag {@code name=passwordHashing} - queue depth, active threads, completed tasks</li>
+ *   <li>{@code auth.password.hash} timer with tag {@code operation=encode|matches} - time spent hashing</li>
+ *   <li>{@code auth.password.hash.rejected} counter - tasks rejected because the executor was saturated</li>
+ * </ul>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    // ==================== CONSTANTS ====================
+    private static final String EXECUTOR_NAME = "passwordHashing";
+    private static final String THREAD_NAME_PREFIX = "password-hash-";
+    private static final String HASH_TIMER = "auth.password.hash";
+    private static final String REJECTED_COUNTER = "auth.password.hash.rejected";
+    private static final String OPERATION_TAG = "operation";
+
+    // Error Messages
+    private static final String SATURATED_MSG = "Authentication is busy, please retry shortly";
+    private static final String INTERRUPTED_MSG = "Password hashing was interrupted";
+
+    // ==================== STATE ====================
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final PasswordHashingProperties properties;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+        this.encodeTimer = Timer.builder(HASH_TIMER).tag(OPERATION_TAG, "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASH_TIMER).tag(OPERATION_TAG, "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_COUNTER).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs the task on the hashing executor and waits for its result.
+     *
+     * @param task the hashing task
+     * @return the task's result
+     * @throws PasswordHashingUnavailableException if the executor is saturated or the task takes longer than allowed
+     */
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw rejected();
+        }
+
+        try {
+            return future.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw rejected();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException(INTERRUPTED_MSG, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private PasswordHashingUnavailableException rejected() {
+        rejectedCounter.increment();
+        return new PasswordHashingUnavailableException(SATURATED_MSG, properties.getRetryAfter().toSeconds());
+    }
+
+    /**
+     * Names hashing threads so they are easy to spot in thread dumps and profiles.
+     */
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.restaurant.auth.auth_service.config;
+
+import com.restaurant.auth.auth_service.util.PasswordEncodingProperties;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the {@link DelegatingPasswordEncoder} behind the application's {@link PasswordEncoder} bean.
+ *
+ * <p>
+ * New hashes are written as {@code {id}hash} using the configured algorithm. Hashes written by any
+ * supported algorithm are still verified, and legacy un-prefixed hashes are treated as BCrypt.
+ * {@link PasswordEncoder#upgradeEncoding(String)} reports {@code true} for hashes produced by another
+ * algorithm, a lower BCrypt cost, or the legacy format, so callers can re-hash after a successful login.
+ * </p>
+ */
+final class PasswordEncoders {
+
+    // ==================== CONSTANTS ====================
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String PBKDF2_ID = "pbkdf2";
+    private static final String ARGON2_ID = "argon2";
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * Creates the delegating encoder for the given settings.
+     *
+     * @param properties algorithm and cost settings
+     * @return a {@link DelegatingPasswordEncoder} encoding with the configured algorithm
+     */
+    static PasswordEncoder create(PasswordEncodingProperties properties) {
+        int bcryptStrength = properties.isCalibrate()
+                ? BcryptStrengthCalibrator.calibrate(
+                        properties.getMinBcryptStrength(), properties.getMaxBcryptStrength(), properties.getTargetHashTime())
+                : properties.getBcryptStrength();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put(PBKDF2_ID, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put(ARGON2_ID, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idFor(properties.getAlgorithm()), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder()); // legacy un-prefixed hashes
+        return encoder;
+    }
+
+    private static String idFor(PasswordEncodingProperties.Algorithm algorithm) {
+        return switch (algorithm) {
+            case BCRYPT -> BCRYPT_ID;
+            case PBKDF2 -> PBKDF2_ID;
+            case ARGON2 -> ARGON2_ID;
+        };
+    }
+}
@@ -1,6 +1,9 @@
 package com.restaurant.auth.auth_service.config;
 
 import com.restaurant.auth.auth_service.service.UserLookupService;
+import com.restaurant.auth.auth_service.util.PasswordEncodingProperties;
+import com.restaurant.auth.auth_service.util.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,7 +13,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -40,13 +42,22 @@ public class SecurityConfig {
 
     /**
      * Defines the password encoder bean.
-     * <p>Uses BCrypt for strong password hashing.</p>
+     * <p>Hashes with the configured algorithm (BCrypt by default, with its cost calibrated
+     * at startup) and still verifies hashes written by the other supported algorithms.
+     * Hashing and verification run on a dedicated, size-limited executor so login bursts
+     * cannot starve other endpoints.</p>
      *
-     * @return a {@link BCryptPasswordEncoder} instance
+     * @param passwordEncodingProperties algorithm and cost settings
+     * @param passwordHashingProperties  sizing and admission settings for the hashing executor
+     * @param meterRegistry              registry for queue depth, hash time and rejection metrics
+     * @return a {@link BoundedPasswordEncoder} wrapping a delegating encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordEncodingProperties passwordEncodingProperties,
+                                           PasswordHashingProperties passwordHashingProperties,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                PasswordEncoders.create(passwordEncodingProperties), passwordHashingProperties, meterRegistry);
     }
 
     /**
@@ -1,14 +1,17 @@
 package com.restaurant.auth.auth_service.config;
 
+import com.restaurant.auth.auth_service.dto.RegisterRequest;
+import com.restaurant.auth.auth_service.dto.UserImportResponse;
+import com.restaurant.auth.auth_service.dto.UserImportResult;
 import com.restaurant.auth.auth_service.entity.Role;
-import com.restaurant.auth.auth_service.entity.UserEntity;
 import com.restaurant.auth.auth_service.repository.UserRepository;
+import com.restaurant.auth.auth_service.service.UserImportService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Random;
 import java.util.stream.IntStream;
 
@@ -18,6 +21,8 @@ import java.util.stream.IntStream;
  * <p>
  * This is mainly for development/testing purposes when using an in-memory
  * database like H2. Each generated user has a unique email and random names.
+ * The users are created through {@link UserImportService}, the same path as the
+ * bulk import endpoint.
  * </p>
  */
 @Configuration
@@ -35,31 +40,28 @@ public class UserInitializer {
     };
 
     @Bean
-    public CommandLineRunner initTestUsers(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public CommandLineRunner initTestUsers(UserRepository userRepository, UserImportService userImportService) {
         return args -> {
             if (userRepository.count() < 2) { // only admin exists
                 log.info("Creating 10 random USER accounts...");
 
                 Random random = new Random();
 
-                IntStream.range(0, 10).forEach(i -> {
-                    String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-                    String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-                    String email = firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@example.com";
+                List<RegisterRequest> users = IntStream.range(0, 10)
+                        .mapToObj(i -> {
+                            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                            String email = firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@example.com";
+                            String phoneNumber = "050" + (1000000 + random.nextInt(8999999));
+                            return new RegisterRequest(email, "Password@123", firstName, lastName, phoneNumber, Role.USER.name()); // default password
+                        })
+                        .toList();
 
-                    if (userRepository.findByEmail(email).isEmpty()) {
-                        UserEntity user = new UserEntity();
-                        user.setFirstName(firstName);
-                        user.setLastName(lastName);
-                        user.setEmail(email);
-                        user.setPhoneNumber("050" + (1000000 + random.nextInt(8999999)));
-                        user.setPassword(passwordEncoder.encode("Password@123")); // default password
-                        user.setRole(Role.USER);
-
-                        userRepository.save(user);
-                        log.info("Created user: {} {}", firstName, lastName);
-                    }
-                });
+                UserImportResponse response = userImportService.importUsers(users);
+                response.getResults().stream()
+                        .filter(result -> result.getStatus() != UserImportResult.Status.CREATED)
+                        .forEach(result -> log.warn("Skipped user {}: {}", result.getEmail(), result.getMessage()));
+                log.info("Created {} random USER accounts", response.getCreated());
             } else {
                 log.info("Users already exist. Skipping random user creation.");
             }
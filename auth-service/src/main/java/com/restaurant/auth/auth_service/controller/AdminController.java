@@ -3,6 +3,7 @@ package com.restaurant.auth.auth_service.controller;
 import com.restaurant.auth.auth_service.dto.*;
 import com.restaurant.auth.auth_service.entity.Role;
 import com.restaurant.auth.auth_service.service.AdminService;
+import com.restaurant.auth.auth_service.service.UserImportService;
 import com.restaurant.auth.auth_service.util.AuthorizationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,9 +11,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -23,8 +27,9 @@ import java.util.List;
  * <ul>
  *     <li>Updating user roles</li>
  *     <li>Retrieving all users (excluding the current admin)</li>
+ *     <li>Retrieving users page by page (keyset pagination)</li>
  *     <li>Deleting users</li>
- *     <li>Registering new users</li>
+ *     <li>Registering new users, one at a time or in bulk</li>
  * </ul>
  * </p>
  *
@@ -38,7 +43,12 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class AdminController {
 
+    // ==================== CONSTANTS ====================
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final AdminService adminService;
+    private final UserImportService userImportService;
     private final AuthorizationUtil authorizationUtil;
 
     // ---------------------------------------------------------------------
@@ -94,6 +104,40 @@ public class AdminController {
         return ResponseEntity.ok(new UsersWithRolesResponse(users, roles));
     }
 
+    // ---------------------------------------------------------------------
+    // Endpoint: Retrieve Users Page
+    // ---------------------------------------------------------------------
+
+    /**
+     * Retrieves one page of users excluding the currently authenticated admin.
+     *
+     * <p>Only accessible to users with the ADMIN role.</p>
+     * <p>Pass the returned {@code nextCursor} back as {@code cursor} to fetch the following page;
+     * a {@code null} {@code nextCursor} marks the last page.</p>
+     *
+     * @param userRole  the role of the authenticated user (from request header)
+     * @param userEmail the email of the authenticated user (from request header)
+     * @param size      page size, clamped to 1..{@value #MAX_PAGE_SIZE}
+     * @param sort      sort order ({@code NAME} or {@code ID})
+     * @param role      optional role filter
+     * @param cursor    the {@code nextCursor} of the previous page, omitted for the first page
+     * @return {@link ResponseEntity} containing a {@link UserPageResponse}
+     */
+    @GetMapping("/users/page")
+    @Operation(summary = "Get users page", description = "Retrieves one keyset-paginated page of users excluding the currently authenticated admin, optionally filtered by role. Requires ADMIN role.")
+    public ResponseEntity<UserPageResponse> getUsersPage(
+            @RequestHeader("X-User-Role") String userRole,
+            @RequestHeader("X-User-Email") String userEmail,
+            @RequestParam(value = "size", defaultValue = "50") int size,
+            @RequestParam(value = "sort", defaultValue = "NAME") UserSort sort,
+            @RequestParam(value = "role", required = false) Role role,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        authorizationUtil.checkRole(userRole, "ADMIN");
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(adminService.getUsersPage(userEmail, role, sort, cursor, pageSize));
+    }
+
     // ---------------------------------------------------------------------
     // Endpoint: Delete User
     // ---------------------------------------------------------------------
@@ -118,6 +162,38 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
+    // ---------------------------------------------------------------------
+    // Endpoint: Bulk Import Users
+    // ---------------------------------------------------------------------
+
+    /**
+     * Registers many users from a CSV or NDJSON request body.
+     *
+     * <p>Only accessible to users with the ADMIN role.</p>
+     * <p>CSV input needs a header row with the columns {@code email, password, firstName, lastName,
+     * phoneNumber, role}; NDJSON input has one {@link RegisterRequest} object per line.</p>
+     * <p>Rows are validated like {@code /register}; invalid or duplicate rows are reported
+     * individually and do not stop the import.</p>
+     *
+     * @param userRole    the role of the authenticated user (from request header)
+     * @param contentType {@code text/csv} or {@code application/x-ndjson}
+     * @param body        the rows to import
+     * @return {@link ResponseEntity} containing a {@link UserImportResponse} with one result per row
+     */
+    @PostMapping(value = "/users/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Bulk import users", description = "Registers users from a CSV (text/csv) or NDJSON (application/x-ndjson) body and returns one result per row. Requires ADMIN role.")
+    public ResponseEntity<UserImportResponse> importUsers(
+            @RequestHeader("X-User-Role") String userRole,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        authorizationUtil.checkRole(userRole, "ADMIN");
+        UserImportService.Format format = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? UserImportService.Format.NDJSON
+                : UserImportService.Format.CSV;
+        return ResponseEntity.ok(userImportService.importUsers(body, format));
+    }
+
     // ---------------------------------------------------------------------
     // Endpoint: Register New User
     // ---------------------------------------------------------------------
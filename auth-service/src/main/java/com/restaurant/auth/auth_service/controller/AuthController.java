@@ -2,11 +2,17 @@ package com.restaurant.auth.auth_service.controller;
 
 import com.restaurant.auth.auth_service.dto.*;
 import com.restaurant.auth.auth_service.service.AuthService;
+import com.restaurant.auth.auth_service.service.ProfileCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
  *     <li>User login</li>
  *     <li>Password change</li>
  *     <li>Retrieving user details</li>
+ *     <li>Retrieving the user's profile with ETag revalidation</li>
  * </ul>
  * </p>
  *
@@ -31,6 +38,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Authentication", description = "Authentication endpoints for user login, password management, and user details")
 public class AuthController {
 
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    // Clients may keep the profile but must revalidate it with If-None-Match before reuse
+    private static final CacheControl PROFILE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final AuthService authService;
 
     // ---------------------------------------------------------------------
@@ -42,13 +53,16 @@ public class AuthController {
      *
      * <p>On successful authentication, returns a JWT token and user details that can be used for subsequent requests and to display user information.</p>
      *
-     * @param request the login request containing user credentials (validated)
+     * <p>Repeated failures for the same email or client IP are throttled with HTTP 429.</p>
+     *
+     * @param request     the login request containing user credentials (validated)
+     * @param httpRequest the servlet request, used to resolve the client IP
      * @return {@link ResponseEntity} containing an {@link AuthResponse} with a JWT token and user details
      */
     @PostMapping("/login")
-    @Operation(summary = "User login", description = "Authenticates a user and returns a JWT token with user details")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse authResponse = authService.login(request.getEmail(), request.getPassword());
+    @Operation(summary = "User login", description = "Authenticates a user and returns a JWT token with user details. Returns 429 after too many recent failures.")
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        AuthResponse authResponse = authService.login(request.getEmail(), request.getPassword(), clientIp(httpRequest));
         return ResponseEntity.ok(authResponse);
     }
 
@@ -61,16 +75,18 @@ public class AuthController {
      *
      * <p>Requires a valid combination of email, old password, and new password.</p>
      *
-     * @param request the request body containing email, old password, and new password (validated)
+     * @param request     the request body containing email, old password, and new password (validated)
+     * @param httpRequest the servlet request, used to resolve the client IP
      * @return {@link ResponseEntity} with HTTP 204 (No Content) upon successful password change
      */
     @PostMapping("/changePassword")
     @Operation(summary = "Change password", description = "Changes the user's password. Requires email, old password, and new password")
-    public ResponseEntity<Void> changePassword(@Valid @RequestBody ChangePasswordRequest request) {
+    public ResponseEntity<Void> changePassword(@Valid @RequestBody ChangePasswordRequest request, HttpServletRequest httpRequest) {
         authService.changePassword(
                 request.getEmail(),
                 request.getOldPassword(),
-                request.getNewPassword()
+                request.getNewPassword(),
+                clientIp(httpRequest)
         );
         return ResponseEntity.noContent().build();
     }
@@ -93,4 +109,88 @@ public class AuthController {
         UserResponse userResponse = authService.getUserByEmail(userEmail);
         return ResponseEntity.ok(userResponse);
     }
+
+    // ---------------------------------------------------------------------
+    // Endpoint: Get Profile (Conditional)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Retrieves the authenticated user's profile with support for conditional requests.
+     *
+     * <p>Returns the same body as {@code /auth/user}, plus a strong {@code ETag}. A request whose
+     * {@code If-None-Match} contains the current ETag is answered with 304 (Not Modified) and no body.
+     * Both answers come from a cache of serialized profiles, so the database is not touched.</p>
+     *
+     * @param userEmail   the user's email address extracted from the JWT token
+     * @param ifNoneMatch ETags the client already holds, if any
+     * @return {@link ResponseEntity} with the serialized {@link UserResponse}, or 304 if it is unchanged
+     */
+    @GetMapping(value = "/profile", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get user profile", description = "Retrieves the authenticated user's profile with an ETag; returns 304 when If-None-Match matches. Requires JWT token in Authorization header")
+    public ResponseEntity<byte[]> getProfile(
+            @RequestHeader("X-User-Email") String userEmail,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        ProfileCache.Snapshot profile = authService.getProfile(userEmail);
+        if (etagMatches(ifNoneMatch, profile.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(profile.etag())
+                    .cacheControl(PROFILE_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(profile.etag())
+                .cacheControl(PROFILE_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(profile.body());
+    }
+
+    // ---------------------------------------------------------------------
+    // Helper Methods
+    // ---------------------------------------------------------------------
+
+    /**
+     * Resolves the original client IP.
+     *
+     * <p>Requests normally arrive through the API Gateway, which appends the address of the
+     * connection it received to {@code X-Forwarded-For}. Only that last entry is trusted; the
+     * entries before it are sent by the client and can be anything.</p>
+     *
+     * @param request the servlet request
+     * @return the client IP address
+     */
+    private String clientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String lastHop = forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+            if (!lastHop.isEmpty()) {
+                return lastHop;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the current ETag, using the weak
+     * comparison that RFC 9110 prescribes for this header.
+     *
+     * @param ifNoneMatch the header value, possibly {@code null} or a comma-separated list
+     * @param etag        the current strong ETag, including quotes
+     * @return {@code true} if the client's copy is current
+     */
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,102 @@
+package com.restaurant.auth.auth_service.controller;
+
+import com.restaurant.auth.auth_service.dto.SecurityEventsResponse;
+import com.restaurant.auth.auth_service.service.SecurityEventFeed;
+import com.restaurant.auth.auth_service.util.AuthorizationUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller that exposes the ordered feed of security-relevant user changes.
+ *
+ * <p>
+ * Publishes password changes, role changes and user deletions with monotonically
+ * increasing sequence numbers within an epoch, either as a "since sequence N" poll or as a
+ * Server-Sent Events stream.
+ * </p>
+ *
+ * <p><b>Access Control:</b> Internal endpoints for other services, which the API Gateway does not
+ * route for clients. Requests forwarded on behalf of a user require the ADMIN role.</p>
+ */
+@RestController
+@RequestMapping("/auth/events")
+@RequiredArgsConstructor
+@Tag(name = "Security Events", description = "Ordered feed of password changes, role changes and user deletions for internal service use")
+public class SecurityEventController {
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final char EVENT_ID_SEPARATOR = '-';
+
+    private final SecurityEventFeed securityEventFeed;
+    private final AuthorizationUtil authorizationUtil;
+
+    // ---------------------------------------------------------------------
+    // Endpoint: Poll Events
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns all retained events with a sequence greater than {@code since}.
+     *
+     * @param userRole the role of the forwarded user (from request header), or {@code null} for internal callers
+     * @param since    the last sequence the caller has processed (defaults to 0)
+     * @param epoch    the epoch of the caller's last response
+     * @return {@link ResponseEntity} containing a {@link SecurityEventsResponse}
+     */
+    @GetMapping
+    @Operation(summary = "Poll security events", description = "Returns security events with a sequence greater than 'since', the epoch and latest sequence, and whether any events after 'since' were lost.")
+    public ResponseEntity<SecurityEventsResponse> getEvents(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "epoch", defaultValue = "0") long epoch
+    ) {
+        authorizationUtil.checkInternalCallerOrRole(userRole, "ADMIN");
+        return ResponseEntity.ok(securityEventFeed.getEventsSince(since, epoch));
+    }
+
+    // ---------------------------------------------------------------------
+    // Endpoint: Stream Events (SSE)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Opens a Server-Sent Events stream of security events.
+     *
+     * <p>
+     * Retained events after the resume point are replayed first. The resume point is the
+     * {@code Last-Event-ID} header ({@code <epoch>-<sequence>}) sent by reconnecting clients,
+     * or the {@code since} and {@code epoch} parameters for the first connection.
+     * </p>
+     *
+     * @param userRole    the role of the forwarded user (from request header), or {@code null} for internal callers
+     * @param lastEventId the {@code Last-Event-ID} header, if the client is reconnecting
+     * @param since       the last sequence the caller has processed (defaults to 0)
+     * @param epoch       the epoch {@code since} belongs to
+     * @return the {@link SseEmitter} backing the stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream security events", description = "Server-Sent Events stream of security events. Supports resuming with the Last-Event-ID header.")
+    public SseEmitter streamEvents(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "epoch", defaultValue = "0") long epoch
+    ) {
+        authorizationUtil.checkInternalCallerOrRole(userRole, "ADMIN");
+        if (lastEventId != null) {
+            int separator = lastEventId.indexOf(EVENT_ID_SEPARATOR);
+            try {
+                epoch = Long.parseLong(lastEventId.substring(0, Math.max(separator, 0)));
+                since = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                // Not an id of this feed: replay everything retained
+                epoch = 0;
+                since = 0;
+            }
+        }
+        return securityEventFeed.subscribe(since, epoch);
+    }
+}
@@ -1,9 +1,15 @@
 package com.restaurant.auth.auth_service.controller;
 
+import com.restaurant.auth.auth_service.dto.BatchTokenValidationRequest;
+import com.restaurant.auth.auth_service.dto.BatchTokenValidationResponse;
+import com.restaurant.auth.auth_service.dto.RevocationsResponse;
 import com.restaurant.auth.auth_service.dto.TokenValidationRequest;
+import com.restaurant.auth.auth_service.service.RevocationRegistry;
 import com.restaurant.auth.auth_service.service.TokenValidationService;
+import com.restaurant.auth.auth_service.util.AuthorizationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,11 +19,12 @@ import org.springframework.web.bind.annotation.*;
  *
  * <p>
  * Verifies whether a JWT token remains valid based on the token's
- * {@code issuedAt} timestamp and the user's last password modification date.
+ * {@code issuedAt} timestamp and the user's last password modification date,
+ * and publishes the revocation registry for in-memory checks.
  * </p>
  *
- * <p><b>Access Control:</b> Typically used internally by other services
- * to validate authentication state.</p>
+ * <p><b>Access Control:</b> Internal endpoints for other services such as the API Gateway, which
+ * does not route them for clients. Requests forwarded on behalf of a user require the ADMIN role.</p>
  */
 @RestController
 @RequestMapping("/auth")
@@ -26,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class TokenController {
 
     private final TokenValidationService tokenValidationService;
+    private final RevocationRegistry revocationRegistry;
+    private final AuthorizationUtil authorizationUtil;
 
     // ---------------------------------------------------------------------
     // Endpoint: Validate Token Timestamp
@@ -40,6 +49,7 @@ public class TokenController {
      * it is considered outdated and access should be denied.
      * </p>
      *
+     * @param userRole the role of the forwarded user (from request header), or {@code null} for internal callers
      * @param request the {@link TokenValidationRequest} containing the user's email
      *                and the token's issued timestamp
      * @return {@link ResponseEntity} containing:
@@ -50,7 +60,68 @@ public class TokenController {
      */
     @PostMapping("/validateTokenTimestamp")
     @Operation(summary = "Validate token timestamp", description = "Validates a JWT token by comparing its issued timestamp with the user's last password modification date. Returns 200 if valid, 403 if outdated.")
-    public ResponseEntity<String> validateTokenIssuedAt(@RequestBody TokenValidationRequest request) {
+    public ResponseEntity<String> validateTokenIssuedAt(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestBody TokenValidationRequest request
+    ) {
+        authorizationUtil.checkInternalCallerOrRole(userRole, "ADMIN");
         return tokenValidationService.validateToken(request);
     }
+
+    // ---------------------------------------------------------------------
+    // Endpoint: Validate Token Timestamps (Batch)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Validates many JWT tokens in a single call.
+     *
+     * <p>
+     * Used by the API Gateway to coalesce pending checks when it is busy.
+     * Every entry gets its own verdict ({@code VALID}, {@code OUTDATED} or
+     * {@code USER_NOT_FOUND}) together with the user's last password
+     * modification timestamp.
+     * </p>
+     *
+     * @param userRole the role of the forwarded user (from request header), or {@code null} for internal callers
+     * @param request the {@link BatchTokenValidationRequest} containing the (email, issuedAt) pairs
+     * @return {@link ResponseEntity} with HTTP 200 (OK) and one verdict per entry, in request order
+     */
+    @PostMapping("/validateTokenTimestamps")
+    @Operation(summary = "Validate token timestamps in batch", description = "Validates many JWT tokens in one call. Returns a per-entry verdict and the user's last password modification date, in request order.")
+    public ResponseEntity<BatchTokenValidationResponse> validateTokensIssuedAt(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @Valid @RequestBody BatchTokenValidationRequest request
+    ) {
+        authorizationUtil.checkInternalCallerOrRole(userRole, "ADMIN");
+        return ResponseEntity.ok(tokenValidationService.validateTokens(request));
+    }
+
+    // ---------------------------------------------------------------------
+    // Endpoint: Revocation Sync
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns the token revocation entries, either as changes since a previous sync or as a full snapshot.
+     *
+     * <p>
+     * Each entry is the minimum {@code sv} claim still accepted for a user id. Clients keep a copy,
+     * check tokens against it in memory and poll this endpoint with the {@code sequence} and
+     * {@code epoch} of their last response.
+     * </p>
+     *
+     * @param userRole the role of the forwarded user (from request header), or {@code null} for internal callers
+     * @param since the last sequence the client has applied, or 0 for a full snapshot
+     * @param epoch the epoch of the client's last response
+     * @return {@link ResponseEntity} containing a {@link RevocationsResponse}
+     */
+    @GetMapping("/revocations")
+    @Operation(summary = "Sync token revocations", description = "Returns per-user minimum token security versions, as a delta since the given sequence or as a full snapshot.")
+    public ResponseEntity<RevocationsResponse> getRevocations(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "epoch", defaultValue = "0") long epoch
+    ) {
+        authorizationUtil.checkInternalCallerOrRole(userRole, "ADMIN");
+        return ResponseEntity.ok(revocationRegistry.getRevocationsSince(since, epoch));
+    }
 }
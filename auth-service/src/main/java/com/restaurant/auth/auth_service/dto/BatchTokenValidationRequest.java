@@ -0,0 +1,33 @@
+package com.restaurant.auth.auth_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) used for validating many JWT tokens in a single call.
+ *
+ * <p>
+ * Each entry carries the same (email, issuedAt) pair as a single
+ * {@link TokenValidationRequest}. The API Gateway coalesces pending checks into
+ * one batch when it is busy.
+ * </p>
+ */
+@Data
+@NoArgsConstructor      // Required for JSON deserialization
+@AllArgsConstructor     // Convenient for creating instances manually
+public class BatchTokenValidationRequest {
+
+    /**
+     * The tokens to validate.
+     * <p>Must contain between 1 and 500 entries.</p>
+     */
+    @NotEmpty(message = "At least one token is required")
+    @Size(max = 500, message = "At most 500 tokens can be validated per batch")
+    private List<@Valid TokenValidationRequest> tokens;
+}
@@ -0,0 +1,23 @@
+package com.restaurant.auth.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) returned by the batch token validation endpoint.
+ *
+ * <p>
+ * Contains one {@link TokenValidationResult} per request entry, in request order.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTokenValidationResponse {
+
+    /** Per-entry verdicts in request order */
+    private List<TokenValidationResult> results;
+}
@@ -0,0 +1,39 @@
+package com.restaurant.auth.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) returned by the revocation sync endpoint.
+ *
+ * <p>
+ * Each entry maps a user id to the minimum token security version ({@code sv} claim) that is
+ * still accepted for that user; users without an entry accept every version. Entries are
+ * encoded as two parallel arrays to keep the payload compact.
+ * </p>
+ *
+ * <p><b>Usage:</b> When {@code full} is {@code true} the entries replace the client's copy;
+ * otherwise they are changes since the requested sequence and are merged by keeping the
+ * larger version per user. Pass {@code sequence} and {@code epoch} back on the next call.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationsResponse {
+
+    /** Identifies the registry instance; a different epoch means the client must resync fully */
+    private long epoch;
+
+    /** Sequence number of the latest change included in this response */
+    private long sequence;
+
+    /** Whether the entries are a full snapshot rather than a delta */
+    private boolean full;
+
+    /** User ids, parallel to {@code minVersions} */
+    private long[] userIds;
+
+    /** Minimum accepted security version per user, parallel to {@code userIds} */
+    private long[] minVersions;
+}
@@ -0,0 +1,57 @@
+package com.restaurant.auth.auth_service.dto;
+
+import com.restaurant.auth.auth_service.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) describing a security-relevant change to a user account.
+ *
+ * <p>
+ * Events are published to the security event feed with a monotonically increasing
+ * {@code sequence}, so consumers can resume from the last sequence they processed
+ * and keep local state (such as cached password timestamps) correct without a
+ * per-request round trip.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecurityEvent {
+
+    /**
+     * Types of security-relevant user changes.
+     */
+    public enum Type {
+        /** The user's password was changed; tokens issued before {@code passwordModifiedDate} are outdated. */
+        PASSWORD_CHANGED,
+        /** The user's role was changed; {@code role} carries the new role. */
+        ROLE_CHANGED,
+        /** The user was deleted; all of their tokens are outdated. */
+        USER_DELETED
+    }
+
+    /** Position of this event in the feed; strictly increasing */
+    private long sequence;
+
+    /** The kind of change */
+    private Type type;
+
+    /** The affected user's ID */
+    private Long userId;
+
+    /** The affected user's email (JWT subject) */
+    private String email;
+
+    /** The user's new role, set for {@link Type#ROLE_CHANGED} only */
+    private Role role;
+
+    /** The user's new password modification timestamp, set for {@link Type#PASSWORD_CHANGED} only */
+    private Instant passwordModifiedDate;
+
+    /** When the change was recorded */
+    private Instant occurredAt;
+}
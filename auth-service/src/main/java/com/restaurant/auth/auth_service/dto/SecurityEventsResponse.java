@@ -0,0 +1,35 @@
+package com.restaurant.auth.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) returned by the security event polling endpoint.
+ *
+ * <p>
+ * Consumers pass {@code latestSequence} and {@code epoch} back as {@code since} and {@code epoch}
+ * on their next poll. If {@code complete} is {@code false}, events after the requested sequence were
+ * already dropped from the feed, or the feed was restarted since, and the consumer must discard its
+ * local state before applying {@code events}.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecurityEventsResponse {
+
+    /** Identifies the feed instance; sequences of different epochs are unrelated */
+    private long epoch;
+
+    /** Events with a sequence greater than the requested one, in order */
+    private List<SecurityEvent> events;
+
+    /** The highest sequence published so far, or 0 if the feed is empty */
+    private long latestSequence;
+
+    /** Whether {@code events} contains every event after the requested sequence */
+    private boolean complete;
+}
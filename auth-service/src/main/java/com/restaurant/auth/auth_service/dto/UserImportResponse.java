@@ -0,0 +1,32 @@
+package com.restaurant.auth.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) returned by the bulk user import endpoint.
+ *
+ * <p>
+ * Contains one {@link UserImportResult} per input row, in input order.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponse {
+
+    /** Number of users created */
+    private int created;
+
+    /** Number of rows that were not created */
+    private int rejected;
+
+    /** Whether the input exceeded the row limit and its remainder was ignored */
+    private boolean truncated;
+
+    /** Per-row outcomes in input order */
+    private List<UserImportResult> results;
+}
@@ -0,0 +1,40 @@
+package com.restaurant.auth.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of one row of a bulk user import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+
+    /**
+     * Possible outcomes for a single row.
+     */
+    public enum Status {
+        /** The user was created. */
+        CREATED,
+        /** The email or phone number is already taken, or repeats an earlier row. */
+        DUPLICATE,
+        /** The row could not be parsed or failed validation. */
+        INVALID,
+        /** The row was valid but could not be stored; it may be retried. */
+        FAILED
+    }
+
+    /** Line number of the row in the input (1-based, including the CSV header) */
+    private int line;
+
+    /** The email address of the row, or {@code null} if it could not be parsed */
+    private String email;
+
+    /** The outcome for this row */
+    private Status status;
+
+    /** Reason the row was not created, or {@code null} if it was */
+    private String message;
+}
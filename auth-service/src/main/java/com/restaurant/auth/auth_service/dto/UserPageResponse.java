@@ -0,0 +1,28 @@
+package com.restaurant.auth.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of the admin user listing.
+ *
+ * <p>Pages are addressed by an opaque cursor rather than an offset, so fetching any
+ * page costs the same regardless of how deep into the listing it is.</p>
+ *
+ * <p><b>Usage:</b> Pass {@code nextCursor} back as the {@code cursor} parameter, with the
+ * same {@code sort} and {@code role}, to fetch the following page.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageResponse {
+
+    /** Users on this page, in the requested order */
+    private List<UserDetailsDto> users;
+
+    /** Cursor for the next page, or {@code null} if this is the last page */
+    private String nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.restaurant.auth.auth_service.dto;
+
+/**
+ * Projection of a user's id and security version.
+ *
+ * <p>Used to rebuild the revocation registry without loading full user entities.</p>
+ */
+public interface UserSecurityVersion {
+
+    /** The unique identifier of the user */
+    Long getId();
+
+    /** The user's current security version */
+    long getSecurityVersion();
+}
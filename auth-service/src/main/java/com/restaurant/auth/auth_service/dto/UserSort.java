@@ -0,0 +1,13 @@
+package com.restaurant.auth.auth_service.dto;
+
+/**
+ * Sort orders supported by the paginated admin user listing.
+ */
+public enum UserSort {
+
+    /** Alphabetical by last name, then first name; ties broken by ID */
+    NAME,
+
+    /** By ascending user ID, which follows creation order */
+    ID
+}
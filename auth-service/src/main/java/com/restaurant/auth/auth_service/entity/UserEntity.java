@@ -19,7 +19,12 @@ import java.util.List;
  * enabling direct use for authentication and authorization purposes.</p>
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Keyset pagination of the admin user listing (see UserRepository.findDetailsPage*)
+        @Index(name = "idx_users_name", columnList = "last_name, first_name, id"),
+        @Index(name = "idx_users_role_name", columnList = "role, last_name, first_name, id"),
+        @Index(name = "idx_users_role_id", columnList = "role, id")
+})
 @Data
 public class UserEntity implements UserDetails {
 
@@ -58,6 +63,13 @@ public class UserEntity implements UserDetails {
     @Column(nullable = false)
     private Instant passwordModifiedDate = Instant.now();
 
+    /**
+     * Security version embedded in issued tokens; incremented when the user's existing tokens
+     * must stop being accepted, e.g. after a password change
+     */
+    @Column(nullable = false)
+    private long securityVersion = 0;
+
     /** Role assigned to the user (e.g., ADMIN, USER, SUPERVISOR) */
     @Enumerated(EnumType.STRING)
     private Role role;
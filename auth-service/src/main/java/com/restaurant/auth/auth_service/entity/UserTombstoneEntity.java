@@ -0,0 +1,34 @@
+package com.restaurant.auth.auth_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Records that a user was deleted.
+ *
+ * <p>A deleted user has no row in {@code users} any more, so the tombstone is what lets the
+ * {@link com.restaurant.auth.auth_service.service.RevocationRegistry} keep rejecting the user's
+ * outstanding tokens after a restart.</p>
+ */
+@Entity
+@Table(name = "user_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTombstoneEntity {
+
+    /** ID the deleted user had; IDs are never reused */
+    @Id
+    private Long userId;
+
+    /** When the user was deleted */
+    @Column(nullable = false)
+    private Instant deletedDate;
+}
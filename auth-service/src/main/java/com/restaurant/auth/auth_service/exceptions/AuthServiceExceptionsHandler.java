@@ -1,15 +1,15 @@
 package com.restaurant.auth.auth_service.exceptions;
 
+import com.restaurant.common.exception.ErrorResponse;
 import com.restaurant.common.exception.GlobalExceptionHandler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.Map;
-
 /**
  * Centralized exception handler for authentication and authorization-related errors.
  *
@@ -43,8 +43,8 @@ public class AuthServiceExceptionsHandler extends GlobalExceptionHandler {
      * @return a {@link ResponseEntity} containing the error message and status code
      */
     @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidCredentials(InvalidCredentialsException ex) {
-        return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Unauthorized", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleInvalidCredentials(InvalidCredentialsException ex) {
+        return buildErrorResponse(ex, HttpStatus.UNAUTHORIZED, "Unauthorized", ex.getMessage());
     }
 
     // ---------------------------------------------------------------------
@@ -62,8 +62,8 @@ public class AuthServiceExceptionsHandler extends GlobalExceptionHandler {
      * @return a {@link ResponseEntity} containing the error message and status code
      */
     @ExceptionHandler(UserAlreadyExistsException.class)
-    public ResponseEntity<Map<String, Object>> handleUserAlreadyExists(UserAlreadyExistsException ex) {
-        return buildErrorResponse(HttpStatus.CONFLICT, "Conflict", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleUserAlreadyExists(UserAlreadyExistsException ex) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, "Conflict", ex.getMessage());
     }
 
     // ---------------------------------------------------------------------
@@ -82,7 +82,55 @@ public class AuthServiceExceptionsHandler extends GlobalExceptionHandler {
      * @return a {@link ResponseEntity} containing a safe, standardized error message
      */
     @ExceptionHandler(AuthenticationException.class)
-    public ResponseEntity<Map<String, Object>> handleSpringAuthException(AuthenticationException ex) {
-        return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Unauthorized", "Invalid email or password");
+    public ResponseEntity<ErrorResponse> handleSpringAuthException(AuthenticationException ex) {
+        return buildErrorResponse(ex, HttpStatus.UNAUTHORIZED, "Unauthorized", "Invalid email or password");
+    }
+
+    // ---------------------------------------------------------------------
+    // Password Hashing Saturated
+    // ---------------------------------------------------------------------
+
+    /**
+     * Handles requests rejected because the password hashing executor is saturated.
+     *
+     * <p>
+     * Returns an HTTP 503 (Service Unavailable) with a {@code Retry-After} header so clients
+     * back off instead of adding more hashing work during a login storm.
+     * </p>
+     *
+     * @param ex the {@link PasswordHashingUnavailableException} thrown by the password encoder
+     * @return a {@link ResponseEntity} containing the error message, status code and retry hint
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        ResponseEntity<ErrorResponse> response =
+                buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    // ---------------------------------------------------------------------
+    // Login Throttled
+    // ---------------------------------------------------------------------
+
+    /**
+     * Handles login attempts rejected by brute-force throttling.
+     *
+     * <p>
+     * Returns an HTTP 429 (Too Many Requests) with a {@code Retry-After} header.
+     * No password hashing was performed for the rejected attempt.
+     * </p>
+     *
+     * @param ex the {@link LoginThrottledException} thrown before authentication
+     * @return a {@link ResponseEntity} containing the error message, status code and retry hint
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ErrorResponse> handleLoginThrottled(LoginThrottledException ex) {
+        ResponseEntity<ErrorResponse> response =
+                buildErrorResponse(ex, HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
     }
 }
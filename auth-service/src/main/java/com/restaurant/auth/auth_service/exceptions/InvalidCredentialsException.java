@@ -1,10 +1,12 @@
 package com.restaurant.auth.auth_service.exceptions;
 
+import com.restaurant.common.exception.DomainException;
+
 /**
  * Exception thrown when authentication fails due to invalid credentials,
  * such as an incorrect email or password.
  */
-public class InvalidCredentialsException extends RuntimeException {
+public class InvalidCredentialsException extends DomainException {
 
     /**
      * Creates a new InvalidCredentialsException with the given error message.
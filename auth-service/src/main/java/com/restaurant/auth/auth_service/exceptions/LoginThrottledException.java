@@ -0,0 +1,31 @@
+package com.restaurant.auth.auth_service.exceptions;
+
+import com.restaurant.common.exception.DomainException;
+import lombok.Getter;
+
+/**
+ * Exception thrown when a login attempt is rejected because the email or client IP
+ * has exceeded the allowed number of recent failures.
+ *
+ * <p>
+ * Mapped to HTTP 429 (Too Many Requests) with a {@code Retry-After} header.
+ * The attempt is rejected before any password hashing takes place.
+ * </p>
+ */
+@Getter
+public class LoginThrottledException extends DomainException {
+
+    /** Suggested number of seconds the client should wait before retrying */
+    private final long retryAfterSeconds;
+
+    /**
+     * Creates a new LoginThrottledException with the given error message.
+     *
+     * @param message           the detail message describing the rejection
+     * @param retryAfterSeconds suggested number of seconds before retrying
+     */
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,31 @@
+package com.restaurant.auth.auth_service.exceptions;
+
+import com.restaurant.common.exception.DomainException;
+import lombok.Getter;
+
+/**
+ * Exception thrown when password hashing work is rejected because the dedicated
+ * hashing executor is saturated.
+ *
+ * <p>
+ * Mapped to HTTP 503 (Service Unavailable) with a {@code Retry-After} header so
+ * clients back off instead of piling more work onto a busy service.
+ * </p>
+ */
+@Getter
+public class PasswordHashingUnavailableException extends DomainException {
+
+    /** Suggested number of seconds the client should wait before retrying */
+    private final long retryAfterSeconds;
+
+    /**
+     * Creates a new PasswordHashingUnavailableException with the given error message.
+     *
+     * @param message           the detail message describing why the work was rejected
+     * @param retryAfterSeconds suggested number of seconds before retrying
+     */
+    public PasswordHashingUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
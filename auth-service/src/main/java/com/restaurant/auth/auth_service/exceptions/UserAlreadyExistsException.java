@@ -1,6 +1,8 @@
 package com.restaurant.auth.auth_service.exceptions;
 
-public class UserAlreadyExistsException extends RuntimeException {
+import com.restaurant.common.exception.DomainException;
+
+public class UserAlreadyExistsException extends DomainException {
     public UserAlreadyExistsException(String message) {
         super(message);
     }
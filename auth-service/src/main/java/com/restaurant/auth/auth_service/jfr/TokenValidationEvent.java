@@ -0,0 +1,43 @@
+package com.restaurant.auth.auth_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for one single or batch call of {@code TokenValidationService}.
+ *
+ * <p>
+ * The event's duration is split into the user lookup (database or cache) and the rest, which is
+ * the timestamp comparison and response building. Token validation runs on every request the
+ * API Gateway cannot decide locally, so by default only calls slower than 1 ms are recorded.
+ * </p>
+ */
+@Name("restaurant.auth.TokenValidation")
+@Label("Token Validation")
+@Category({"Restaurant", "Auth"})
+@Description("Check of token issue times against the users' last password change")
+@StackTrace(false)
+@Threshold("1 ms")
+public class TokenValidationEvent extends jdk.jfr.Event {
+
+    @Label("User ID")
+    @Description("ID of the validated user, or 0 for batches and unknown users")
+    public long userId;
+
+    @Label("Token Count")
+    public int tokenCount;
+
+    @Label("Lookup Time")
+    @Description("Time spent resolving the user(s) from the cache or the database")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lookupTime;
+
+    @Label("Outcome")
+    @Description("VALID, OUTDATED, BATCH, or the simple name of the exception that was thrown")
+    public String outcome;
+}
@@ -1,8 +1,15 @@
 package com.restaurant.auth.auth_service.repository;
 
+import com.restaurant.auth.auth_service.dto.UserDetailsDto;
+import com.restaurant.auth.auth_service.dto.UserSecurityVersion;
+import com.restaurant.auth.auth_service.entity.Role;
 import com.restaurant.auth.auth_service.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,12 +28,12 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
 
     /**
-     * Retrieves all users except the one with the specified email.
+     * Finds all users whose email is in the given collection with a single {@code IN} query.
      *
-     * @param email the email to exclude
-     * @return list of users excluding the user with the given email
+     * @param emails the emails to search for
+     * @return the users found; emails without a matching user are simply absent
      */
-    List<UserEntity> findByEmailNot(String email);
+    List<UserEntity> findByEmailIn(Collection<String> emails);
 
     /**
      * Finds a user by their phone number.
@@ -35,4 +42,157 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      * @return an {@link Optional} containing the user if found, or empty if not
      */
     Optional<UserEntity> findByPhoneNumber(String phoneNumber);
+
+    /**
+     * Returns the id and security version of every user whose version is above the given one.
+     *
+     * @param securityVersion the version to compare against
+     * @return the matching users' ids and versions
+     */
+    List<UserSecurityVersion> findBySecurityVersionGreaterThan(long securityVersion);
+
+    // ---------------------------------------------------------------------
+    // Set-Based Uniqueness Checks
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns which of the given emails are already taken, with a single {@code IN} query.
+     *
+     * @param emails the emails to check
+     * @return the subset of {@code emails} that belong to existing users
+     */
+    @Query("select u.email from UserEntity u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Returns which of the given phone numbers are already taken, with a single {@code IN} query.
+     *
+     * @param phoneNumbers the phone numbers to check
+     * @return the subset of {@code phoneNumbers} that belong to existing users
+     */
+    @Query("select u.phoneNumber from UserEntity u where u.phoneNumber in :phoneNumbers")
+    List<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    // ---------------------------------------------------------------------
+    // Projected Listings
+    // ---------------------------------------------------------------------
+
+    /**
+     * Retrieves details of all users except the one with the specified email.
+     *
+     * <p>Selects only the columns {@link UserDetailsDto} needs, so password hashes are never loaded.</p>
+     *
+     * @param email the email to exclude
+     * @return user details excluding the user with the given email
+     */
+    @Query("""
+            select new com.restaurant.auth.auth_service.dto.UserDetailsDto(
+                u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.role, u.createdDate)
+            from UserEntity u
+            where u.email <> :email
+            """)
+    List<UserDetailsDto> findDetailsByEmailNot(@Param("email") String email);
+
+    /**
+     * Retrieves one page of user details ordered by last name, first name and ID,
+     * starting strictly after the given (lastName, firstName, id) key.
+     *
+     * <p>The key is compared as a row value, so the database seeks straight into
+     * {@code idx_users_name}.</p>
+     *
+     * @param excludedEmail email of the user to leave out (the current admin)
+     * @param lastName      last name of the previous page's final row, or {@code ""} for the first page
+     * @param firstName     first name of the previous page's final row, or {@code ""} for the first page
+     * @param id            ID of the previous page's final row, or {@code 0} for the first page
+     * @param limit         maximum number of rows to return
+     * @return user details in name order
+     */
+    @Query("""
+            select new com.restaurant.auth.auth_service.dto.UserDetailsDto(
+                u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.role, u.createdDate)
+            from UserEntity u
+            where (u.lastName, u.firstName, u.id) > (:lastName, :firstName, :id)
+              and u.email <> :excludedEmail
+            order by u.lastName, u.firstName, u.id
+            """)
+    List<UserDetailsDto> findDetailsPageByName(@Param("excludedEmail") String excludedEmail,
+                                               @Param("lastName") String lastName,
+                                               @Param("firstName") String firstName,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    /**
+     * Retrieves one page of user details with the given role, ordered by last name, first name and ID,
+     * starting strictly after the given (lastName, firstName, id) key.
+     *
+     * <p>The role equality plus the row-value key lets the database seek straight into
+     * {@code idx_users_role_name}.</p>
+     *
+     * @param excludedEmail email of the user to leave out (the current admin)
+     * @param role          role to filter by
+     * @param lastName      last name of the previous page's final row, or {@code ""} for the first page
+     * @param firstName     first name of the previous page's final row, or {@code ""} for the first page
+     * @param id            ID of the previous page's final row, or {@code 0} for the first page
+     * @param limit         maximum number of rows to return
+     * @return user details in name order
+     */
+    @Query("""
+            select new com.restaurant.auth.auth_service.dto.UserDetailsDto(
+                u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.role, u.createdDate)
+            from UserEntity u
+            where u.role = :role
+              and (u.lastName, u.firstName, u.id) > (:lastName, :firstName, :id)
+              and u.email <> :excludedEmail
+            order by u.lastName, u.firstName, u.id
+            """)
+    List<UserDetailsDto> findDetailsPageByRoleAndName(@Param("excludedEmail") String excludedEmail,
+                                                      @Param("role") Role role,
+                                                      @Param("lastName") String lastName,
+                                                      @Param("firstName") String firstName,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+
+    /**
+     * Retrieves one page of user details ordered by ID, starting strictly after the given ID.
+     *
+     * @param excludedEmail email of the user to leave out (the current admin)
+     * @param id            ID of the previous page's final row, or {@code 0} for the first page
+     * @param limit         maximum number of rows to return
+     * @return user details in ID order
+     */
+    @Query("""
+            select new com.restaurant.auth.auth_service.dto.UserDetailsDto(
+                u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.role, u.createdDate)
+            from UserEntity u
+            where u.id > :id
+              and u.email <> :excludedEmail
+            order by u.id
+            """)
+    List<UserDetailsDto> findDetailsPageById(@Param("excludedEmail") String excludedEmail,
+                                             @Param("id") Long id,
+                                             Limit limit);
+
+    /**
+     * Retrieves one page of user details with the given role, ordered by ID, starting strictly after
+     * the given ID. Served by {@code idx_users_role_id}.
+     *
+     * @param excludedEmail email of the user to leave out (the current admin)
+     * @param role          role to filter by
+     * @param id            ID of the previous page's final row, or {@code 0} for the first page
+     * @param limit         maximum number of rows to return
+     * @return user details in ID order
+     */
+    @Query("""
+            select new com.restaurant.auth.auth_service.dto.UserDetailsDto(
+                u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.role, u.createdDate)
+            from UserEntity u
+            where u.role = :role
+              and u.id > :id
+              and u.email <> :excludedEmail
+            order by u.id
+            """)
+    List<UserDetailsDto> findDetailsPageByRoleAndId(@Param("excludedEmail") String excludedEmail,
+                                                    @Param("role") Role role,
+                                                    @Param("id") Long id,
+                                                    Limit limit);
 }
@@ -0,0 +1,11 @@
+package com.restaurant.auth.auth_service.repository;
+
+import com.restaurant.auth.auth_service.entity.UserTombstoneEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for managing {@link UserTombstoneEntity} persistence.
+ * Extends {@link JpaRepository} to provide CRUD and query methods.
+ */
+public interface UserTombstoneRepository extends JpaRepository<UserTombstoneEntity, Long> {
+}
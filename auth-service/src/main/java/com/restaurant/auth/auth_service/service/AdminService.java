@@ -3,18 +3,25 @@ package com.restaurant.auth.auth_service.service;
 import com.restaurant.auth.auth_service.dto.RegisterRequest;
 import com.restaurant.auth.auth_service.dto.UpdateUserRequest;
 import com.restaurant.auth.auth_service.dto.UserDetailsDto;
+import com.restaurant.auth.auth_service.dto.UserPageResponse;
+import com.restaurant.auth.auth_service.dto.UserSort;
 import com.restaurant.auth.auth_service.entity.Role;
 import com.restaurant.auth.auth_service.entity.UserEntity;
+import com.restaurant.auth.auth_service.entity.UserTombstoneEntity;
 import com.restaurant.auth.auth_service.mapper.UserMapper;
 import com.restaurant.auth.auth_service.repository.UserRepository;
+import com.restaurant.auth.auth_service.repository.UserTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service that provides administrative operations for managing users and roles.
@@ -33,10 +40,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AdminService {
 
+    // ==================== CONSTANTS ====================
+    private static final String CURSOR_SEPARATOR = "\u0000";
+    private static final String INVALID_CURSOR_MSG = "Invalid cursor for the requested sort order";
+
     private final UserRepository userRepository;
     private final UserLookupService userLookupService;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final SecurityEventFeed securityEventFeed;
+    private final RevocationRegistry revocationRegistry;
+    private final UserTombstoneRepository userTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
 
     // ---------------------------------------------------------------------
     // Update User Information
@@ -48,6 +63,8 @@ public class AdminService {
      * <p>Updates the user's first name, last name, phone number, and role.
      * Email and password are not updated through this method.</p>
      *
+     * <p>Publishes a {@code ROLE_CHANGED} event if the role actually changed.</p>
+     *
      * @param request the {@link UpdateUserRequest} containing the user ID and updated information
      * @throws com.restaurant.common.exception.UserNotFoundException if the user does not exist
      */
@@ -57,6 +74,8 @@ public class AdminService {
         // Validate phone number uniqueness (excluding current user)
         userLookupService.validatePhoneNumberUniquenessExcludingUser(request.getPhoneNumber(), request.getId());
         
+        boolean roleChanged = user.getRole() != request.getRole();
+
         // Update user fields (excluding email and password)
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
@@ -64,6 +83,11 @@ public class AdminService {
         user.setRole(request.getRole());
         
         userRepository.save(user);
+        userLookupService.invalidate(user.getEmail());
+
+        if (roleChanged) {
+            securityEventFeed.publishRoleChanged(user);
+        }
     }
 
     // ---------------------------------------------------------------------
@@ -77,20 +101,82 @@ public class AdminService {
      * @return a list of {@link UserDetailsDto} excluding the current user
      */
     public List<UserDetailsDto> getAllUsersExcludingCurrent(String currentEmail) {
-        List<UserEntity> users = userRepository.findByEmailNot(currentEmail);
-        return mapToUserDetailsDtoList(users);
+        return userRepository.findDetailsByEmailNot(currentEmail);
     }
 
+    // ---------------------------------------------------------------------
+    // Retrieve Users Page (Keyset Pagination)
+    // ---------------------------------------------------------------------
+
     /**
-     * Maps a list of {@link UserEntity} objects to {@link UserDetailsDto} objects.
+     * Retrieves one page of users, excluding the currently logged-in user.
      *
-     * @param users list of user entities
-     * @return a list of user detail DTOs
+     * <p>
+     * Uses keyset pagination: the cursor holds the sort key of the previous page's last row,
+     * and the query seeks directly past it using an index, so every page costs the same
+     * no matter how far into the listing it is. Only the columns of {@link UserDetailsDto}
+     * are selected.
+     * </p>
+     *
+     * @param currentEmail the email address of the currently authenticated user
+     * @param role         role to filter by, or {@code null} for all roles
+     * @param sort         the sort order
+     * @param cursor       the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size         maximum number of users on the page
+     * @return a {@link UserPageResponse} with the users and the cursor for the next page
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort order
      */
-    private List<UserDetailsDto> mapToUserDetailsDtoList(List<UserEntity> users) {
-        return users.stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+    public UserPageResponse getUsersPage(String currentEmail, Role role, UserSort sort, String cursor, int size) {
+        String[] key = decodeCursor(cursor, sort);
+        Limit limit = Limit.of(size + 1); // one extra row tells us whether another page exists
+
+        // Filtered and unfiltered listings use separate queries so each one seeks its own index
+        List<UserDetailsDto> users = switch (sort) {
+            case NAME -> role == null
+                    ? userRepository.findDetailsPageByName(currentEmail, key[0], key[1], Long.valueOf(key[2]), limit)
+                    : userRepository.findDetailsPageByRoleAndName(currentEmail, role, key[0], key[1], Long.valueOf(key[2]), limit);
+            case ID -> role == null
+                    ? userRepository.findDetailsPageById(currentEmail, Long.valueOf(key[0]), limit)
+                    : userRepository.findDetailsPageByRoleAndId(currentEmail, role, Long.valueOf(key[0]), limit);
+        };
+
+        if (users.size() <= size) {
+            return new UserPageResponse(users, null);
+        }
+        List<UserDetailsDto> page = users.subList(0, size);
+        return new UserPageResponse(page, encodeCursor(page.get(size - 1), sort));
+    }
+
+    /**
+     * Encodes the sort key of a row as an opaque, URL-safe cursor.
+     */
+    private String encodeCursor(UserDetailsDto last, UserSort sort) {
+        String key = switch (sort) {
+            case NAME -> String.join(CURSOR_SEPARATOR, sort.name(), last.getLastName(), last.getFirstName(), String.valueOf(last.getId()));
+            case ID -> String.join(CURSOR_SEPARATOR, sort.name(), String.valueOf(last.getId()));
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the sort key fields, or returns the key that precedes every row.
+     */
+    private String[] decodeCursor(String cursor, UserSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return sort == UserSort.NAME ? new String[]{"", "", "0"} : new String[]{"0"};
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, -1);
+            int expectedParts = sort == UserSort.NAME ? 4 : 2;
+            if (parts.length != expectedParts || !parts[0].equals(sort.name())) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MSG);
+            }
+            Long.parseLong(parts[parts.length - 1]);
+            return Arrays.copyOfRange(parts, 1, parts.length);
+        } catch (IllegalArgumentException e) { // also covers malformed Base64 and NumberFormatException
+            throw new IllegalArgumentException(INVALID_CURSOR_MSG);
+        }
     }
 
     // ---------------------------------------------------------------------
@@ -113,12 +199,21 @@ public class AdminService {
     /**
      * Deletes a user by their unique ID.
      *
+     * <p>The user is removed together with a tombstone that keeps their tokens revoked across restarts.
+     * Revokes all of the user's tokens and publishes a {@code USER_DELETED} event after the user is removed.</p>
+     *
      * @param userId the ID of the user to delete
      * @throws com.restaurant.common.exception.UserNotFoundException if the user does not exist
      */
     public void deleteUser(Long userId) {
-        userLookupService.isUserExistById(userId);
-        userRepository.deleteById(userId);
+        UserEntity user = userLookupService.getUserById(userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.delete(user);
+            userTombstoneRepository.save(new UserTombstoneEntity(user.getId(), Instant.now()));
+        });
+        userLookupService.invalidate(user.getEmail());
+        revocationRegistry.revokeAll(user.getId());
+        securityEventFeed.publishUserDeleted(user);
     }
 
     // ---------------------------------------------------------------------
@@ -142,6 +237,7 @@ public class AdminService {
         userLookupService.validatePhoneNumberUniqueness(request.getPhoneNumber());
         UserEntity newUser = buildNewUser(request);
         UserEntity savedUser = userRepository.save(newUser);
+        userLookupService.invalidate(savedUser.getEmail());
         return userMapper.toDto(savedUser);
     }
 
@@ -2,12 +2,15 @@ package com.restaurant.auth.auth_service.service;
 
 import com.restaurant.auth.auth_service.dto.*;
 import com.restaurant.auth.auth_service.entity.UserEntity;
+import com.restaurant.auth.auth_service.exceptions.LoginThrottledException;
+import com.restaurant.auth.auth_service.exceptions.PasswordHashingUnavailableException;
 import com.restaurant.auth.auth_service.mapper.UserMapper;
 import com.restaurant.auth.auth_service.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -37,6 +40,10 @@ public class AuthService {
     private final JwtService jwtService;
     private final UserLookupService userLookupService;
     private final UserMapper userMapper;
+    private final SecurityEventFeed securityEventFeed;
+    private final LoginThrottleService loginThrottleService;
+    private final ProfileCache profileCache;
+    private final RevocationRegistry revocationRegistry;
 
     // ---------------------------------------------------------------------
     // Login
@@ -45,14 +52,22 @@ public class AuthService {
     /**
      * Authenticates a user and returns a JWT token upon successful login.
      *
+     * <p>If the stored hash was produced by an older algorithm or a lower cost,
+     * the password is transparently re-hashed with the current settings.</p>
+     *
      * @param email    the user's email address
      * @param password the user's password
+     * @param clientIp the caller's IP address, used for brute-force throttling
      * @return {@link AuthResponse} containing the generated JWT token
      * @throws org.springframework.security.core.AuthenticationException if authentication fails
+     * @throws LoginThrottledException if the email or IP has too many recent failures
      */
-    public AuthResponse login(String email, String password) {
-        authenticate(email, password);
+    public AuthResponse login(String email, String password, String clientIp) {
+        authenticateThrottled(email, password, clientIp);
         UserEntity user = userLookupService.getUserByEmail(email);
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user = rehashPassword(email, password);
+        }
         return buildAuthResponse(user);
     }
 
@@ -68,11 +83,13 @@ public class AuthService {
      * @param email       the user's email address
      * @param oldPassword the user's current password (for verification)
      * @param newPassword the new password to be set
+     * @param clientIp    the caller's IP address, used for brute-force throttling
      * @throws org.springframework.security.core.AuthenticationException if the old password is invalid
+     * @throws LoginThrottledException if the email or IP has too many recent failures
      */
-    public void changePassword(String email, String oldPassword, String newPassword) {
-        authenticate(email, oldPassword);
-        updatePassword(userLookupService.getUserByEmail(email), newPassword);
+    public void changePassword(String email, String oldPassword, String newPassword, String clientIp) {
+        authenticateThrottled(email, oldPassword, clientIp);
+        updatePassword(userLookupService.getUserByEmailForUpdate(email), newPassword);
     }
 
     // ---------------------------------------------------------------------
@@ -91,6 +108,19 @@ public class AuthService {
         return mapToUserResponse(user);
     }
 
+    /**
+     * Retrieves the user's profile already serialized, together with its ETag.
+     *
+     * <p>Served from the {@link ProfileCache}; only a miss loads the user and serializes it.</p>
+     *
+     * @param email the user's email address
+     * @return the serialized {@link UserResponse} and its ETag
+     * @throws com.restaurant.common.exception.UserNotFoundException if no user exists for the given email
+     */
+    public ProfileCache.Snapshot getProfile(String email) {
+        return profileCache.get(email, this::getUserByEmail);
+    }
+
     // ---------------------------------------------------------------------
     // Authentication Logic
     // ---------------------------------------------------------------------
@@ -107,6 +137,28 @@ public class AuthService {
         authenticationManager.authenticate(authenticationToken);
     }
 
+    /**
+     * Authenticates after checking the brute-force limits, and records the outcome.
+     *
+     * <p>Over-limit attempts are rejected before any password hashing takes place.</p>
+     *
+     * @param email    the user's email address
+     * @param password the user's password
+     * @param clientIp the caller's IP address
+     * @throws org.springframework.security.core.AuthenticationException if authentication fails
+     * @throws LoginThrottledException if the email or IP has too many recent failures
+     */
+    private void authenticateThrottled(String email, String password, String clientIp) {
+        loginThrottleService.checkAllowed(email, clientIp);
+        try {
+            authenticate(email, password);
+        } catch (AuthenticationException e) {
+            loginThrottleService.recordFailure(email, clientIp);
+            throw e;
+        }
+        loginThrottleService.recordSuccess(email);
+    }
+
     // ---------------------------------------------------------------------
     // Update Password Logic
     // ---------------------------------------------------------------------
@@ -114,13 +166,50 @@ public class AuthService {
     /**
      * Updates the user's password and refreshes the password modification date.
      *
+     * <p>Publishes a {@code PASSWORD_CHANGED} event once the change is flushed.</p>
+     *
      * @param user        the {@link UserEntity} whose password is being updated
      * @param newPassword the new password to be encoded and saved
      */
     private void updatePassword(UserEntity user, String newPassword) {
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setPasswordModifiedDate(Instant.now());
+        user.setSecurityVersion(user.getSecurityVersion() + 1);
+        userRepository.saveAndFlush(user);
+        userLookupService.invalidate(user.getEmail());
+        revocationRegistry.revokeBelow(user.getId(), user.getSecurityVersion());
+        securityEventFeed.publishPasswordChanged(user);
+    }
+
+    // ---------------------------------------------------------------------
+    // Rehash Password Logic
+    // ---------------------------------------------------------------------
+
+    /**
+     * Re-hashes a just-verified password with the current algorithm and cost.
+     *
+     * <p>
+     * The password modification date is left untouched, so tokens issued before the
+     * upgrade stay valid and no {@code PASSWORD_CHANGED} event is published. If the
+     * hashing executor is saturated the upgrade is skipped and retried on a later login.
+     * </p>
+     *
+     * @param email       the user's email address
+     * @param rawPassword the password that was just verified
+     * @return the up-to-date {@link UserEntity}
+     */
+    private UserEntity rehashPassword(String email, String rawPassword) {
+        UserEntity user = userLookupService.getUserByEmailForUpdate(email);
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+        } catch (PasswordHashingUnavailableException e) {
+            log.debug("Skipping password rehash for {}: {}", email, e.getMessage());
+            return user;
+        }
         userRepository.saveAndFlush(user);
+        userLookupService.invalidate(email);
+        log.info("Upgraded password hash for {}", email);
+        return user;
     }
 
     // ---------------------------------------------------------------------
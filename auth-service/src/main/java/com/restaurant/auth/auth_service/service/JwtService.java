@@ -26,6 +26,10 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtService {
 
+    // ==================== CONSTANTS ====================
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String SECURITY_VERSION_CLAIM = "sv";
+
     private final JwtProperties jwtProperties;
     private final UserLookupService userLookupService;
 
@@ -41,6 +45,7 @@ public class JwtService {
      * <ul>
      *     <li><b>Subject:</b> The user's email</li>
      *     <li><b>Role Claim:</b> The user's assigned role</li>
+     *     <li><b>User Id and Security Version Claims:</b> Checked against the {@link RevocationRegistry}</li>
      *     <li><b>Issued At:</b> The token creation time</li>
      *     <li><b>Expiration:</b> A future timestamp based on configured TTL</li>
      * </ul>
@@ -57,6 +62,8 @@ public class JwtService {
         return Jwts.builder()
                 .setSubject(user.getUsername()) // Subject represents the user's email
                 .claim("role", userEntity.getRole()) // Include the user's role claim
+                .claim(USER_ID_CLAIM, userEntity.getId())
+                .claim(SECURITY_VERSION_CLAIM, userEntity.getSecurityVersion())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(
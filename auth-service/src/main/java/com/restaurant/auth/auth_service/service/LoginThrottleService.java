@@ -0,0 +1,166 @@
+package com.restaurant.auth.auth_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restaurant.auth.auth_service.exceptions.LoginThrottledException;
+import com.restaurant.auth.auth_service.util.LoginThrottleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks failed logins per email and per client IP and rejects over-limit attempts
+ * before any password hashing happens.
+ *
+ * <p>
+ * Failures are counted in a sliding window split into fixed buckets. Each key's counter is
+ * a small lock-free array of packed longs, and the set of tracked keys lives in a bounded
+ * Caffeine cache, so memory stays bounded under credential stuffing from many addresses.
+ * Keys that are not touched for a whole window expire on their own.
+ * </p>
+ *
+ * <p><b>Metrics:</b> {@code auth.login.throttled} counter with tag {@code key=email|ip}.</p>
+ */
+@Service
+public class LoginThrottleService {
+
+    // ==================== CONSTANTS ====================
+    // Error Messages
+    private static final String TOO_MANY_ATTEMPTS_MSG = "Too many failed login attempts, please try again later";
+
+    // Metrics
+    private static final String THROTTLED_COUNTER = "auth.login.throttled";
+    private static final String KEY_TAG = "key";
+
+    // ==================== STATE ====================
+    private final LoginThrottleProperties properties;
+    private final long bucketMillis;
+    private final Cache<String, SlidingWindowCounter> failuresByEmail;
+    private final Cache<String, SlidingWindowCounter> failuresByIp;
+    private final Counter emailThrottledCounter;
+    private final Counter ipThrottledCounter;
+
+    public LoginThrottleService(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bucketMillis = Math.max(1, properties.getWindow().toMillis() / properties.getBuckets());
+        this.failuresByEmail = newCounterCache(properties);
+        this.failuresByIp = newCounterCache(properties);
+        this.emailThrottledCounter = Counter.builder(THROTTLED_COUNTER).tag(KEY_TAG, "email").register(meterRegistry);
+        this.ipThrottledCounter = Counter.builder(THROTTLED_COUNTER).tag(KEY_TAG, "ip").register(meterRegistry);
+    }
+
+    /**
+     * Rejects the attempt if the email or the client IP has too many recent failures.
+     *
+     * @param email    the email being logged into
+     * @param clientIp the caller's IP address, or {@code null} if unknown
+     * @throws LoginThrottledException if either limit is exceeded
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (recentFailures(failuresByEmail, email, now) >= properties.getMaxFailuresPerEmail()) {
+            emailThrottledCounter.increment();
+            throw throttled();
+        }
+        if (clientIp != null && recentFailures(failuresByIp, clientIp, now) >= properties.getMaxFailuresPerIp()) {
+            ipThrottledCounter.increment();
+            throw throttled();
+        }
+    }
+
+    /**
+     * Records a failed attempt for the email and the client IP.
+     *
+     * @param email    the email that failed to authenticate
+     * @param clientIp the caller's IP address, or {@code null} if unknown
+     */
+    public void recordFailure(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        failuresByEmail.get(email, key -> new SlidingWindowCounter(properties.getBuckets())).increment(now / bucketMillis);
+        if (clientIp != null) {
+            failuresByIp.get(clientIp, key -> new SlidingWindowCounter(properties.getBuckets())).increment(now / bucketMillis);
+        }
+    }
+
+    /**
+     * Clears the failure history of an email after a successful login.
+     *
+     * <p>The client IP's history is kept, so one valid account cannot be used to reset an attacker's budget.</p>
+     *
+     * @param email the email that authenticated successfully
+     */
+    public void recordSuccess(String email) {
+        failuresByEmail.invalidate(email);
+    }
+
+    // ---------------------------------------------------------------------
+    // Helper Methods
+    // ---------------------------------------------------------------------
+
+    private long recentFailures(Cache<String, SlidingWindowCounter> cache, String key, long now) {
+        SlidingWindowCounter counter = cache.getIfPresent(key);
+        return counter == null ? 0 : counter.sum(now / bucketMillis);
+    }
+
+    private LoginThrottledException throttled() {
+        return new LoginThrottledException(TOO_MANY_ATTEMPTS_MSG, Math.max(1, bucketMillis / 1000));
+    }
+
+    private static Cache<String, SlidingWindowCounter> newCounterCache(LoginThrottleProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumTrackedKeys())
+                .expireAfterAccess(properties.getWindow())
+                .build();
+    }
+
+    /**
+     * Lock-free sliding-window counter.
+     *
+     * <p>
+     * Each slot packs the bucket epoch (high 44 bits) and that bucket's count (low 20 bits) into one long,
+     * so a slot is reset and incremented with a single compare-and-set when a new bucket starts.
+     * </p>
+     */
+    static final class SlidingWindowCounter {
+
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final AtomicLongArray slots;
+
+        SlidingWindowCounter(int buckets) {
+            this.slots = new AtomicLongArray(buckets);
+        }
+
+        void increment(long epoch) {
+            int index = (int) (epoch % slots.length());
+            while (true) {
+                long current = slots.get(index);
+                long count = (current >>> COUNT_BITS) == epoch ? current & COUNT_MASK : 0;
+                long next = (epoch << COUNT_BITS) | Math.min(count + 1, COUNT_MASK);
+                if (slots.compareAndSet(index, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        long sum(long epoch) {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.get(i);
+                if (epoch - (slot >>> COUNT_BITS) < slots.length()) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+    }
+}
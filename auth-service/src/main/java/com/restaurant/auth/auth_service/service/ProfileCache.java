@@ -0,0 +1,100 @@
+package com.restaurant.auth.auth_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restaurant.auth.auth_service.dto.UserResponse;
+import com.restaurant.auth.auth_service.util.ProfileCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Cache of users' profiles, stored already serialized together with a strong ETag.
+ *
+ * <p>
+ * Serving a profile from this cache needs neither a database query nor JSON serialization,
+ * and a client that presents the current ETag can be answered with {@code 304 Not Modified}
+ * from the ETag alone. The ETag is derived from the serialized bytes, so it changes exactly
+ * when the profile's content changes.
+ * </p>
+ *
+ * <p>
+ * Entries are evicted through {@link UserLookupService#invalidate(String)}, which every write
+ * path already calls.
+ * </p>
+ *
+ * <p><b>Metrics:</b> hit, miss and eviction counters are published under the {@code cache.*} meters with the
+ * tag {@code cache=profiles}.</p>
+ */
+@Component
+public class ProfileCache {
+
+    // ==================== CONSTANTS ====================
+    private static final String CACHE_NAME = "profiles";
+    private static final String ETAG_DIGEST_ALGORITHM = "SHA-256";
+    private static final int ETAG_BYTES = 16;
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Cache<String, Snapshot> cache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * A serialized profile and its strong ETag (including the surrounding quotes).
+     */
+    public record Snapshot(byte[] body, String etag) {
+    }
+
+    public ProfileCache(ProfileCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the serialized profile for the given email, building it on a miss.
+     *
+     * @param email  the user's email
+     * @param loader loads the profile on a miss; exceptions it throws are propagated and nothing is cached
+     * @return the serialized profile and its ETag
+     */
+    public Snapshot get(String email, Function<String, UserResponse> loader) {
+        return enabled
+                ? cache.get(email, key -> snapshot(loader.apply(key)))
+                : snapshot(loader.apply(email));
+    }
+
+    /**
+     * Removes a user's profile so the next request rebuilds it.
+     *
+     * @param email the user's email
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    private Snapshot snapshot(UserResponse profile) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(profile);
+            byte[] digest = MessageDigest.getInstance(ETAG_DIGEST_ALGORITHM).digest(body);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+            return new Snapshot(body, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to serialize user profile", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.restaurant.auth.auth_service.service;
+
+import com.restaurant.auth.auth_service.dto.RevocationsResponse;
+import com.restaurant.auth.auth_service.repository.UserRepository;
+import com.restaurant.auth.auth_service.repository.UserTombstoneRepository;
+import com.restaurant.auth.auth_service.util.RevocationProperties;
+import com.restaurant.common.collection.LongLongHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Registry of the minimum token security version still accepted for each user.
+ *
+ * <p>
+ * Tokens carry the user's id ({@code uid}) and security version ({@code sv}). A token is revoked
+ * exactly when its {@code sv} is below the version recorded here for its {@code uid}; users that
+ * never had their tokens revoked have no entry. Because entries only ever grow and every revocation
+ * is recorded before it takes effect, a client holding an up-to-date copy never accepts a revoked token.
+ * </p>
+ *
+ * <p>
+ * The registry is rebuilt at startup from the users table and from the tombstones of deleted users,
+ * so deletions stay revoked across restarts. Every change gets the next sequence
+ * number and the most recent {@code security.revocations.log-capacity} changes are retained, so
+ * clients such as the API Gateway can sync incrementally with {@link #getRevocationsSince(long, long)}.
+ * </p>
+ */
+@Service
+@Slf4j
+public class RevocationRegistry {
+
+    // ==================== CONSTANTS ====================
+    /** Minimum version that rejects every token of a deleted user */
+    private static final long ALL_VERSIONS = Long.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // ==================== DEPENDENCIES ====================
+    private final RevocationProperties properties;
+
+    // ==================== STATE ====================
+    // Guarded by "this"
+    private final LongLongHashMap minVersions = new LongLongHashMap(INITIAL_CAPACITY);
+    private final ArrayDeque<Change> changes = new ArrayDeque<>();
+    private final long epoch = System.currentTimeMillis();
+    private long latestSequence;
+
+    private record Change(long sequence, long userId, long minVersion) {
+    }
+
+    public RevocationRegistry(RevocationProperties properties, UserRepository userRepository,
+                              UserTombstoneRepository tombstoneRepository) {
+        this.properties = properties;
+        userRepository.findBySecurityVersionGreaterThan(0)
+                .forEach(user -> minVersions.put(user.getId(), user.getSecurityVersion()));
+        tombstoneRepository.findAll()
+                .forEach(tombstone -> minVersions.put(tombstone.getUserId(), ALL_VERSIONS));
+        log.info("Revocation registry loaded with {} entries", minVersions.size());
+    }
+
+    // ---------------------------------------------------------------------
+    // Revoke
+    // ---------------------------------------------------------------------
+
+    /**
+     * Revokes every token of the user with a security version below {@code minVersion}.
+     *
+     * @param userId     the user's id
+     * @param minVersion the lowest security version that remains valid
+     */
+    public synchronized void revokeBelow(long userId, long minVersion) {
+        if (minVersions.get(userId, 0) >= minVersion) {
+            return;
+        }
+        minVersions.put(userId, minVersion);
+        changes.addLast(new Change(++latestSequence, userId, minVersion));
+        while (changes.size() > properties.getLogCapacity()) {
+            changes.removeFirst();
+        }
+    }
+
+    /**
+     * Revokes every token of the user, e.g. after the user was deleted. The caller persists a
+     * {@link com.restaurant.auth.auth_service.entity.UserTombstoneEntity} so the revocation survives a restart.
+     *
+     * @param userId the user's id
+     */
+    public void revokeAll(long userId) {
+        revokeBelow(userId, ALL_VERSIONS);
+    }
+
+    // ---------------------------------------------------------------------
+    // Sync
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns the changes after {@code since}, or a full snapshot if they are no longer retained
+     * or the client synced against a different registry instance.
+     *
+     * @param since the last sequence the client has applied, or 0 for a full snapshot
+     * @param epoch the epoch the client's sequence belongs to
+     * @return the entries to apply together with the current epoch and sequence
+     */
+    public synchronized RevocationsResponse getRevocationsSince(long since, long epoch) {
+        if (since <= 0 || epoch != this.epoch || !isRetained(since)) {
+            return snapshot();
+        }
+
+        int count = (int) (latestSequence - since);
+        long[] userIds = new long[count];
+        long[] versions = new long[count];
+        Iterator<Change> descending = changes.descendingIterator();
+        for (int i = count - 1; i >= 0; i--) {
+            Change change = descending.next();
+            userIds[i] = change.userId();
+            versions[i] = change.minVersion();
+        }
+        return new RevocationsResponse(this.epoch, latestSequence, false, userIds, versions);
+    }
+
+    private boolean isRetained(long since) {
+        if (since > latestSequence) {
+            return false;
+        }
+        long oldestRetained = changes.isEmpty() ? latestSequence + 1 : changes.peekFirst().sequence();
+        return since >= oldestRetained - 1;
+    }
+
+    private RevocationsResponse snapshot() {
+        long[] userIds = new long[minVersions.size()];
+        long[] versions = new long[minVersions.size()];
+        int[] index = {0};
+        minVersions.forEach((userId, minVersion) -> {
+            userIds[index[0]] = userId;
+            versions[index[0]++] = minVersion;
+        });
+        return new RevocationsResponse(epoch, latestSequence, true, userIds, versions);
+    }
+}
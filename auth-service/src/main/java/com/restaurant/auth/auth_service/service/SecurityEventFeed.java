@@ -0,0 +1,240 @@
+package com.restaurant.auth.auth_service.service;
+
+import com.restaurant.auth.auth_service.dto.SecurityEvent;
+import com.restaurant.auth.auth_service.dto.SecurityEventsResponse;
+import com.restaurant.auth.auth_service.entity.Role;
+import com.restaurant.auth.auth_service.entity.UserEntity;
+import com.restaurant.auth.auth_service.util.SecurityEventProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * In-memory, ordered feed of security-relevant user changes.
+ *
+ * <p>
+ * Every published event receives the next sequence number. The most recent
+ * {@code security.events.capacity} events are retained so consumers can poll
+ * "since sequence N" or reconnect to the SSE stream with {@code Last-Event-ID}
+ * and replay what they missed.
+ * </p>
+ *
+ * <p>
+ * Events are delivered to open streams on a dedicated thread, in publish order, so a slow
+ * subscriber never holds up the password change or user deletion that published the event.
+ * </p>
+ *
+ * <p><b>Note:</b> The feed lives in this service's memory. Sequence numbers restart at 1
+ * after a restart, so every feed instance has its own epoch; a position from another epoch
+ * is treated as lost and the consumer is told to resync.</p>
+ */
+@Service
+@Slf4j
+public class SecurityEventFeed {
+
+    // ==================== CONSTANTS ====================
+    private static final String SSE_EVENT_NAME = "security-event";
+    private static final String DELIVERY_THREAD_NAME = "security-event-delivery";
+    private static final char EVENT_ID_SEPARATOR = '-';
+
+    // ==================== DEPENDENCIES ====================
+    private final SecurityEventProperties properties;
+
+    // ==================== STATE ====================
+    private final long epoch = System.currentTimeMillis();
+    // Guarded by "this": sequence assignment, retention and the order of deliveries happen in one order
+    private final ArrayDeque<SecurityEvent> events = new ArrayDeque<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private long latestSequence;
+    // A single thread keeps deliveries in sequence order
+    private final ExecutorService delivery = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, DELIVERY_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SecurityEventFeed(SecurityEventProperties properties) {
+        this.properties = properties;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        delivery.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    /**
+     * Returns the epoch of this feed instance.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    // ---------------------------------------------------------------------
+    // Publish
+    // ---------------------------------------------------------------------
+
+    /**
+     * Publishes a password change for the given user.
+     *
+     * @param user the {@link UserEntity} whose password was changed
+     */
+    public void publishPasswordChanged(UserEntity user) {
+        publish(SecurityEvent.Type.PASSWORD_CHANGED, user, null, user.getPasswordModifiedDate());
+    }
+
+    /**
+     * Publishes a role change for the given user.
+     *
+     * @param user the {@link UserEntity} whose role was changed, already holding the new role
+     */
+    public void publishRoleChanged(UserEntity user) {
+        publish(SecurityEvent.Type.ROLE_CHANGED, user, user.getRole(), null);
+    }
+
+    /**
+     * Publishes the deletion of the given user.
+     *
+     * @param user the {@link UserEntity} that was deleted
+     */
+    public void publishUserDeleted(UserEntity user) {
+        publish(SecurityEvent.Type.USER_DELETED, user, null, null);
+    }
+
+    private synchronized void publish(SecurityEvent.Type type, UserEntity user, Role role, Instant passwordModifiedDate) {
+        SecurityEvent event = new SecurityEvent(
+                ++latestSequence, type, user.getId(), user.getEmail(), role, passwordModifiedDate, Instant.now());
+
+        events.addLast(event);
+        while (events.size() > properties.getCapacity()) {
+            events.removeFirst();
+        }
+
+        if (emitters.isEmpty()) {
+            return;
+        }
+        List<SseEmitter> recipients = List.copyOf(emitters);
+        try {
+            delivery.execute(() -> recipients.forEach(emitter -> send(emitter, event)));
+        } catch (RejectedExecutionException e) {
+            log.debug("Security event {} not streamed: feed is shutting down", event.getSequence());
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Poll
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns all retained events with a sequence greater than {@code since}.
+     *
+     * @param since the last sequence the consumer has processed, or 0 to read the whole feed
+     * @param epoch the epoch {@code since} belongs to
+     * @return a {@link SecurityEventsResponse} with the events, the latest sequence and whether nothing was dropped
+     */
+    public synchronized SecurityEventsResponse getEventsSince(long since, long epoch) {
+        boolean sameEpoch = since <= 0 || epoch == this.epoch;
+        long from = sameEpoch ? since : 0;
+        return new SecurityEventsResponse(this.epoch, eventsAfter(from), latestSequence, sameEpoch && isComplete(from));
+    }
+
+    // ---------------------------------------------------------------------
+    // Stream
+    // ---------------------------------------------------------------------
+
+    /**
+     * Opens an SSE stream that first replays retained events after {@code since} and then
+     * pushes every new event as it is published.
+     *
+     * <p>
+     * Each SSE message carries the feed's epoch and the event's sequence as its {@code id}
+     * ({@code <epoch>-<sequence>}), so a reconnecting client's {@code Last-Event-ID} header resumes
+     * the stream without gaps. A position from another epoch replays every retained event.
+     * </p>
+     *
+     * @param since the last sequence the consumer has processed, or 0 to replay the whole feed
+     * @param epoch the epoch {@code since} belongs to
+     * @return the {@link SseEmitter} backing the stream
+     */
+    public synchronized SseEmitter subscribe(long since, long epoch) {
+        if (epoch != this.epoch) {
+            since = 0;
+        }
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        for (SecurityEvent event : eventsAfter(since)) {
+            if (!send(emitter, event)) {
+                return emitter;
+            }
+        }
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    // ---------------------------------------------------------------------
+    // Helper Methods
+    // ---------------------------------------------------------------------
+
+    private String eventId(long sequence) {
+        return Long.toString(epoch) + EVENT_ID_SEPARATOR + sequence;
+    }
+
+    private List<SecurityEvent> eventsAfter(long since) {
+        List<SecurityEvent> result = new ArrayList<>();
+        Iterator<SecurityEvent> descending = events.descendingIterator();
+        while (descending.hasNext()) {
+            SecurityEvent event = descending.next();
+            if (event.getSequence() <= since) {
+                break;
+            }
+            result.add(event);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private boolean isComplete(long since) {
+        if (since > latestSequence) {
+            return false; // consumer is ahead of us, so this feed was restarted
+        }
+        long oldestRetained = events.isEmpty() ? latestSequence + 1 : events.peekFirst().getSequence();
+        return since >= oldestRetained - 1;
+    }
+
+    /**
+     * Sends one event to a stream, dropping the stream if the client has gone away.
+     *
+     * @return {@code true} if the event was written
+     */
+    private boolean send(SseEmitter emitter, SecurityEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(eventId(event.getSequence()))
+                    .name(SSE_EVENT_NAME)
+                    .data(event, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping security event stream: {}", e.getMessage());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
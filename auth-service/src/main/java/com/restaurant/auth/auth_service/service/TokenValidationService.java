@@ -1,12 +1,22 @@
 package com.restaurant.auth.auth_service.service;
 
+import com.restaurant.auth.auth_service.dto.BatchTokenValidationRequest;
+import com.restaurant.auth.auth_service.dto.BatchTokenValidationResponse;
 import com.restaurant.auth.auth_service.dto.TokenValidationRequest;
+import com.restaurant.auth.auth_service.dto.TokenValidationResult;
 import com.restaurant.auth.auth_service.entity.UserEntity;
+import com.restaurant.auth.auth_service.jfr.TokenValidationEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Service that validates authentication tokens against the user's account state.
  *
@@ -24,6 +34,15 @@ public class TokenValidationService {
     // Response Messages
     private static final String TOKEN_OUTDATED_MSG = "Token is outdated due to password change";
     private static final String TOKEN_VALID_MSG = "Token is valid";
+
+    // Flight Recorder Outcomes
+    private static final String OUTCOME_VALID = "VALID";
+    private static final String OUTCOME_OUTDATED = "OUTDATED";
+    private static final String OUTCOME_BATCH = "BATCH";
+
+    // Response Headers
+    /** Exposes the user's last password change so callers can cache it and decide locally. */
+    public static final String PASSWORD_MODIFIED_AT_HEADER = "X-Password-Modified-At";
     
     // ==================== DEPENDENCIES ====================
     private final UserLookupService userLookupService;
@@ -40,6 +59,11 @@ public class TokenValidationService {
      * it is considered outdated and should be rejected.
      * </p>
      *
+     * <p>
+     * Both answers carry the {@value #PASSWORD_MODIFIED_AT_HEADER} header with the user's
+     * last password modification timestamp (ISO-8601).
+     * </p>
+     *
      * @param request the {@link TokenValidationRequest} containing the user's email
      *                and the token's {@code issuedAt} timestamp
      * @return {@link ResponseEntity} containing:
@@ -49,15 +73,77 @@ public class TokenValidationService {
      *         </ul>
      */
     public ResponseEntity<String> validateToken(TokenValidationRequest request) {
-        UserEntity user = userLookupService.getUserByEmail(request.getEmail());
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        event.tokenCount = 1;
+        try {
+            long start = System.nanoTime();
+            UserEntity user = userLookupService.getUserByEmail(request.getEmail());
+            event.lookupTime = System.nanoTime() - start;
+            event.userId = user.getId();
+            String passwordModifiedAt = user.getPasswordModifiedDate().toString();
+
+            if (isTokenOutdated(request, user)) {
+                event.outcome = OUTCOME_OUTDATED;
+                return ResponseEntity
+                        .status(HttpStatus.FORBIDDEN)
+                        .header(PASSWORD_MODIFIED_AT_HEADER, passwordModifiedAt)
+                        .body(TOKEN_OUTDATED_MSG);
+            }
 
-        if (isTokenOutdated(request, user)) {
-            return ResponseEntity
-                    .status(HttpStatus.FORBIDDEN)
-                    .body(TOKEN_OUTDATED_MSG);
+            event.outcome = OUTCOME_VALID;
+            return ResponseEntity.ok()
+                    .header(PASSWORD_MODIFIED_AT_HEADER, passwordModifiedAt)
+                    .body(TOKEN_VALID_MSG);
+        } catch (RuntimeException e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
         }
+    }
+
+    // ---------------------------------------------------------------------
+    // Batch Token Validation
+    // ---------------------------------------------------------------------
+
+    /**
+     * Validates many tokens at once.
+     *
+     * <p>
+     * All users are resolved with a single {@code IN} query instead of one lookup per entry.
+     * Each entry gets its own verdict, so an unknown email does not fail the whole batch.
+     * </p>
+     *
+     * @param request the {@link BatchTokenValidationRequest} containing the (email, issuedAt) pairs
+     * @return a {@link BatchTokenValidationResponse} with one verdict per entry, in request order
+     */
+    public BatchTokenValidationResponse validateTokens(BatchTokenValidationRequest request) {
+        Set<String> emails = request.getTokens().stream()
+                .map(TokenValidationRequest::getEmail)
+                .collect(Collectors.toSet());
 
-        return ResponseEntity.ok(TOKEN_VALID_MSG);
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        event.tokenCount = request.getTokens().size();
+        event.outcome = OUTCOME_BATCH;
+        try {
+            long start = System.nanoTime();
+            Map<String, UserEntity> usersByEmail = userLookupService.getUsersByEmails(emails).stream()
+                    .collect(Collectors.toMap(UserEntity::getEmail, Function.identity()));
+            event.lookupTime = System.nanoTime() - start;
+
+            List<TokenValidationResult> results = request.getTokens().stream()
+                    .map(token -> toResult(token, usersByEmail.get(token.getEmail())))
+                    .toList();
+
+            return new BatchTokenValidationResponse(results);
+        } catch (RuntimeException e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
+        }
     }
 
     // ---------------------------------------------------------------------
@@ -74,4 +160,22 @@ public class TokenValidationService {
     private boolean isTokenOutdated(TokenValidationRequest request, UserEntity user) {
         return request.getIssuedAt().isBefore(user.getPasswordModifiedDate());
     }
+
+    /**
+     * Builds the verdict for a single batch entry.
+     *
+     * @param request the {@link TokenValidationRequest} being checked
+     * @param user    the matching {@link UserEntity}, or {@code null} if no user has this email
+     * @return the {@link TokenValidationResult} for this entry
+     */
+    private TokenValidationResult toResult(TokenValidationRequest request, UserEntity user) {
+        if (user == null) {
+            return new TokenValidationResult(request.getEmail(), TokenValidationResult.Status.USER_NOT_FOUND, null);
+        }
+
+        TokenValidationResult.Status status = isTokenOutdated(request, user)
+                ? TokenValidationResult.Status.OUTDATED
+                : TokenValidationResult.Status.VALID;
+        return new TokenValidationResult(request.getEmail(), status, user.getPasswordModifiedDate());
+    }
 }
@@ -0,0 +1,116 @@
+package com.restaurant.auth.auth_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restaurant.auth.auth_service.entity.UserEntity;
+import com.restaurant.auth.auth_service.util.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Two-level cache of {@link UserEntity} instances keyed by email.
+ *
+ * <p>
+ * The first level is a request-scoped memo stored in the current request's attributes, so
+ * one request (for example a login, which authenticates, loads the user and generates a token)
+ * resolves each user at most once even when the shared cache is disabled. The second level is
+ * a bounded, concurrent Caffeine cache shared across requests.
+ * </p>
+ *
+ * <p>
+ * Cached entities are treated as read-only snapshots. Write paths must load a fresh entity
+ * and call {@link #invalidate(String)} after saving.
+ * </p>
+ *
+ * <p><b>Metrics:</b> hit, miss and eviction counters are published under the {@code cache.*} meters with the
+ * tag {@code cache=users}.</p>
+ */
+@Component
+public class UserCache {
+
+    // ==================== CONSTANTS ====================
+    private static final String CACHE_NAME = "users";
+    private static final String REQUEST_MEMO_ATTRIBUTE = UserCache.class.getName() + ".memo";
+
+    // ==================== STATE ====================
+    private final boolean enabled;
+    private final Cache<String, UserEntity> cache;
+
+    public UserCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the user for the given email, loading it at most once per request and
+     * at most once per cache lifetime.
+     *
+     * <p>Missing users are not cached.</p>
+     *
+     * @param email  the user's email
+     * @param loader loads the user from the database on a miss
+     * @return the user, or an empty {@link Optional} if the loader found none
+     */
+    public Optional<UserEntity> get(String email, Function<String, Optional<UserEntity>> loader) {
+        Map<String, UserEntity> memo = requestMemo();
+        UserEntity user = memo != null ? memo.get(email) : null;
+        if (user != null) {
+            return Optional.of(user);
+        }
+
+        user = enabled
+                ? cache.get(email, key -> loader.apply(key).orElse(null))
+                : loader.apply(email).orElse(null);
+
+        if (user != null && memo != null) {
+            memo.put(email, user);
+        }
+        return Optional.ofNullable(user);
+    }
+
+    /**
+     * Removes a user from the shared cache and from the current request's memo.
+     *
+     * @param email the user's email
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+        Map<String, UserEntity> memo = requestMemo();
+        if (memo != null) {
+            memo.remove(email);
+        }
+    }
+
+    /**
+     * Returns the memo bound to the current HTTP request, creating it on first use.
+     *
+     * @return the memo, or {@code null} outside of a request (for example during startup)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, UserEntity> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, UserEntity> memo =
+                (Map<String, UserEntity>) attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
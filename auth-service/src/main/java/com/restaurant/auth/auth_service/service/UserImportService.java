@@ -0,0 +1,544 @@
+package com.restaurant.auth.auth_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.auth.auth_service.dto.RegisterRequest;
+import com.restaurant.auth.auth_service.dto.UserImportResponse;
+import com.restaurant.auth.auth_service.dto.UserImportResult;
+import com.restaurant.auth.auth_service.dto.UserImportResult.Status;
+import com.restaurant.auth.auth_service.entity.Role;
+import com.restaurant.auth.auth_service.exceptions.PasswordHashingUnavailableException;
+import com.restaurant.auth.auth_service.repository.UserRepository;
+import com.restaurant.auth.auth_service.util.PasswordHashingProperties;
+import com.restaurant.auth.auth_service.util.UserImportProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Service for registering many users in one request.
+ *
+ * <p>
+ * Rows are read from the input one line at a time and processed in chunks of
+ * {@link UserImportProperties#getChunkSize()}. For every chunk the service:
+ * </p>
+ * <ol>
+ *   <li>validates each row with the same constraints as {@link RegisterRequest}</li>
+ *   <li>checks email and phone uniqueness for the whole chunk with two {@code IN} queries</li>
+ *   <li>hashes the passwords in parallel through the application's {@link PasswordEncoder}, on all but
+ *       {@link UserImportProperties#getHashReservedThreads()} of its threads so logins keep their share of
+ *       hashing capacity</li>
+ *   <li>inserts the users with a single JDBC batch</li>
+ * </ol>
+ *
+ * <p>
+ * A bad row never fails the import: every row gets its own {@link UserImportResult}.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    /**
+     * Supported input formats.
+     */
+    public enum Format {
+        /** Comma-separated values with a header row naming the {@link RegisterRequest} fields. */
+        CSV,
+        /** One {@link RegisterRequest} JSON object per line. */
+        NDJSON
+    }
+
+    // ==================== CONSTANTS ====================
+    private static final String INSERT_USER_SQL = """
+            insert into users (email, password, first_name, last_name, phone_number, role, created_date, password_modified_date, security_version)
+            values (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+    private static final List<String> CSV_COLUMNS = List.of("email", "password", "firstName", "lastName", "phoneNumber", "role");
+
+    // Error Messages
+    private static final String EMAIL_EXISTS_MSG = "Email already exists";
+    private static final String PHONE_EXISTS_MSG = "Phone number already exists";
+    private static final String EMAIL_OR_PHONE_EXISTS_MSG = "Email or phone number already exists";
+    private static final String EMAIL_REPEATED_MSG = "Email appears more than once in the import";
+    private static final String PHONE_REPEATED_MSG = "Phone number appears more than once in the import";
+    private static final String UNKNOWN_ROLE_MSG = "Unknown role: ";
+    private static final String MALFORMED_JSON_MSG = "Malformed JSON row";
+    private static final String COLUMN_COUNT_MSG = "Expected %d columns but found %d";
+    private static final String MISSING_HEADER_MSG = "CSV header must contain the columns " + CSV_COLUMNS;
+    private static final String STORE_FAILED_MSG = "User could not be stored";
+    private static final String HASH_INTERRUPTED_MSG = "Password hashing was interrupted";
+
+    private static final String HASH_THREAD_NAME_PREFIX = "user-import-hash-";
+
+    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UserImportProperties properties;
+    private final PasswordHashingProperties hashingProperties;
+
+    /** Shared by all imports; its thread count is the number of import hashes in flight. */
+    private ExecutorService hashingWindow;
+
+    @PostConstruct
+    void startHashingWindow() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        int hashConcurrency = hashConcurrency();
+        log.info("User imports hash up to {} passwords at a time", hashConcurrency);
+        hashingWindow = Executors.newFixedThreadPool(hashConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, HASH_THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopHashingWindow() {
+        hashingWindow.shutdownNow();
+    }
+
+    /**
+     * Resolves the size of the hashing window: the configured value capped at the hashing executor's
+     * thread count, or that thread count minus the threads reserved for logins.
+     */
+    int hashConcurrency() {
+        int hashingThreads = Math.max(1, hashingProperties.getThreads());
+        int configured = properties.getHashConcurrency() > 0
+                ? properties.getHashConcurrency()
+                : hashingThreads - properties.getHashReservedThreads();
+        return Math.max(1, Math.min(configured, hashingThreads));
+    }
+
+    // ---------------------------------------------------------------------
+    // Import Entry Points
+    // ---------------------------------------------------------------------
+
+    /**
+     * Imports users from a CSV or NDJSON stream.
+     *
+     * <p>Blank lines are skipped. Rows past {@link UserImportProperties#getMaxRows()} are ignored
+     * and the response is flagged as truncated.</p>
+     *
+     * @param input  the request body
+     * @param format the format of the request body
+     * @return per-row results in input order
+     * @throws IllegalArgumentException if a CSV header is missing required columns
+     */
+    public UserImportResponse importUsers(InputStream input, Format format) {
+        Importer importer = new Importer();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvHeader csvHeader = null;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && csvHeader == null) {
+                    csvHeader = parseCsvHeader(line);
+                    continue;
+                }
+                if (!importer.accept(parseRow(lineNumber, line, format, csvHeader))) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Imports users that are already in memory, e.g. seed data.
+     *
+     * @param requests the users to register; line numbers in the results are their 1-based positions
+     * @return per-row results in input order
+     */
+    public UserImportResponse importUsers(List<RegisterRequest> requests) {
+        Importer importer = new Importer();
+        for (int i = 0; i < requests.size(); i++) {
+            if (!importer.accept(new ImportRow(i + 1, requests.get(i)))) {
+                break;
+            }
+        }
+        return importer.finish();
+    }
+
+    // ---------------------------------------------------------------------
+    // Parsing
+    // ---------------------------------------------------------------------
+
+    private ImportRow parseRow(int lineNumber, String line, Format format, CsvHeader csvHeader) {
+        if (format == Format.NDJSON) {
+            try {
+                RegisterRequest request = objectMapper.readValue(line, RegisterRequest.class);
+                return request != null ? new ImportRow(lineNumber, request) : ImportRow.invalid(lineNumber, MALFORMED_JSON_MSG);
+            } catch (JsonProcessingException e) {
+                return ImportRow.invalid(lineNumber, MALFORMED_JSON_MSG);
+            }
+        }
+
+        List<String> fields = splitCsvLine(line);
+        if (fields.size() != csvHeader.width()) {
+            return ImportRow.invalid(lineNumber, COLUMN_COUNT_MSG.formatted(csvHeader.width(), fields.size()));
+        }
+        return new ImportRow(lineNumber, new RegisterRequest(
+                csvHeader.field(fields, "email"),
+                csvHeader.field(fields, "password"),
+                csvHeader.field(fields, "firstName"),
+                csvHeader.field(fields, "lastName"),
+                csvHeader.field(fields, "phoneNumber"),
+                csvHeader.field(fields, "role")));
+    }
+
+    /**
+     * Maps each required column name (case-insensitive) to its position in the header.
+     * Unknown extra columns are tolerated and ignored.
+     */
+    private CsvHeader parseCsvHeader(String line) {
+        List<String> names = splitCsvLine(line);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            for (String column : CSV_COLUMNS) {
+                if (names.get(i).trim().equalsIgnoreCase(column)) {
+                    positions.put(column, i);
+                }
+            }
+        }
+        if (positions.size() != CSV_COLUMNS.size()) {
+            throw new IllegalArgumentException(MISSING_HEADER_MSG);
+        }
+        return new CsvHeader(positions, names.size());
+    }
+
+    /**
+     * Column positions of a CSV input and the number of columns every row must have.
+     */
+    private record CsvHeader(Map<String, Integer> positions, int width) {
+
+        String field(List<String> fields, String column) {
+            return fields.get(positions.get(column));
+        }
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields and {@code ""} escapes.
+     */
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // ---------------------------------------------------------------------
+    // Chunk Processing
+    // ---------------------------------------------------------------------
+
+    /**
+     * Collects rows into chunks and keeps the state that spans chunks.
+     */
+    private final class Importer {
+
+        private final List<ImportRow> chunk = new ArrayList<>();
+        private final List<UserImportResult> results = new ArrayList<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<String> seenPhoneNumbers = new HashSet<>();
+        private int rows;
+        private boolean truncated;
+
+        /**
+         * Adds a row to the current chunk, processing the chunk once it is full.
+         *
+         * @return {@code false} if the row limit was reached and the row was dropped
+         */
+        boolean accept(ImportRow row) {
+            if (rows == properties.getMaxRows()) {
+                truncated = true;
+                return false;
+            }
+            rows++;
+            chunk.add(row);
+            if (chunk.size() == properties.getChunkSize()) {
+                flush();
+            }
+            return true;
+        }
+
+        UserImportResponse finish() {
+            flush();
+            int created = (int) results.stream().filter(r -> r.getStatus() == Status.CREATED).count();
+            log.info("User import finished: {} created, {} rejected", created, results.size() - created);
+            return new UserImportResponse(created, results.size() - created, truncated, results);
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            processChunk(chunk, seenEmails, seenPhoneNumbers);
+            chunk.forEach(row -> results.add(row.result()));
+            chunk.clear();
+        }
+    }
+
+    /**
+     * Validates, hashes and stores one chunk, recording an outcome on every row.
+     */
+    private void processChunk(List<ImportRow> chunk, Set<String> seenEmails, Set<String> seenPhoneNumbers) {
+        // ---- Row validation and duplicates within the import ----
+        List<ImportRow> candidates = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            if (row.status == null && validate(row) && claim(row, seenEmails, seenPhoneNumbers)) {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // ---- Duplicates against existing users: one query per column ----
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(
+                candidates.stream().map(row -> row.request.getEmail()).toList()));
+        Set<String> existingPhoneNumbers = new HashSet<>(userRepository.findExistingPhoneNumbers(
+                candidates.stream().map(row -> row.request.getPhoneNumber()).toList()));
+        candidates.removeIf(row -> {
+            if (existingEmails.contains(row.request.getEmail())) {
+                row.reject(Status.DUPLICATE, EMAIL_EXISTS_MSG);
+            } else if (existingPhoneNumbers.contains(row.request.getPhoneNumber())) {
+                row.reject(Status.DUPLICATE, PHONE_EXISTS_MSG);
+            }
+            return row.status != null;
+        });
+
+        // ---- Hashing, a bounded number of rows at a time ----
+        hashPasswords(candidates);
+        candidates.removeIf(row -> row.status != null);
+
+        // ---- Batched insert ----
+        insert(candidates);
+    }
+
+    private boolean validate(ImportRow row) {
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(row.request);
+        if (!violations.isEmpty()) {
+            row.reject(Status.INVALID, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return false;
+        }
+        try {
+            row.role = Role.valueOf(row.request.getRole().toUpperCase(Locale.ROOT));
+            return true;
+        } catch (IllegalArgumentException e) {
+            row.reject(Status.INVALID, UNKNOWN_ROLE_MSG + row.request.getRole());
+            return false;
+        }
+    }
+
+    private boolean claim(ImportRow row, Set<String> seenEmails, Set<String> seenPhoneNumbers) {
+        if (!seenEmails.add(row.request.getEmail())) {
+            row.reject(Status.DUPLICATE, EMAIL_REPEATED_MSG);
+            return false;
+        }
+        if (!seenPhoneNumbers.add(row.request.getPhoneNumber())) {
+            row.reject(Status.DUPLICATE, PHONE_REPEATED_MSG);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the rows' passwords on the import hashing window and waits for all of them.
+     */
+    private void hashPasswords(List<ImportRow> rows) {
+        List<Future<?>> hashes = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            hashes.add(hashingWindow.submit(() -> hashPassword(row)));
+        }
+        for (int i = 0; i < hashes.size(); i++) {
+            try {
+                hashes.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                hashes.forEach(hash -> hash.cancel(true));
+                rows.stream().filter(row -> row.passwordHash == null && row.status == null)
+                        .forEach(row -> row.reject(Status.FAILED, HASH_INTERRUPTED_MSG));
+                return;
+            } catch (ExecutionException e) {
+                log.error("Hashing the password of import row {} failed", rows.get(i).line, e.getCause());
+                rows.get(i).reject(Status.FAILED, STORE_FAILED_MSG);
+            }
+        }
+    }
+
+    /**
+     * Hashes one row's password. The encoder is shared with logins and rejects work when it is
+     * saturated; an import is not interactive, so a rejected row backs off and tries again
+     * instead of failing.
+     */
+    private void hashPassword(ImportRow row) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                row.passwordHash = passwordEncoder.encode(row.request.getPassword());
+                return;
+            } catch (PasswordHashingUnavailableException e) {
+                if (attempt >= properties.getHashMaxAttempts()) {
+                    row.reject(Status.FAILED, e.getMessage());
+                    return;
+                }
+            }
+            try {
+                Thread.sleep(properties.getHashRetryBackoff().toMillis() * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                row.reject(Status.FAILED, HASH_INTERRUPTED_MSG);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Inserts the rows with one JDBC batch in a single transaction. If the batch fails, typically
+     * because a concurrent registration took an email or phone number, the rows are retried one
+     * by one so each gets its own outcome.
+     */
+    private void insert(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    INSERT_USER_SQL, rows, rows.size(), (ps, row) -> bindRow(ps, row, now)));
+            rows.forEach(this::markCreated);
+        } catch (DataAccessException batchFailure) {
+            log.warn("Batch insert of {} users failed, retrying row by row: {}", rows.size(), batchFailure.getMessage());
+            for (ImportRow row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_USER_SQL, ps -> bindRow(ps, row, now));
+                    markCreated(row);
+                } catch (DuplicateKeyException e) {
+                    row.reject(Status.DUPLICATE, EMAIL_OR_PHONE_EXISTS_MSG);
+                } catch (DataAccessException e) {
+                    row.reject(Status.FAILED, STORE_FAILED_MSG);
+                }
+            }
+        }
+    }
+
+    private static void bindRow(PreparedStatement ps, ImportRow row, Timestamp now) throws SQLException {
+        RegisterRequest request = row.request;
+        ps.setString(1, request.getEmail());
+        ps.setString(2, row.passwordHash);
+        ps.setString(3, request.getFirstName());
+        ps.setString(4, request.getLastName());
+        ps.setString(5, request.getPhoneNumber());
+        ps.setString(6, row.role.name());
+        ps.setTimestamp(7, now);
+        ps.setTimestamp(8, now);
+    }
+
+    private void markCreated(ImportRow row) {
+        row.status = Status.CREATED;
+        userLookupService.invalidate(row.request.getEmail());
+    }
+
+    // ---------------------------------------------------------------------
+    // Row State
+    // ---------------------------------------------------------------------
+
+    /**
+     * Mutable working state of one input row.
+     */
+    private static final class ImportRow {
+
+        private final int line;
+        private final RegisterRequest request;
+        private Role role;
+        private String passwordHash;
+        private Status status;
+        private String message;
+
+        ImportRow(int line, RegisterRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+
+        static ImportRow invalid(int line, String message) {
+            ImportRow row = new ImportRow(line, null);
+            row.reject(Status.INVALID, message);
+            return row;
+        }
+
+        void reject(Status status, String message) {
+            this.message = message;
+            this.status = status;
+        }
+
+        UserImportResult result() {
+            return new UserImportResult(line, request != null ? request.getEmail() : null, status, message);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.restaurant.common.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,6 +18,11 @@ import java.util.Optional;
  * Provides utility methods for fetching users by email or ID, verifying existence,
  * and ensuring email uniqueness during registration.
  * </p>
+ *
+ * <p>
+ * Lookups by email are served from the {@link UserCache}. Code that modifies a user must load it
+ * with {@link #getUserByEmailForUpdate(String)} and call {@link #invalidate(String)} after saving.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
@@ -30,6 +37,8 @@ public class UserLookupService {
     
     // ==================== DEPENDENCIES ====================
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final ProfileCache profileCache;
 
     // ---------------------------------------------------------------------
     // Retrieve User by Email
@@ -38,15 +47,64 @@ public class UserLookupService {
     /**
      * Retrieves a user by their email address.
      *
+     * <p>
+     * The result comes from the {@link UserCache} and must be treated as read-only.
+     * </p>
+     *
      * @param email the email address of the user to retrieve
      * @return the {@link UserEntity} associated with the given email
      * @throws UserNotFoundException if no user is found with the provided email
      */
     public UserEntity getUserByEmail(String email) {
+        return userCache.get(email, userRepository::findByEmail)
+                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_EMAIL_MSG, email)));
+    }
+
+    /**
+     * Retrieves a fresh copy of a user from the database, bypassing the cache.
+     *
+     * <p>
+     * Use this when the returned entity is about to be modified and saved.
+     * </p>
+     *
+     * @param email the email address of the user to retrieve
+     * @return the {@link UserEntity} associated with the given email
+     * @throws UserNotFoundException if no user is found with the provided email
+     */
+    public UserEntity getUserByEmailForUpdate(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_EMAIL_MSG, email)));
     }
 
+    // ---------------------------------------------------------------------
+    // Cache Invalidation
+    // ---------------------------------------------------------------------
+
+    /**
+     * Evicts a user and their serialized profile from the caches after the user was created,
+     * modified or deleted.
+     *
+     * @param email the email address of the affected user
+     */
+    public void invalidate(String email) {
+        userCache.invalidate(email);
+        profileCache.invalidate(email);
+    }
+
+    // ---------------------------------------------------------------------
+    // Retrieve Users by Emails
+    // ---------------------------------------------------------------------
+
+    /**
+     * Retrieves all users with the given email addresses in a single query.
+     *
+     * @param emails the email addresses of the users to retrieve
+     * @return the users found; unknown emails are simply absent from the result
+     */
+    public List<UserEntity> getUsersByEmails(Collection<String> emails) {
+        return userRepository.findByEmailIn(emails);
+    }
+
     // ---------------------------------------------------------------------
     // Retrieve User by ID
     // ---------------------------------------------------------------------
@@ -43,6 +43,23 @@ public class AuthorizationUtil {
         validateUserAuthorization(userRole, Arrays.asList(requiredRoles));
     }
 
+    /**
+     * Validates access to an internal endpoint.
+     * <p>
+     * Direct calls from other services carry no role header and are allowed. Requests forwarded by the
+     * API Gateway on behalf of a user always carry the user's role, and must have one of the required roles.
+     * </p>
+     *
+     * @param userRole      The role extracted from the request header, or {@code null} if there is none.
+     * @param requiredRoles One or more roles a forwarded user needs to access the resource.
+     * @throws ResponseStatusException if a forwarded user does not have permission to access the resource.
+     */
+    public void checkInternalCallerOrRole(String userRole, String... requiredRoles) {
+        if (userRole != null) {
+            checkRole(userRole, requiredRoles);
+        }
+    }
+
     /**
      * Validates that the role header is present and not empty.
      *
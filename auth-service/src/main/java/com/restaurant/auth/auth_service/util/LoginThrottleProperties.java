@@ -0,0 +1,58 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for login throttling.
+ *
+ * <p>
+ * This class binds brute-force protection settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code security.login-throttle}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * security.login-throttle.window=1m
+ * security.login-throttle.max-failures-per-email=10
+ * security.login-throttle.max-failures-per-ip=50
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.login-throttle")
+@Data
+public class LoginThrottleProperties {
+
+    /**
+     * Whether failed logins are tracked and over-limit attempts rejected.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Length of the sliding window over which failures are counted.
+     */
+    private Duration window = Duration.ofMinutes(1);
+
+    /**
+     * Number of buckets the window is split into; failures older than the window decay one bucket at a time.
+     */
+    private int buckets = 6;
+
+    /**
+     * Failed attempts allowed for one email within the window before further attempts are rejected.
+     */
+    private int maxFailuresPerEmail = 10;
+
+    /**
+     * Failed attempts allowed from one client IP within the window before further attempts are rejected.
+     */
+    private int maxFailuresPerIp = 50;
+
+    /**
+     * Maximum number of emails and of IPs tracked at the same time; least recently used keys are dropped first.
+     */
+    private long maximumTrackedKeys = 100_000;
+}
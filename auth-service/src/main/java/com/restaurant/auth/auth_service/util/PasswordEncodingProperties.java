@@ -0,0 +1,69 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the password hashing algorithm and its cost.
+ *
+ * <p>
+ * This class binds password encoding settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code security.password-encoding}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * security.password-encoding.algorithm=bcrypt    # bcrypt | pbkdf2 | argon2
+ * security.password-encoding.calibrate=true
+ * security.password-encoding.target-hash-time=250ms
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.password-encoding")
+@Data
+public class PasswordEncodingProperties {
+
+    /**
+     * Supported algorithms for hashing new and upgraded passwords.
+     */
+    public enum Algorithm {
+        BCRYPT, PBKDF2, ARGON2
+    }
+
+    /**
+     * Algorithm used to hash new passwords.
+     * <p>
+     * Stored hashes produced by any supported algorithm, and legacy un-prefixed BCrypt hashes,
+     * are still verified. After a successful login they are re-hashed with this algorithm.
+     * </p>
+     */
+    private Algorithm algorithm = Algorithm.BCRYPT;
+
+    /**
+     * Whether the BCrypt cost is benchmarked at startup instead of using {@link #bcryptStrength}.
+     */
+    private boolean calibrate = true;
+
+    /**
+     * Time budget for hashing one password; calibration picks the strongest cost that stays under it.
+     */
+    private Duration targetHashTime = Duration.ofMillis(250);
+
+    /**
+     * Lowest BCrypt cost calibration may choose, even if it exceeds the time budget.
+     */
+    private int minBcryptStrength = 10;
+
+    /**
+     * Highest BCrypt cost calibration may choose.
+     */
+    private int maxBcryptStrength = 14;
+
+    /**
+     * BCrypt cost used when calibration is disabled.
+     */
+    private int bcryptStrength = 10;
+}
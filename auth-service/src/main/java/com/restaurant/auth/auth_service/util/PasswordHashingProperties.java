@@ -0,0 +1,56 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the dedicated password hashing executor.
+ *
+ * <p>
+ * This class binds executor sizing and admission settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code security.password-hashing}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * security.password-hashing.threads=2
+ * security.password-hashing.queue-capacity=32
+ * security.password-hashing.max-wait=5s
+ * security.password-hashing.retry-after=2s
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.password-hashing")
+@Data
+public class PasswordHashingProperties {
+
+    /**
+     * Number of threads that hash and verify passwords.
+     * <p>
+     * Defaults to half of the available processors so the remaining cores stay free
+     * for token validation and other request handling.
+     * </p>
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Maximum number of hashing tasks allowed to wait for a free thread.
+     * <p>
+     * Further tasks are rejected immediately with HTTP 503.
+     * </p>
+     */
+    private int queueCapacity = 32;
+
+    /**
+     * Maximum time a request waits for its hashing task to complete before giving up with HTTP 503.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /**
+     * Value of the {@code Retry-After} header sent with rejected requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(2);
+}
@@ -0,0 +1,47 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the serialized profile cache behind {@code GET /auth/profile}.
+ *
+ * <p>
+ * This class binds cache sizing settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code user.profile-cache}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * user.profile-cache.enabled=true
+ * user.profile-cache.maximum-size=10000
+ * user.profile-cache.ttl=5m
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "user.profile-cache")
+@Data
+public class ProfileCacheProperties {
+
+    /**
+     * Whether serialized profiles are kept between requests.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of profiles kept in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which a cached profile is rebuilt.
+     * <p>
+     * Writes through this service invalidate entries immediately; the TTL only bounds
+     * how long changes made outside this service instance stay invisible.
+     * </p>
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,32 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the token revocation registry.
+ *
+ * <p>
+ * This class binds registry settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code security.revocations}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * security.revocations.log-capacity=10000
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.revocations")
+@Data
+public class RevocationProperties {
+
+    /**
+     * Number of most recent changes retained for incremental sync.
+     * <p>
+     * Clients that fall further behind receive a full snapshot instead of a delta.
+     * </p>
+     */
+    private int logCapacity = 10_000;
+}
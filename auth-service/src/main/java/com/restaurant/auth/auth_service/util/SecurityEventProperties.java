@@ -0,0 +1,37 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the security event feed.
+ *
+ * <p>
+ * This class binds feed settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code security.events}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * security.events.capacity=10000
+ * security.events.stream-timeout=30m
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.events")
+@Data
+public class SecurityEventProperties {
+
+    /**
+     * Number of most recent events retained for polling and stream replay.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Time after which an idle SSE stream is closed; clients reconnect with {@code Last-Event-ID}.
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,47 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the in-memory user cache.
+ *
+ * <p>
+ * This class binds cache sizing settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code user.cache}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * user.cache.enabled=true
+ * user.cache.maximum-size=10000
+ * user.cache.ttl=5m
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "user.cache")
+@Data
+public class UserCacheProperties {
+
+    /**
+     * Whether user lookups by email are served from the cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of users kept in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which a cached user is reloaded from the database.
+     * <p>
+     * Writes through this service invalidate entries immediately; the TTL only bounds
+     * how long changes made outside this service instance stay invisible.
+     * </p>
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,71 @@
+package com.restaurant.auth.auth_service.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for bulk user imports.
+ *
+ * <p>
+ * This class binds import settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code user.import}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * user.import.chunk-size=500
+ * user.import.max-rows=10000
+ * user.import.hash-concurrency=0
+ * user.import.hash-reserved-threads=1
+ * user.import.hash-max-attempts=5
+ * user.import.hash-retry-backoff=500ms
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "user.import")
+@Data
+public class UserImportProperties {
+
+    /**
+     * Number of rows validated, hashed and inserted together.
+     * <p>
+     * Each chunk costs two uniqueness queries and one JDBC batch, and bounds how many
+     * parsed rows are held in memory at once.
+     * </p>
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of rows accepted in a single import; the rest of the input is ignored.
+     */
+    private int maxRows = 10_000;
+
+    /**
+     * Maximum number of import passwords hashed at the same time, across all imports.
+     * <p>
+     * Import hashes go through the same bounded hashing executor as logins, so the value is capped at
+     * {@code security.password-hashing.threads}. {@code 0} uses that thread count minus
+     * {@link #hashReservedThreads}, but at least one thread.
+     * </p>
+     */
+    private int hashConcurrency = 0;
+
+    /**
+     * Number of hashing threads kept free for interactive logins when {@link #hashConcurrency} is derived.
+     */
+    private int hashReservedThreads = 1;
+
+    /**
+     * Number of times a row's password hash is attempted while the hashing executor is saturated
+     * before the row is reported as failed.
+     */
+    private int hashMaxAttempts = 5;
+
+    /**
+     * Pause before retrying a rejected hash; multiplied by the attempt number.
+     */
+    private Duration hashRetryBackoff = Duration.ofMillis(500);
+}
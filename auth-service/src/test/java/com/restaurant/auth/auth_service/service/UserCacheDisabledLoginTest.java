@@ -0,0 +1,67 @@
+package com.restaurant.auth.auth_service.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements of a login with the shared cache disabled, to check that the request memo of
+ * the {@link UserCache} alone keeps each login to a single user query.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "security.password-encoding.calibrate=false",
+        "user.cache.enabled=false"
+})
+@AutoConfigureMockMvc
+class UserCacheDisabledLoginTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.admin.email}")
+    private String adminEmail;
+
+    @Value("${app.admin.password}")
+    private String adminPassword;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void eachLoginRunsOneUserQuery() throws Exception {
+        // Authentication, login and token generation all resolve the user; the memo serves the last two
+        login();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        login();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void login() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + adminEmail + "\",\"password\":\"" + adminPassword + "\"}"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,121 @@
+package com.restaurant.auth.auth_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.auth.auth_service.dto.RegisterRequest;
+import com.restaurant.auth.auth_service.dto.UserImportResponse;
+import com.restaurant.auth.auth_service.entity.Role;
+import com.restaurant.auth.auth_service.repository.UserRepository;
+import com.restaurant.auth.auth_service.util.PasswordHashingProperties;
+import com.restaurant.auth.auth_service.util.UserImportProperties;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks how many passwords a {@link UserImportService} hashes at the same time, with the database mocked out.
+ */
+class UserImportServiceTest {
+
+    private static final long HASH_MILLIS = 100;
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final ConcurrencyRecordingEncoder passwordEncoder = new ConcurrencyRecordingEncoder();
+    private final UserImportProperties importProperties = new UserImportProperties();
+    private final PasswordHashingProperties hashingProperties = new PasswordHashingProperties();
+    private UserImportService importService;
+
+    @AfterEach
+    void tearDown() {
+        if (importService != null) {
+            importService.stopHashingWindow();
+        }
+        validatorFactory.close();
+    }
+
+    @Test
+    void importHashesPasswordsInParallel() {
+        hashingProperties.setThreads(4);
+        startImportService();
+
+        UserImportResponse response = importService.importUsers(users(12));
+
+        assertThat(response.getCreated()).isEqualTo(12);
+        assertThat(passwordEncoder.maxConcurrent).hasValue(3);
+    }
+
+    @Test
+    void configuredConcurrencyIsCappedByHashingThreads() {
+        hashingProperties.setThreads(2);
+        importProperties.setHashConcurrency(8);
+        startImportService();
+
+        assertThat(importService.hashConcurrency()).isEqualTo(2);
+    }
+
+    @Test
+    void singleHashingThreadIsSharedWithImports() {
+        hashingProperties.setThreads(1);
+        startImportService();
+
+        assertThat(importService.hashConcurrency()).isEqualTo(1);
+    }
+
+    private void startImportService() {
+        importService = new UserImportService(
+                mock(UserRepository.class),
+                mock(UserLookupService.class),
+                passwordEncoder,
+                mock(JdbcTemplate.class),
+                mock(TransactionTemplate.class),
+                validatorFactory.getValidator(),
+                new ObjectMapper(),
+                importProperties,
+                hashingProperties);
+        importService.startHashingWindow();
+    }
+
+    private static List<RegisterRequest> users(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new RegisterRequest("user" + i + "@example.com", "Password@123",
+                        "John", "Smith", "050" + (1000000 + i), Role.USER.name()))
+                .toList();
+    }
+
+    /**
+     * Takes {@link #HASH_MILLIS} per hash and records the most hashes running at once.
+     */
+    private static final class ConcurrencyRecordingEncoder implements PasswordEncoder {
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(HASH_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return "{noop}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("{noop}" + rawPassword);
+        }
+    }
+}
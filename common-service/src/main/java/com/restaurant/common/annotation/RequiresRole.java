@@ -7,7 +7,8 @@ import java.lang.annotation.Target;
 
 /**
  * Annotation to mark methods that require specific roles for access.
- * Used with aspect-oriented programming for centralized authorization across all microservices.
+ * Enforced by {@link com.restaurant.common.security.interceptor.RoleAuthorizationInterceptor} for centralized
+ * authorization across all microservices; the roles are resolved once at startup.
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -0,0 +1,178 @@
+package com.restaurant.common.collection;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to primitive {@code long} values.
+ *
+ * <p>
+ * Keys and values are stored in two flat arrays with linear probing, so a lookup is a hash,
+ * one or two array reads and no boxing. The table is kept at most half full and doubles when
+ * that limit is reached. Entries can be added or overwritten but not removed, which keeps
+ * probing free of tombstones.
+ * </p>
+ *
+ * <p><b>Thread safety:</b> this class is not synchronized. Share it either under a lock or as an
+ * immutable snapshot published through a {@code volatile} field and replaced with {@link #copy()}.</p>
+ */
+public final class LongLongHashMap {
+
+    // ==================== CONSTANTS ====================
+    private static final int MIN_CAPACITY = 16;
+    private static final long EMPTY_KEY = 0L; // key 0 is stored outside the table
+
+    // ==================== STATE ====================
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    /**
+     * Creates a map that can hold {@code expectedSize} entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    private LongLongHashMap(LongLongHashMap source) {
+        this.keys = source.keys.clone();
+        this.values = source.values.clone();
+        this.size = source.size;
+        this.hasZeroKey = source.hasZeroKey;
+        this.zeroValue = source.zeroValue;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if there is none.
+     */
+    public long get(long key, long defaultValue) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long existing = keys[slot];
+            if (existing == key) {
+                return values[slot];
+            }
+            if (existing == EMPTY_KEY) {
+                return defaultValue;
+            }
+        }
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any previous value.
+     */
+    public void put(long key, long value) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+    }
+
+    /**
+     * Maps {@code key} to the larger of {@code value} and its current value.
+     */
+    public void putMax(long key, long value) {
+        if (get(key, Long.MIN_VALUE) < value) {
+            put(key, value);
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an independent copy of this map.
+     */
+    public LongLongHashMap copy() {
+        return new LongLongHashMap(this);
+    }
+
+    /**
+     * Calls {@code consumer} once for every entry, in no particular order.
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(EMPTY_KEY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int slot = slot(key, mask);
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads sequential keys such as database ids across the table (MurmurHash3 finalizer).
+     */
+    private static int slot(long key, int mask) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "LongLongHashMap{size=" + size + ", capacity=" + keys.length + "}";
+    }
+
+    /**
+     * Receives the entries of a {@link LongLongHashMap} without boxing.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long key, long value);
+    }
+}
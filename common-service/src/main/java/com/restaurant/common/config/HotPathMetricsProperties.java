@@ -0,0 +1,33 @@
+package com.restaurant.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration class for the shared hot-path timers (repositories, mappers and inter-service calls).
+ *
+ * <p>
+ * This class binds settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code metrics.hot-path}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * metrics.hot-path.mappers-enabled=true
+ * metrics.hot-path.percentiles-histogram=true
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "metrics.hot-path")
+@Data
+public class HotPathMetricsProperties {
+
+    /**
+     * Whether {@code EntityMapper} beans are proxied and timed.
+     */
+    private boolean mappersEnabled = true;
+
+    /**
+     * Whether the hot-path timers publish percentile histograms.
+     */
+    private boolean percentilesHistogram = true;
+}
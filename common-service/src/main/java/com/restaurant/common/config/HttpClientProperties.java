@@ -0,0 +1,113 @@
+package com.restaurant.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the pooled HTTP client behind the shared {@code RestTemplate}.
+ *
+ * <p>
+ * This class binds client settings from the application's
+ * `application.properties` or `application.yml` file using the prefix {@code http.client}.
+ * </p>
+ *
+ * <h3>Example Configuration</h3>
+ * <pre>
+ * http.client.max-total=200
+ * http.client.max-per-route=50
+ * http.client.max-per-host[http://menu-service:8083]=100
+ * http.client.connect-timeout=2s
+ * http.client.response-timeout=5s
+ * http.client.connection-request-timeout=2s
+ * http.client.idle-eviction=30s
+ * http.client.time-to-live=5m
+ * http.client.percentiles-histogram=true
+ * http.client.async.virtual-threads=true
+ * http.client.async.max-threads=64
+ * http.client.async.queue-capacity=256
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "http.client")
+@Data
+public class HttpClientProperties {
+
+    /**
+     * Maximum number of pooled connections across all destinations.
+     */
+    private int maxTotal = 200;
+
+    /**
+     * Default maximum number of pooled connections per destination (scheme, host and port).
+     */
+    private int maxPerRoute = 50;
+
+    /**
+     * Per-destination overrides of {@code maxPerRoute}, keyed by {@code scheme://host:port}.
+     */
+    private Map<String, Integer> maxPerHost = new LinkedHashMap<>();
+
+    /**
+     * Maximum time to establish a TCP connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time to wait for a response once the request was sent.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum time to wait for a free connection when the pool for a destination is exhausted.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time after which an idle pooled connection is closed by the background evictor.
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+
+    /**
+     * Maximum lifetime of a pooled connection, so that DNS and load-balancer changes are picked up.
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Whether {@code http.client.requests} timers publish percentile histograms.
+     */
+    private boolean percentilesHistogram = true;
+
+    /**
+     * Executor settings for the asynchronous and fan-out calls of {@code HttpUtilityService}.
+     */
+    private Async async = new Async();
+
+    @Data
+    public static class Async {
+
+        /**
+         * Whether to run each call on its own virtual thread when the runtime supports them (Java 21+).
+         */
+        private boolean virtualThreads = true;
+
+        /**
+         * Maximum number of platform threads when virtual threads are unavailable or disabled.
+         * Calls beyond this limit wait in a queue.
+         */
+        private int maxThreads = 64;
+
+        /**
+         * Maximum number of calls waiting for a platform thread. Calls beyond it are rejected with an
+         * {@code InterServiceCallException} instead of piling up behind a slow destination.
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * Time an idle platform thread is kept before it is released.
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,117 @@
+package com.restaurant.common.config;
+
+import com.restaurant.common.mapper.EntityMapper;
+import com.restaurant.common.metrics.HotPathRepositoryTagsProvider;
+import com.restaurant.common.metrics.MapperMetricsPostProcessor;
+import com.restaurant.common.service.HttpUtilityService;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.actuate.autoconfigure.metrics.data.RepositoryMetricsAutoConfiguration;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * Common configuration class for the metrics every microservice publishes.
+ *
+ * <p>
+ * Every meter gets a {@code service} tag with the value of {@code spring.application.name}. On top of
+ * Spring Boot's HTTP server and client metrics, the hot paths are timed with the tags {@code endpoint}
+ * and {@code outcome}:
+ * </p>
+ * <ul>
+ *   <li>{@code spring.data.repository.invocations} - Spring Data repository methods</li>
+ *   <li>{@code mapper.invocations} - {@link EntityMapper} conversions</li>
+ *   <li>{@code interservice.calls} - {@link HttpUtilityService} calls, per destination</li>
+ * </ul>
+ *
+ * <p>
+ * The timers publish percentile histograms, so latency percentiles can be aggregated across instances.
+ * Settings are bound from {@link HotPathMetricsProperties}. This class is registered as a Spring Boot
+ * auto-configuration; the Prometheus endpoint is exposed by each service's
+ * {@code management.endpoints.web.exposure.include}.
+ * </p>
+ */
+@AutoConfiguration(before = RepositoryMetricsAutoConfiguration.class)
+@ConditionalOnClass({MeterRegistry.class, MeterRegistryCustomizer.class})
+@EnableConfigurationProperties(HotPathMetricsProperties.class)
+public class MetricsConfig {
+
+    // ==================== CONSTANTS ====================
+    private static final String SERVICE_TAG = "service";
+    private static final String REPOSITORY_METRIC = "spring.data.repository.invocations";
+    private static final Set<String> HOT_PATH_METRICS =
+            Set.of(REPOSITORY_METRIC, MapperMetricsPostProcessor.METRIC_NAME, HttpUtilityService.METRIC_NAME);
+
+    /**
+     * Adds the {@code service} tag to every meter.
+     *
+     * @param environment the application environment
+     * @return the registry customizer
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> serviceTagMeterRegistryCustomizer(Environment environment) {
+        String service = environment.getProperty("spring.application.name", "application");
+        return registry -> registry.config().commonTags(SERVICE_TAG, service);
+    }
+
+    /**
+     * Times the {@link EntityMapper} beans.
+     *
+     * @param meterRegistry the meter registry, resolved on first use
+     * @return the mapper post-processor
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.hot-path", name = "mappers-enabled", matchIfMissing = true)
+    public static MapperMetricsPostProcessor mapperMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MapperMetricsPostProcessor(meterRegistry);
+    }
+
+    /**
+     * Publishes percentile histograms for the hot-path timers.
+     *
+     * @param properties the hot-path metrics settings
+     * @return a meter filter applied to every registry in the application
+     */
+    @Bean
+    public MeterFilter hotPathHistogramMeterFilter(HotPathMetricsProperties properties) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!properties.isPercentilesHistogram() || !HOT_PATH_METRICS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * Repository tags for services that use Spring Data.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.data.repository.Repository")
+    static class RepositoryMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RepositoryTagsProvider hotPathRepositoryTagsProvider() {
+            return new HotPathRepositoryTagsProvider();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.restaurant.common.config;
+
+import com.restaurant.common.annotation.RequiresRole;
+import com.restaurant.common.security.interceptor.RoleAuthorizationInterceptor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Common configuration class for {@link RequiresRole} enforcement in servlet-based microservices.
+ *
+ * <p>
+ * Registers the {@link RoleAuthorizationInterceptor} for all request mappings. This class is
+ * registered as a Spring Boot auto-configuration, so every Spring MVC service that depends on
+ * {@code common-service} gets it without scanning the {@code com.restaurant.common} package.
+ * Reactive applications such as the API Gateway are skipped.
+ * </p>
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(HandlerInterceptor.class)
+public class RoleAuthorizationConfig {
+
+    /**
+     * Creates the interceptor that checks {@link RequiresRole} on every handler call.
+     *
+     * @return the role authorization interceptor
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RoleAuthorizationInterceptor roleAuthorizationInterceptor() {
+        return new RoleAuthorizationInterceptor();
+    }
+
+    /**
+     * Adds the role authorization interceptor to Spring MVC.
+     *
+     * @param interceptor the role authorization interceptor
+     * @return the MVC configurer
+     */
+    @Bean
+    public WebMvcConfigurer roleAuthorizationWebMvcConfigurer(RoleAuthorizationInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.restaurant.common.config;
+
+import com.restaurant.common.timing.ServerTiming;
+import com.restaurant.common.timing.ServerTimingFilter;
+import com.restaurant.common.timing.ServerTimingRepositoryPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Common configuration class for the {@code Server-Timing} response header in servlet-based microservices.
+ *
+ * <p>
+ * Every response reports the request's total time ({@code app}), and the time spent in Spring Data
+ * repositories ({@code db}), {@code EntityMapper} beans ({@code map}, only while
+ * {@code metrics.hot-path.mappers-enabled} is on) and {@code HttpUtilityService} calls ({@code remote}).
+ * The API Gateway merges this header with its own entries. This class is registered as a Spring Boot
+ * auto-configuration and can be turned off with {@code metrics.server-timing.enabled=false}.
+ * </p>
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(DispatcherServlet.class)
+@ConditionalOnProperty(prefix = "metrics.server-timing", name = "enabled", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    // ==================== CONSTANTS ====================
+    // Runs right after Spring Boot's observation filter, so the header covers the whole chain
+    private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+
+    /**
+     * Opens the per-request timing.
+     *
+     * @param environment the application environment
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(Environment environment) {
+        String service = environment.getProperty("spring.application.name", "application");
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter(service));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    /**
+     * Repository timing for services that use Spring Data.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport")
+    static class RepositoryTimingConfiguration {
+
+        /**
+         * Reports repository calls as {@link ServerTiming.Phase#DB}.
+         *
+         * @return the repository factory post-processor
+         */
+        @Bean
+        public static ServerTimingRepositoryPostProcessor serverTimingRepositoryPostProcessor() {
+            return new ServerTimingRepositoryPostProcessor();
+        }
+    }
+}
@@ -17,7 +17,7 @@ package com.restaurant.common.exception;
  * </pre>
  * </p>
  */
-public class AccessDeniedHandler extends RuntimeException {
+public class AccessDeniedHandler extends DomainException {
 
     /**
      * Constructs a new {@link AccessDeniedHandler} with a specified error message.
@@ -0,0 +1,30 @@
+package com.restaurant.common.exception;
+
+/**
+ * Base class for expected domain failures that are reported to the client as an error response,
+ * such as a missing resource, a duplicate, a denied role or a throttled request.
+ *
+ * <p>
+ * These exceptions are control flow, not bugs: they are always handled by
+ * {@link GlobalExceptionHandler} and their stack trace is never logged. They are therefore
+ * created without a stack trace and without suppressed exceptions, which makes throwing one
+ * about as cheap as allocating any other small object, even when a misbehaving client retries
+ * the same failing request in a tight loop.
+ * </p>
+ *
+ * <p>
+ * Do not extend this class for failures that need to be diagnosed from the logs, such as failed
+ * calls to other services; those should keep their stack trace and cause.
+ * </p>
+ */
+public abstract class DomainException extends RuntimeException {
+
+    /**
+     * Creates a new stackless domain exception.
+     *
+     * @param message the detail message returned to the client
+     */
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,31 @@
+package com.restaurant.common.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Error body returned by {@link GlobalExceptionHandler} and the service-specific handlers.
+ *
+ * <p>Exactly one of {@code message} and {@code messages} is set; the other is omitted from the JSON.</p>
+ *
+ * <p><b>Example response:</b></p>
+ * <pre>
+ * {
+ *   "timestamp": "2025-01-01T12:00:00Z",
+ *   "status": 404,
+ *   "error": "Not Found",
+ *   "message": "Menu not found with ID: 7"
+ * }
+ * </pre>
+ *
+ * @param timestamp when the error was handled
+ * @param status    the HTTP status code
+ * @param error     short description of the error type
+ * @param message   the error message, for single errors
+ * @param messages  the error messages, for validation errors
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponse(Instant timestamp, int status, String error, String message, Set<String> messages) {
+}
@@ -1,59 +1,109 @@
 package com.restaurant.common.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Global exception handler for all microservices.
  * Provides centralized exception handling and consistent error responses.
+ *
+ * <p><b>Metrics:</b> when a {@link MeterRegistry} is present, every handled exception increments
+ * {@code errors.handled}, tagged with the exception's simple class name ({@code exception}) and the
+ * response status ({@code status}), so hot error paths show up as a rate per exception type.</p>
  */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    // ==================== CONSTANTS ====================
+    private static final String ERRORS_COUNTER = "errors.handled";
+
+    // ==================== STATE ====================
+    private MeterRegistry meterRegistry;
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    private record CounterKey(Class<?> exceptionType, int status) {
+    }
+
+    /**
+     * Enables the {@code errors.handled} counters in services that have a meter registry.
+     *
+     * @param meterRegistry the meter registry, if metrics are enabled in this service
+     */
+    @Autowired
+    public void setMeterRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
     /**
-     * Builds a standardized error response for all exceptions.
+     * Builds a standardized error response with a single message and counts it.
      *
+     * @param ex the handled exception
      * @param status HTTP status code
      * @param error Error type description
-     * @param messageOrMessages Error message(s)
+     * @param message Error message
      * @return ResponseEntity with error details
      */
-    protected ResponseEntity<Map<String, Object>> buildErrorResponse(HttpStatus status, String error, Object messageOrMessages) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", status.value());
-        body.put("error", error);
-
-        if (messageOrMessages instanceof String) {
-            body.put("message", messageOrMessages);
-        } else if (messageOrMessages instanceof Set) {
-            body.put("messages", messageOrMessages);
-        }
+    protected ResponseEntity<ErrorResponse> buildErrorResponse(Throwable ex, HttpStatus status, String error, String message) {
+        return buildErrorResponse(ex, status, error, message, null);
+    }
+
+    /**
+     * Builds a standardized error response with several messages and counts it.
+     *
+     * @param ex the handled exception
+     * @param status HTTP status code
+     * @param error Error type description
+     * @param messages Error messages
+     * @return ResponseEntity with error details
+     */
+    protected ResponseEntity<ErrorResponse> buildErrorResponse(Throwable ex, HttpStatus status, String error, Set<String> messages) {
+        return buildErrorResponse(ex, status, error, null, messages);
+    }
+
+    private ResponseEntity<ErrorResponse> buildErrorResponse(Throwable ex, HttpStatus status, String error,
+                                                             String message, Set<String> messages) {
+        count(ex, status);
+        return new ResponseEntity<>(new ErrorResponse(Instant.now(), status.value(), error, message, messages), status);
+    }
 
-        return new ResponseEntity<>(body, status);
+    private void count(Throwable ex, HttpStatus status) {
+        if (meterRegistry == null) {
+            return;
+        }
+        counters.computeIfAbsent(new CounterKey(ex.getClass(), status.value()), key -> Counter.builder(ERRORS_COUNTER)
+                        .description("Exceptions handled by the exception handlers")
+                        .tag("exception", key.exceptionType().getSimpleName())
+                        .tag("status", String.valueOf(key.status()))
+                        .register(meterRegistry))
+                .increment();
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGeneric(Exception ex) {
+    public ResponseEntity<ErrorResponse> handleGeneric(Exception ex) {
         log.error("Unexpected error occurred", ex);
-        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", ex.getMessage());
     }
 
     @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleUserNotFound(UserNotFoundException ex) {
-        return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException ex) {
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
     }
 
     /**
@@ -65,8 +115,10 @@ public class GlobalExceptionHandler {
      * <p><b>Example response:</b></p>
      * <pre>
      * {
-     *   "email": "Email is required",
-     *   "password": "Password must be at least 8 characters long"
+     *   "timestamp": "2025-01-01T12:00:00Z",
+     *   "status": 400,
+     *   "error": "Validation Error",
+     *   "messages": ["Email is required", "Password must be at least 8 characters long"]
      * }
      * </pre>
      *
@@ -74,26 +126,45 @@ public class GlobalExceptionHandler {
      * @return a {@link ResponseEntity} containing the field errors and HTTP 400 Bad Request status
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
+    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
         Set<String> errorMessages = ex.getBindingResult().getAllErrors().stream()
                 .map(DefaultMessageSourceResolvable::getDefaultMessage)
                 .collect(Collectors.toSet());
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Validation Error", errorMessages);
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, "Validation Error", errorMessages);
     }
 
     @ExceptionHandler(AccessDeniedHandler.class)
-    public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedHandler ex) {
-        return buildErrorResponse(HttpStatus.FORBIDDEN, "Forbidden", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedHandler ex) {
+        return buildErrorResponse(ex, HttpStatus.FORBIDDEN, "Forbidden", ex.getMessage());
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex) {
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        return buildErrorResponse(ex, status, status.getReasonPhrase(), ex.getReason());
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleNotFound(ResourceNotFoundException ex) {
-        return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex) {
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
+    }
+
+    @ExceptionHandler(InterServiceTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleInterServiceTimeout(InterServiceTimeoutException ex) {
+        log.warn("Downstream call timed out: {}", ex.getUrl());
+        return buildErrorResponse(ex, HttpStatus.GATEWAY_TIMEOUT, "Gateway Timeout", ex.getMessage());
+    }
+
+    @ExceptionHandler(InterServiceCallException.class)
+    public ResponseEntity<ErrorResponse> handleInterServiceCall(InterServiceCallException ex) {
+        log.warn("Downstream call failed: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.BAD_GATEWAY, "Bad Gateway", ex.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
         return buildErrorResponse(
+                ex,
                 HttpStatus.BAD_REQUEST,
                 "Bad Request",
                 ex.getMessage()
@@ -0,0 +1,36 @@
+package com.restaurant.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Base exception for failed calls from one microservice to another.
+ *
+ * <p>
+ * Thrown by {@link com.restaurant.common.service.HttpUtilityService}. Callers that need to react
+ * differently to the kind of failure catch one of the subclasses:
+ * </p>
+ * <ul>
+ *   <li>{@link InterServiceTimeoutException} - no response within the configured timeouts</li>
+ *   <li>{@link InterServiceConnectionException} - the target could not be reached at all</li>
+ *   <li>{@link InterServiceClientErrorException} - the target answered with a 4xx status</li>
+ *   <li>{@link InterServiceServerErrorException} - the target answered with a 5xx status</li>
+ * </ul>
+ */
+@Getter
+public class InterServiceCallException extends RuntimeException {
+
+    /** The URL that was called */
+    private final String url;
+
+    /**
+     * Creates a new InterServiceCallException.
+     *
+     * @param message the detail message
+     * @param url     the URL that was called
+     * @param cause   the underlying failure
+     */
+    public InterServiceCallException(String message, String url, Throwable cause) {
+        super(message, cause);
+        this.url = url;
+    }
+}
@@ -0,0 +1,21 @@
+package com.restaurant.common.exception;
+
+/**
+ * Exception thrown when another microservice rejects a call with a 4xx status.
+ *
+ * <p>Retrying the same request will not help.</p>
+ */
+public class InterServiceClientErrorException extends InterServiceStatusException {
+
+    /**
+     * Creates a new InterServiceClientErrorException.
+     *
+     * @param url          the URL that was called
+     * @param statusCode   the 4xx status code
+     * @param responseBody the response body
+     * @param cause        the underlying failure
+     */
+    public InterServiceClientErrorException(String url, int statusCode, String responseBody, Throwable cause) {
+        super(url, statusCode, responseBody, cause);
+    }
+}
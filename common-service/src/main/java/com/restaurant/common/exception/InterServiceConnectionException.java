@@ -0,0 +1,20 @@
+package com.restaurant.common.exception;
+
+/**
+ * Exception thrown when another microservice cannot be reached, e.g. the connection
+ * was refused or the host could not be resolved.
+ *
+ * <p>The request was not processed by the target, so it is safe to retry or fail fast.</p>
+ */
+public class InterServiceConnectionException extends InterServiceCallException {
+
+    /**
+     * Creates a new InterServiceConnectionException.
+     *
+     * @param url   the URL that was called
+     * @param cause the underlying connection failure
+     */
+    public InterServiceConnectionException(String url, Throwable cause) {
+        super("Could not connect to " + url + ": " + cause.getMessage(), url, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.restaurant.common.exception;
+
+/**
+ * Exception thrown when another microservice fails a call with a 5xx status.
+ */
+public class InterServiceServerErrorException extends InterServiceStatusException {
+
+    /**
+     * Creates a new InterServiceServerErrorException.
+     *
+     * @param url          the URL that was called
+     * @param statusCode   the 5xx status code
+     * @param responseBody the response body
+     * @param cause        the underlying failure
+     */
+    public InterServiceServerErrorException(String url, int statusCode, String responseBody, Throwable cause) {
+        super(url, statusCode, responseBody, cause);
+    }
+}
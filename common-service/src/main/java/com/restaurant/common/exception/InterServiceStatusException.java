@@ -0,0 +1,22 @@
+package com.restaurant.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Base exception for calls to another microservice that were answered with an error status.
+ */
+@Getter
+public abstract class InterServiceStatusException extends InterServiceCallException {
+
+    /** The HTTP status code returned by the target */
+    private final int statusCode;
+
+    /** The response body returned by the target, possibly empty */
+    private final String responseBody;
+
+    protected InterServiceStatusException(String url, int statusCode, String responseBody, Throwable cause) {
+        super("Call to " + url + " returned status " + statusCode, url, cause);
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+}
@@ -0,0 +1,20 @@
+package com.restaurant.common.exception;
+
+/**
+ * Exception thrown when a call to another microservice times out while connecting,
+ * waiting for a pooled connection or waiting for the response.
+ *
+ * <p>The request may or may not have been processed by the target.</p>
+ */
+public class InterServiceTimeoutException extends InterServiceCallException {
+
+    /**
+     * Creates a new InterServiceTimeoutException.
+     *
+     * @param url   the URL that was called
+     * @param cause the underlying timeout
+     */
+    public InterServiceTimeoutException(String url, Throwable cause) {
+        super("Call to " + url + " timed out: " + cause.getMessage(), url, cause);
+    }
+}
@@ -4,7 +4,7 @@ package com.restaurant.common.exception;
  * Custom exception thrown when a requested resource is not found.
  * This exception represents an HTTP {@code 404 Not Found} error.
  */
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends DomainException {
     
     /**
      * Constructs a new {@link ResourceNotFoundException} with a specified error message.
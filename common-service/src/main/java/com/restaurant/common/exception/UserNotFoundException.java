@@ -4,7 +4,7 @@ package com.restaurant.common.exception;
  * Custom exception thrown when a user is not found in the system.
  * This exception represents an HTTP {@code 404 Not Found} error.
  */
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends DomainException {
     
     /**
      * Constructs a new {@link UserNotFoundException} with a specified error message.
@@ -0,0 +1,58 @@
+package com.restaurant.common.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tags Spring Data repository timers ({@code spring.data.repository.invocations}) like the other
+ * hot-path metrics.
+ *
+ * <p>
+ * {@code endpoint} is {@code RepositoryInterface.method} and {@code outcome} is the invocation state
+ * ({@code SUCCESS}, {@code ERROR} or {@code CANCELED}); {@code exception} names the failure, or
+ * {@code none}. The tags of successful invocations are built once per repository method.
+ * </p>
+ */
+public class HotPathRepositoryTagsProvider implements RepositoryTagsProvider {
+
+    // ==================== CONSTANTS ====================
+    private static final String NO_EXCEPTION = "none";
+
+    // ==================== STATE ====================
+    // Keyed by repository interface first: inherited methods such as findById are shared
+    private final Map<Class<?>, Map<Method, Tags>> successTags = new ConcurrentHashMap<>();
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        if (result != null && result.getState() == RepositoryMethodInvocationResult.State.SUCCESS) {
+            Map<Method, Tags> byMethod = successTags.get(invocation.getRepositoryInterface());
+            if (byMethod == null) {
+                byMethod = successTags.computeIfAbsent(invocation.getRepositoryInterface(), key -> new ConcurrentHashMap<>());
+            }
+            Tags tags = byMethod.get(invocation.getMethod());
+            if (tags == null) {
+                tags = tags(invocation, HotPathTimers.OUTCOME_SUCCESS, NO_EXCEPTION);
+                byMethod.put(invocation.getMethod(), tags);
+            }
+            return tags;
+        }
+        String outcome = result != null ? result.getState().name() : HotPathTimers.OUTCOME_ERROR;
+        Throwable error = result != null ? result.getError() : null;
+        return tags(invocation, outcome, error != null ? error.getClass().getSimpleName() : NO_EXCEPTION);
+    }
+
+    private static Tags tags(RepositoryMethodInvocation invocation, String outcome, String exception) {
+        return Tags.of(
+                "endpoint", invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName(),
+                "outcome", outcome,
+                "exception", exception);
+    }
+}
@@ -0,0 +1,79 @@
+package com.restaurant.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry-backed cache of the timers of one hot-path metric, keyed by endpoint and outcome.
+ *
+ * <p>
+ * Each timer is registered once, with the tags {@code endpoint} and {@code outcome}; the
+ * {@code service} tag is added to every meter by {@code MetricsConfig}. After the first call for
+ * an endpoint and outcome, {@link #timer(String, String)} is two map lookups without allocation.
+ * </p>
+ */
+public class HotPathTimers {
+
+    // ==================== CONSTANTS ====================
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+    public static final String OUTCOME_ERROR = "ERROR";
+
+    // ==================== DEPENDENCIES ====================
+    private final MeterRegistry meterRegistry;
+    private final String metricName;
+    private final String description;
+
+    // ==================== STATE ====================
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the timer cache of one metric.
+     *
+     * @param meterRegistry the registry to register the timers in
+     * @param metricName    the metric name, e.g. {@code mapper.invocations}
+     * @param description   the metric description
+     */
+    public HotPathTimers(MeterRegistry meterRegistry, String metricName, String description) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    /**
+     * Returns the timer for the given endpoint and outcome, registering it on first use.
+     *
+     * @param endpoint what was called, e.g. {@code MenuMapper.toDto}
+     * @param outcome  how the call ended, e.g. {@link #OUTCOME_SUCCESS}
+     * @return the timer
+     */
+    public Timer timer(String endpoint, String outcome) {
+        Map<String, Timer> byOutcome = timers.get(endpoint);
+        if (byOutcome == null) {
+            byOutcome = timers.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>());
+        }
+        Timer timer = byOutcome.get(outcome);
+        if (timer == null) {
+            timer = byOutcome.computeIfAbsent(outcome, key -> Timer.builder(metricName)
+                    .description(description)
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+
+    /**
+     * Records one call.
+     *
+     * @param endpoint     what was called
+     * @param outcome      how the call ended
+     * @param elapsedNanos the call's duration in nanoseconds
+     */
+    public void record(String endpoint, String outcome, long elapsedNanos) {
+        timer(endpoint, outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
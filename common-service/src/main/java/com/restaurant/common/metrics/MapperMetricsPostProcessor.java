@@ -0,0 +1,131 @@
+package com.restaurant.common.metrics;
+
+import com.restaurant.common.mapper.EntityMapper;
+import com.restaurant.common.timing.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of {@link EntityMapper} beans as {@code mapper.invocations}.
+ *
+ * <p>
+ * Each mapper bean is wrapped in a class-based proxy, so mappers injected by their concrete type
+ * keep working. The timers of each method are resolved on its first call and then reused; the
+ * {@code endpoint} tag is {@code MapperClass.method} and {@code outcome} is {@code SUCCESS} or
+ * {@code ERROR}. Calls between methods of the same mapper are not intercepted.
+ * </p>
+ *
+ * <p>
+ * Calls made while a request is being handled are also added to the request's {@link ServerTiming},
+ * counting only the outermost call when one mapper delegates to another.
+ * </p>
+ */
+public class MapperMetricsPostProcessor implements BeanPostProcessor {
+
+    // ==================== CONSTANTS ====================
+    public static final String METRIC_NAME = "mapper.invocations";
+    private static final String METRIC_DESCRIPTION = "Entity/DTO mapper invocations";
+
+    // ==================== DEPENDENCIES ====================
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    // ==================== STATE ====================
+    private volatile HotPathTimers timers;
+
+    public MapperMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof EntityMapper<?, ?>)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TimingInterceptor(AopUtils.getTargetClass(bean).getSimpleName()));
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    /**
+     * Returns the timer cache, or {@code null} if this service has no meter registry. Resolved
+     * lazily because post-processors are created before the registry.
+     */
+    private HotPathTimers timers() {
+        HotPathTimers current = timers;
+        if (current == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                current = new HotPathTimers(registry, METRIC_NAME, METRIC_DESCRIPTION);
+                timers = current;
+            }
+        }
+        return current;
+    }
+
+    private final class TimingInterceptor implements MethodInterceptor {
+
+        private final String mapperName;
+        // Success and error timer of each method
+        private final Map<Method, Timer[]> timersByMethod = new ConcurrentHashMap<>();
+
+        private TimingInterceptor(String mapperName) {
+            this.mapperName = mapperName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            ServerTiming serverTiming = ServerTiming.current();
+            if (serverTiming == null) {
+                return time(invocation, method);
+            }
+            long start = serverTiming.enter(ServerTiming.Phase.MAPPING);
+            try {
+                return time(invocation, method);
+            } finally {
+                serverTiming.exit(ServerTiming.Phase.MAPPING, start);
+            }
+        }
+
+        private Object time(MethodInvocation invocation, Method method) throws Throwable {
+            Timer[] methodTimers = timersByMethod.get(method);
+            if (methodTimers == null) {
+                HotPathTimers hotPathTimers = timers();
+                if (hotPathTimers == null) {
+                    return invocation.proceed();
+                }
+                String endpoint = mapperName + "." + method.getName();
+                methodTimers = new Timer[] {
+                        hotPathTimers.timer(endpoint, HotPathTimers.OUTCOME_SUCCESS),
+                        hotPathTimers.timer(endpoint, HotPathTimers.OUTCOME_ERROR)
+                };
+                timersByMethod.put(method, methodTimers);
+            }
+
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                methodTimers[0].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                methodTimers[1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+    }
+}
@@ -5,14 +5,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Arrays;
-import java.util.List;
-
 /**
  * Service for role-based authorization validation across all microservices.
  *
  * <p>This service provides centralized role validation logic that can be used
- * in different contexts (AOP, direct service calls, etc.). It follows the
+ * in different contexts (e.g. direct service calls). Controller methods are better
+ * protected with {@link com.restaurant.common.annotation.RequiresRole}. It follows the
  * Single Responsibility Principle by focusing solely on authorization logic.</p>
  *
  * <p>Example usage:</p>
@@ -40,7 +38,7 @@ public class RoleBasedAuthorizationService {
      */
     public void validateRole(String userRole, String... requiredRoles) {
         validateRoleHeader(userRole);
-        validateUserAuthorization(userRole, Arrays.asList(requiredRoles));
+        validateUserAuthorization(userRole, requiredRoles);
     }
 
     /**
@@ -62,17 +60,17 @@ public class RoleBasedAuthorizationService {
      * Checks whether the provided user role is included in the list of allowed roles.
      *
      * @param userRole     the role of the current user.
-     * @param allowedRoles list of roles permitted to perform the action.
+     * @param allowedRoles roles permitted to perform the action.
      * @throws ResponseStatusException if the user's role is not authorized.
      */
-    private void validateUserAuthorization(String userRole, List<String> allowedRoles) {
-        boolean isAuthorized = allowedRoles.stream()
-                .anyMatch(role -> role.equalsIgnoreCase(userRole));
-
-        if (!isAuthorized) {
-            throw new AccessDeniedHandler("Access denied: Requires one of the roles: "
-                    + String.join(", ", allowedRoles)
-            );
+    private void validateUserAuthorization(String userRole, String[] allowedRoles) {
+        for (String role : allowedRoles) {
+            if (role.equalsIgnoreCase(userRole)) {
+                return;
+            }
         }
+        throw new AccessDeniedHandler("Access denied: Requires one of the roles: "
+                + String.join(", ", allowedRoles)
+        );
     }
 }
@@ -0,0 +1,169 @@
+package com.restaurant.common.security.interceptor;
+
+import com.restaurant.common.annotation.RequiresRole;
+import com.restaurant.common.exception.AccessDeniedHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Enforces {@link RequiresRole} on controller methods across all servlet-based microservices.
+ *
+ * <p>
+ * When the application context is refreshed, every handler method is resolved once: each distinct
+ * role name gets one bit, and each handler gets the bitmask of the roles it accepts together with
+ * its ready-made "access denied" message. A request is then checked with a map lookup, a scan of
+ * the (few) known role names and a bitwise AND, without allocating and without proxying the controller.
+ * </p>
+ *
+ * <p>
+ * The check runs before argument binding and validation, using the role the API Gateway forwards in
+ * the {@code X-User-Role} header:
+ * </p>
+ * <ul>
+ *   <li>{@code 401 Unauthorized} if the header is missing or blank</li>
+ *   <li>{@code 403 Forbidden} ({@link AccessDeniedHandler}) if the role is not one of the required roles</li>
+ * </ul>
+ */
+@Slf4j
+public class RoleAuthorizationInterceptor implements HandlerInterceptor, ApplicationListener<ContextRefreshedEvent> {
+
+    // ==================== CONSTANTS ====================
+    private static final String ROLE_HEADER = "X-User-Role";
+    private static final String MISSING_ROLE_MSG = "Missing or empty role header";
+    private static final String ACCESS_DENIED_MSG = "Access denied: Requires one of the roles: ";
+    private static final int MAX_ROLES = Long.SIZE;
+
+    // ==================== STATE ====================
+    private volatile Rules rules = Rules.EMPTY;
+
+    /**
+     * Precomputed authorization rule of one handler method.
+     *
+     * @param mask          the bits of the accepted roles, or 0 if the method is not annotated
+     * @param deniedMessage the message of the {@link AccessDeniedHandler} thrown on mismatch
+     */
+    private record Requirement(long mask, String deniedMessage) {
+        static final Requirement NONE = new Requirement(0, null);
+    }
+
+    /**
+     * Immutable rules for all handler methods known at the last context refresh.
+     *
+     * @param roleNames    the distinct role names; the role at index {@code i} has bit {@code 1L << i}
+     * @param requirements every known handler method mapped to its rule
+     */
+    private record Rules(String[] roleNames, Map<Method, Requirement> requirements) {
+        static final Rules EMPTY = new Rules(new String[0], Map.of());
+
+        long roleBit(String role) {
+            for (int i = 0; i < roleNames.length; i++) {
+                if (roleNames[i].equalsIgnoreCase(role)) {
+                    return 1L << i;
+                }
+            }
+            return 0;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Startup
+    // ---------------------------------------------------------------------
+
+    /**
+     * Resolves the {@link RequiresRole} rules of all request mappings in the context.
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        List<HandlerMethod> handlerMethods = new ArrayList<>();
+        BeanFactoryUtils.beansOfTypeIncludingAncestors(event.getApplicationContext(), RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> handlerMethods.addAll(mapping.getHandlerMethods().values()));
+
+        List<String> roleNames = new ArrayList<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            RequiresRole requiresRole = handlerMethod.getMethodAnnotation(RequiresRole.class);
+            if (requiresRole == null) {
+                continue;
+            }
+            for (String role : requiresRole.value()) {
+                String normalized = role.toUpperCase(Locale.ROOT);
+                if (!roleNames.contains(normalized)) {
+                    roleNames.add(normalized);
+                }
+            }
+        }
+        if (roleNames.size() > MAX_ROLES) {
+            throw new IllegalStateException("@RequiresRole supports at most " + MAX_ROLES + " distinct roles");
+        }
+
+        Rules resolved = new Rules(roleNames.toArray(String[]::new), Map.of());
+        Map<Method, Requirement> requirements = new HashMap<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            requirements.put(handlerMethod.getMethod(), resolve(handlerMethod, resolved));
+        }
+        rules = new Rules(resolved.roleNames(), Map.copyOf(requirements));
+        log.info("Resolved role requirements for {} handler methods using {} roles", requirements.size(), roleNames.size());
+    }
+
+    // ---------------------------------------------------------------------
+    // Authorization
+    // ---------------------------------------------------------------------
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        Rules current = rules;
+        Requirement requirement = current.requirements().get(handlerMethod.getMethod());
+        if (requirement == null) {
+            // Registered after the last refresh; resolved on every call rather than cached
+            requirement = resolve(handlerMethod, current);
+        }
+        if (requirement.mask() == 0 && requirement.deniedMessage() == null) {
+            return true;
+        }
+
+        String userRole = request.getHeader(ROLE_HEADER);
+        if (userRole == null || userRole.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, MISSING_ROLE_MSG);
+        }
+        if ((current.roleBit(userRole) & requirement.mask()) == 0) {
+            throw new AccessDeniedHandler(requirement.deniedMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Builds the rule of one handler method. Roles missing from {@code rules} get no bit, so a
+     * method that requires only such roles rejects every request.
+     */
+    private static Requirement resolve(HandlerMethod handlerMethod, Rules rules) {
+        RequiresRole requiresRole = handlerMethod.getMethodAnnotation(RequiresRole.class);
+        if (requiresRole == null) {
+            return Requirement.NONE;
+        }
+        long mask = 0;
+        for (String role : requiresRole.value()) {
+            mask |= rules.roleBit(role);
+        }
+        return new Requirement(mask, ACCESS_DENIED_MSG + String.join(", ", requiresRole.value()));
+    }
+}
@@ -1,13 +1,39 @@
 package com.restaurant.common.service;
 
+import com.restaurant.common.exception.InterServiceCallException;
+import com.restaurant.common.exception.InterServiceClientErrorException;
+import com.restaurant.common.exception.InterServiceConnectionException;
+import com.restaurant.common.exception.InterServiceServerErrorException;
+import com.restaurant.common.exception.InterServiceTimeoutException;
+import com.restaurant.common.metrics.HotPathTimers;
+import com.restaurant.common.timing.ServerTiming;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Common HTTP utility service for standardized HTTP request patterns across all microservices.
@@ -18,6 +44,20 @@ import org.springframework.web.client.RestTemplate;
  * all microservices in the restaurant system.
  * </p>
  *
+ * <p>
+ * Every request is offered as a blocking call, a {@link CompletableFuture} and a {@link Mono}. The
+ * asynchronous variants run the blocking call on a dedicated fan-out executor, which uses virtual
+ * threads when the runtime supports them (see {@code RestTemplateConfig}). Failures are reported as
+ * subclasses of {@link InterServiceCallException} so callers can tell timeouts, unreachable
+ * services, 4xx and 5xx answers apart.
+ * </p>
+ *
+ * <p><b>Metrics:</b> when metrics are enabled, every call is timed as {@code interservice.calls},
+ * tagged with the destination ({@code endpoint}, as {@code host:port}) and the {@code outcome}:
+ * {@code SUCCESS}, {@code CLIENT_ERROR}, {@code SERVER_ERROR}, {@code TIMEOUT},
+ * {@code CONNECTION_ERROR} or {@code ERROR}. Blocking calls made on a request thread are also reported
+ * in the response's {@code Server-Timing} header as {@code remote}.</p>
+ *
  * <p><b>Benefits:</b></p>
  * <ul>
  *   <li>Eliminates code duplication across services</li>
@@ -26,17 +66,34 @@ import org.springframework.web.client.RestTemplate;
  *   <li>Easy to extend with common functionality</li>
  * </ul>
  */
-@Service
 @RequiredArgsConstructor
 @Slf4j
 public class HttpUtilityService {
 
     // ==================== CONSTANTS ====================
+    public static final String METRIC_NAME = "interservice.calls";
+    public static final String METRIC_DESCRIPTION = "Calls to other microservices";
+
+    // Outcomes
+    private static final String OUTCOME_CLIENT_ERROR = "CLIENT_ERROR";
+    private static final String OUTCOME_SERVER_ERROR = "SERVER_ERROR";
+    private static final String OUTCOME_TIMEOUT = "TIMEOUT";
+    private static final String OUTCOME_CONNECTION_ERROR = "CONNECTION_ERROR";
+    private static final String UNKNOWN_DESTINATION = "unknown";
+
     // Error Messages
     private static final String HTTP_REQUEST_FAILED_MSG = "HTTP request failed: %s";
-    
+    private static final String FAN_OUT_SATURATED_MSG = "Too many asynchronous inter-service calls pending";
+
     // ==================== DEPENDENCIES ====================
     private final RestTemplate restTemplate;
+    private final ExecutorService fanOutExecutor;
+    /** Call timers, or {@code null} if metrics are disabled in this service */
+    private final HotPathTimers callTimers;
+
+    // ---------------------------------------------------------------------
+    // POST JSON
+    // ---------------------------------------------------------------------
 
     /**
      * Sends a POST request with JSON content type and returns the response.
@@ -52,22 +109,155 @@ public class HttpUtilityService {
      * @param <T> the type of the request body
      * @param <R> the type of the response
      * @return ResponseEntity containing the response
-     * @throws RuntimeException if the request fails
+     * @throws InterServiceCallException if the request fails; see the subclasses for the failure kinds
      */
     public <T, R> ResponseEntity<R> postJsonRequest(String url, T requestBody, Class<R> responseType) {
+        long start = System.nanoTime();
+        String outcome = HotPathTimers.OUTCOME_SUCCESS;
         try {
             HttpHeaders headers = createJsonHeaders();
             HttpEntity<T> requestEntity = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<R> response = restTemplate.postForEntity(url, requestEntity, responseType);
-            
-            return response;
-            
-        } catch (Exception e) {
-            throw new RuntimeException(String.format(HTTP_REQUEST_FAILED_MSG, e.getMessage()), e);
+
+            return restTemplate.postForEntity(url, requestEntity, responseType);
+        } catch (RestClientException e) {
+            InterServiceCallException failure = translate(url, e);
+            outcome = outcome(failure);
+            throw failure;
+        } catch (RuntimeException e) {
+            outcome = HotPathTimers.OUTCOME_ERROR;
+            throw e;
+        } finally {
+            long duration = System.nanoTime() - start;
+            if (callTimers != null) {
+                callTimers.record(destination(url), outcome, duration);
+            }
+            ServerTiming.record(ServerTiming.Phase.REMOTE, duration);
         }
     }
 
+    /**
+     * Sends a POST request with JSON content type on the fan-out executor.
+     *
+     * @param url the target URL for the POST request
+     * @param requestBody the request body to send
+     * @param responseType the expected response type
+     * @param <T> the type of the request body
+     * @param <R> the type of the response
+     * @return a future completed with the response, or completed exceptionally with an
+     *         {@link InterServiceCallException} (wrapped in a {@link CompletionException} by {@code join()});
+     *         cancelling it interrupts the call
+     */
+    public <T, R> CompletableFuture<ResponseEntity<R>> postJsonRequestAsync(String url, T requestBody, Class<R> responseType) {
+        return submit(url, () -> postJsonRequest(url, requestBody, responseType));
+    }
+
+    /**
+     * Sends a POST request with JSON content type when the returned {@link Mono} is subscribed.
+     *
+     * <p>The blocking call runs on the fan-out executor, never on the subscriber's thread, so this is
+     * safe to compose into reactive pipelines. Cancelling the subscription removes a queued call or
+     * interrupts a running one.</p>
+     *
+     * @param url the target URL for the POST request
+     * @param requestBody the request body to send
+     * @param responseType the expected response type
+     * @param <T> the type of the request body
+     * @param <R> the type of the response
+     * @return a {@link Mono} emitting the response, or an {@link InterServiceCallException}
+     */
+    public <T, R> Mono<ResponseEntity<R>> postJsonRequestMono(String url, T requestBody, Class<R> responseType) {
+        return Mono.fromFuture(() -> postJsonRequestAsync(url, requestBody, responseType))
+                .onErrorMap(CompletionException.class, Throwable::getCause);
+    }
+
+    // ---------------------------------------------------------------------
+    // Fan-Out
+    // ---------------------------------------------------------------------
+
+    /**
+     * Runs many calls concurrently on the fan-out executor and collects their results.
+     *
+     * <p>
+     * The returned future completes with the results in the order of {@code calls}. It fails
+     * fast: as soon as one call fails, the future completes exceptionally with that failure and
+     * the calls that have not finished yet are cancelled; queued calls never start and running
+     * calls are interrupted.
+     * </p>
+     *
+     * <pre>
+     * List&lt;ResponseEntity&lt;Menu&gt;&gt; menus = httpUtilityService.fanOut(urls.stream()
+     *         .map(url -&gt; (Callable&lt;ResponseEntity&lt;Menu&gt;&gt;) () -&gt; httpUtilityService.postJsonRequest(url, body, Menu.class))
+     *         .toList()).join();
+     * </pre>
+     *
+     * @param calls the calls to run
+     * @param <R> the result type of each call
+     * @return a future completed with all results in order, or with the first failure
+     */
+    public <R> CompletableFuture<List<R>> fanOut(Collection<? extends Callable<R>> calls) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(calls.size());
+        CompletableFuture<List<R>> result = new CompletableFuture<>();
+
+        for (Callable<R> call : calls) {
+            CompletableFuture<R> future = submit(null, call);
+            future.whenComplete((value, error) -> {
+                if (error != null && result.completeExceptionally(unwrap(error))) {
+                    futures.forEach(pending -> pending.cancel(true));
+                }
+            });
+            futures.add(future);
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenRun(() -> result.complete(futures.stream().map(CompletableFuture::join).toList()));
+        return result;
+    }
+
+    /**
+     * Runs a call on the fan-out executor.
+     *
+     * <p>The returned future is completed by the task itself, and cancelling it cancels the task:
+     * {@link CompletableFuture#cancel(boolean)} alone never interrupts the thread running it. If
+     * the executor's queue is full, the future fails with an {@link InterServiceCallException}.</p>
+     *
+     * @param url  the URL being called, or {@code null} if the call is opaque
+     * @param call the call to run
+     * @return a future completed with the call's result or failure
+     */
+    private <R> CompletableFuture<R> submit(String url, Callable<R> call) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = fanOutExecutor.submit(() -> {
+                try {
+                    result.complete(call.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new InterServiceCallException(FAN_OUT_SATURATED_MSG, url, e));
+            return result;
+        }
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stops accepting asynchronous calls; calls already running are allowed to finish.
+     */
+    public void shutdown() {
+        fanOutExecutor.shutdown();
+    }
+
+    // ---------------------------------------------------------------------
+    // Helper Methods
+    // ---------------------------------------------------------------------
+
     /**
      * Creates standardized HTTP headers with JSON content type.
      *
@@ -83,4 +273,71 @@ public class HttpUtilityService {
         headers.setContentType(MediaType.APPLICATION_JSON);
         return headers;
     }
+
+    /**
+     * Maps a {@link RestTemplate} failure to the matching {@link InterServiceCallException} subclass.
+     *
+     * @param url the URL that was called
+     * @param e   the failure
+     * @return the typed exception to throw
+     */
+    private InterServiceCallException translate(String url, RestClientException e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return new InterServiceClientErrorException(
+                    url, clientError.getStatusCode().value(), clientError.getResponseBodyAsString(), e);
+        }
+        if (e instanceof HttpServerErrorException serverError) {
+            return new InterServiceServerErrorException(
+                    url, serverError.getStatusCode().value(), serverError.getResponseBodyAsString(), e);
+        }
+        if (e instanceof ResourceAccessException) {
+            Throwable cause = e.getCause();
+            // Covers socket, connect and pool-acquire timeouts
+            if (cause instanceof InterruptedIOException) {
+                return new InterServiceTimeoutException(url, cause);
+            }
+            if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+                    || cause instanceof UnknownHostException) {
+                return new InterServiceConnectionException(url, cause);
+            }
+        }
+        log.debug("Unclassified inter-service call failure for {}", url, e);
+        return new InterServiceCallException(String.format(HTTP_REQUEST_FAILED_MSG, e.getMessage()), url, e);
+    }
+
+    private static String outcome(InterServiceCallException failure) {
+        if (failure instanceof InterServiceClientErrorException) {
+            return OUTCOME_CLIENT_ERROR;
+        }
+        if (failure instanceof InterServiceServerErrorException) {
+            return OUTCOME_SERVER_ERROR;
+        }
+        if (failure instanceof InterServiceTimeoutException) {
+            return OUTCOME_TIMEOUT;
+        }
+        if (failure instanceof InterServiceConnectionException) {
+            return OUTCOME_CONNECTION_ERROR;
+        }
+        return HotPathTimers.OUTCOME_ERROR;
+    }
+
+    /**
+     * Returns the {@code host:port} of a URL, keeping the {@code endpoint} tag's cardinality bounded
+     * by the number of destinations rather than paths.
+     */
+    private static String destination(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() == null) {
+                return UNKNOWN_DESTINATION;
+            }
+            return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN_DESTINATION;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 }
@@ -0,0 +1,183 @@
+package com.restaurant.common.timing;
+
+/**
+ * Per-request accumulator for the {@code Server-Timing} response header.
+ *
+ * <p>
+ * The {@link ServerTimingFilter} opens one instance per request on the request thread. Code on the hot
+ * paths adds the time it spent in a {@link Phase}; calls made while no request is open (startup,
+ * scheduled tasks, fan-out threads) are ignored. The header lists the request's total time under
+ * {@code app}, followed by every phase that was entered:
+ * </p>
+ * <pre>
+ * Server-Timing: app;desc="menu-service";dur=12.408, db;desc="3 calls";dur=7.920, map;desc="1 call";dur=0.512
+ * </pre>
+ *
+ * <p>
+ * An instance is only used by the thread that handles its request, so it is not thread-safe.
+ * </p>
+ */
+public final class ServerTiming {
+
+    // ==================== CONSTANTS ====================
+    public static final String HEADER = "Server-Timing";
+    private static final String APP_METRIC = "app";
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * The parts of a request that are reported separately.
+     */
+    public enum Phase {
+        /** Spring Data repository calls */
+        DB("db"),
+        /** Entity/DTO mapper calls */
+        MAPPING("map"),
+        /** Calls to other microservices */
+        REMOTE("remote");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    // ==================== STATE ====================
+    private final String service;
+    private final long startNanos;
+    private final long[] durations = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private final int[] depths = new int[PHASES.length];
+
+    private ServerTiming(String service, long startNanos) {
+        this.service = service;
+        this.startNanos = startNanos;
+    }
+
+    // ---------------------------------------------------------------------
+    // Request Scope
+    // ---------------------------------------------------------------------
+
+    /**
+     * Opens the timing of the current thread's request.
+     *
+     * @param service the service name reported in the {@code app} entry
+     * @return the new timing
+     */
+    static ServerTiming open(String service) {
+        ServerTiming timing = new ServerTiming(service, System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Closes the timing of the current thread's request.
+     */
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the timing of the current thread's request.
+     *
+     * @return the timing, or {@code null} if the thread is not handling a request
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Adds a finished call to a phase of the current thread's request, if there is one.
+     *
+     * @param phase the phase
+     * @param nanos the call's duration in nanoseconds
+     */
+    public static void record(Phase phase, long nanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null && timing.depths[phase.ordinal()] == 0) {
+            timing.add(phase, nanos);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Nested Calls
+    // ---------------------------------------------------------------------
+
+    /**
+     * Starts a call that may make nested calls of the same phase, such as a mapper that delegates to
+     * another mapper. Only the outermost call is counted.
+     *
+     * @param phase the phase
+     * @return the start time to pass to {@link #exit(Phase, long)}
+     */
+    public long enter(Phase phase) {
+        depths[phase.ordinal()]++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Ends a call started with {@link #enter(Phase)}.
+     *
+     * @param phase      the phase
+     * @param startNanos the value returned by {@link #enter(Phase)}
+     */
+    public void exit(Phase phase, long startNanos) {
+        if (--depths[phase.ordinal()] == 0) {
+            add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    private void add(Phase phase, long nanos) {
+        durations[phase.ordinal()] += nanos;
+        counts[phase.ordinal()]++;
+    }
+
+    // ---------------------------------------------------------------------
+    // Header
+    // ---------------------------------------------------------------------
+
+    /**
+     * Formats the header value, with the {@code app} duration measured up to now.
+     *
+     * @return the {@code Server-Timing} header value
+     */
+    public String toHeaderValue() {
+        StringBuilder value = new StringBuilder(128);
+        value.append(APP_METRIC).append(";desc=\"").append(service).append('"');
+        appendDuration(value, System.nanoTime() - startNanos);
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            value.append(", ").append(phase.metricName)
+                    .append(";desc=\"").append(count).append(count == 1 ? " call\"" : " calls\"");
+            appendDuration(value, durations[phase.ordinal()]);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Appends {@code ;dur=} with the duration in milliseconds and microsecond precision.
+     *
+     * @param value the header value being built
+     * @param nanos the duration in nanoseconds
+     */
+    public static void appendDuration(StringBuilder value, long nanos) {
+        long micros = Math.max(nanos, 0) / 1_000;
+        long fraction = micros % 1_000;
+        value.append(";dur=").append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            value.append('0');
+        }
+        if (fraction < 10) {
+            value.append('0');
+        }
+        value.append(fraction);
+    }
+}
@@ -0,0 +1,109 @@
+package com.restaurant.common.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Opens a {@link ServerTiming} for every request and adds its {@code Server-Timing} header to the response.
+ *
+ * <p>
+ * The header has to be set before the response is committed, so it is added as soon as the application
+ * starts writing the body (or sends an error, a redirect or flushes). By then the controller has returned,
+ * so the {@code app} entry covers the handler and all its phases. Responses without a body get the header
+ * when the chain returns.
+ * </p>
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    // ==================== DEPENDENCIES ====================
+    private final String service;
+
+    /**
+     * @param service the service name reported in the {@code app} entry
+     */
+    public ServerTimingFilter(String service) {
+        this.service = service;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.open(service);
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.addHeader();
+            ServerTiming.close();
+        }
+    }
+
+    /**
+     * Adds the header once, right before anything can commit the response.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final ServerTiming timing;
+        private boolean headerAdded;
+
+        private ServerTimingResponse(HttpServletResponse response, ServerTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        private void addHeader() {
+            if (headerAdded) {
+                return;
+            }
+            headerAdded = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (!response.isCommitted()) {
+                response.addHeader(ServerTiming.HEADER, timing.toHeaderValue());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.restaurant.common.timing;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds every Spring Data repository call to the {@link ServerTiming.Phase#DB} phase of the current request.
+ *
+ * <p>
+ * The listener is registered on each repository factory, the same way Spring Boot registers its
+ * repository metrics listener, so the timing comes from Spring Data's own invocation measurement.
+ * </p>
+ */
+public class ServerTimingRepositoryPostProcessor implements BeanPostProcessor {
+
+    // ==================== CONSTANTS ====================
+    private static final RepositoryMethodInvocationListener LISTENER = invocation ->
+            ServerTiming.record(ServerTiming.Phase.DB, invocation.getDuration(TimeUnit.NANOSECONDS));
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(LISTENER));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,145 @@
+package com.restaurant.common.benchmark;
+
+import com.restaurant.common.annotation.RequiresRole;
+import com.restaurant.common.exception.AccessDeniedHandler;
+import com.restaurant.common.security.interceptor.RoleAuthorizationInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of the {@link RoleAuthorizationInterceptor} with the check the former
+ * {@code AuthorizationAspect} ran for every {@link RequiresRole} method.
+ *
+ * <p>
+ * {@code interceptor} calls {@link RoleAuthorizationInterceptor#preHandle} for a handler whose rules were
+ * resolved by a context refresh. {@code legacyAspectCheck} repeats the removed advice body: the request from
+ * {@link RequestContextHolder}, then {@code Arrays.asList} and a stream with {@code equalsIgnoreCase}. It leaves
+ * out the AOP proxy and advice dispatch around it, so it understates the old cost. Both authorize the same
+ * lower-case {@code admin} role against {@code @RequiresRole({"ADMIN", "SUPERVISOR"})}. {@code headerLookup} is
+ * the header read both of them make; {@link MockHttpServletRequest} lower-cases the name on every read, so subtract
+ * it (time and {@code -prof gc} allocation) to get the cost of the check itself.
+ * </p>
+ *
+ * <p>Run from the repository root after {@code mvn -pl common-service test-compile}:</p>
+ * <pre>
+ * mvn -pl common-service dependency:build-classpath -Dmdep.outputFile=target/test.cp -Dmdep.includeScope=test
+ * java -cp common-service/target/test-classes:common-service/target/classes:$(cat common-service/target/test.cp) \
+ *     com.restaurant.common.benchmark.RoleAuthorizationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoleAuthorizationBenchmark {
+
+    private static final String ROLE_HEADER = "X-User-Role";
+
+    private GenericWebApplicationContext context;
+    private RoleAuthorizationInterceptor interceptor;
+    private HandlerMethod handlerMethod;
+    private RequiresRole requiresRole;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    /**
+     * A controller with one protected endpoint.
+     */
+    @RestController
+    public static class MenuController {
+
+        @PostMapping("/menu")
+        @RequiresRole({"ADMIN", "SUPERVISOR"})
+        public String createMenuItem() {
+            return "created";
+        }
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        interceptor = new RoleAuthorizationInterceptor();
+        context = new GenericWebApplicationContext(new MockServletContext());
+        context.registerBean(MenuController.class);
+        context.registerBean(RequestMappingHandlerMapping.class);
+        context.registerBean(RoleAuthorizationInterceptor.class, () -> interceptor);
+        context.refresh();
+
+        handlerMethod = new HandlerMethod(context.getBean(MenuController.class),
+                MenuController.class.getMethod("createMenuItem"));
+        requiresRole = handlerMethod.getMethodAnnotation(RequiresRole.class);
+        request = new MockHttpServletRequest("POST", "/menu");
+        request.addHeader(ROLE_HEADER, "admin");
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        context.close();
+    }
+
+    @Benchmark
+    public String headerLookup() {
+        return request.getHeader(ROLE_HEADER);
+    }
+
+    @Benchmark
+    public boolean interceptor() {
+        return interceptor.preHandle(request, response, handlerMethod);
+    }
+
+    @Benchmark
+    public boolean legacyAspectCheck() {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        HttpServletRequest current = attributes != null ? attributes.getRequest() : null;
+        if (current == null) {
+            throw new IllegalStateException("No HTTP request context available");
+        }
+
+        String userRole = current.getHeader(ROLE_HEADER);
+        if (userRole == null || userRole.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing or empty role header");
+        }
+        List<String> allowedRoles = Arrays.asList(requiresRole.value());
+        if (allowedRoles.stream().noneMatch(role -> role.equalsIgnoreCase(userRole))) {
+            throw new AccessDeniedHandler("Access denied: Requires one of the roles: " + String.join(", ", allowedRoles));
+        }
+        return true;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RoleAuthorizationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,25 @@
+package com.restaurant.menu.menu_service.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * HTTP caching configuration for Menu Service.
+ * Adds an {@code ETag} (a hash of the response body) to the public active menu, so the API Gateway's
+ * response cache and browsers can revalidate it with {@code If-None-Match} and get {@code 304 Not Modified}
+ * when it has not changed.
+ */
+@Configuration
+public class HttpCachingConfig {
+
+    private static final String ACTIVE_MENU_PATH = "/menu/active";
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> activeMenuEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(ACTIVE_MENU_PATH);
+        return registration;
+    }
+}
@@ -13,10 +13,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -31,6 +33,10 @@ import java.util.List;
  */
 public class MenuController {
 
+    private static final CacheControl ACTIVE_MENU_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(5))
+            .staleWhileRevalidate(Duration.ofSeconds(30))
+            .cachePublic();
+
     private final MenuService menuService;
 
     // ---------------------------------------------------------------------
@@ -99,11 +105,15 @@ public class MenuController {
     // ---------------------------------------------------------------------
     /**
      * Get the current active menu.
+     * The answer is the same for every caller, so shared caches (such as the API Gateway's) may keep it
+     * briefly and keep serving it while they revalidate it.
      */
     @GetMapping("/active")
     @Operation(summary = "Get active menu", description = "Gets the current active menu. Public endpoint.")
     public ResponseEntity<MenuDtoResponse> getActiveMenu() {
-        return ResponseEntity.ok(menuService.getActiveMenu());
+        return ResponseEntity.ok()
+                .cacheControl(ACTIVE_MENU_CACHE_CONTROL)
+                .body(menuService.getActiveMenu());
     }
 
     // ---------------------------------------------------------------------
@@ -1,6 +1,8 @@
 package com.restaurant.menu.menu_service.exceptions;
 
-public class CategoryAlreadyExistException extends RuntimeException{
+import com.restaurant.common.exception.DomainException;
+
+public class CategoryAlreadyExistException extends DomainException{
 
     public CategoryAlreadyExistException (String message){
         super(message);
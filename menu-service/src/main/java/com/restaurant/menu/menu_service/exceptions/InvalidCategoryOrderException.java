@@ -1,6 +1,8 @@
 package com.restaurant.menu.menu_service.exceptions;
 
-public class InvalidCategoryOrderException extends RuntimeException {
+import com.restaurant.common.exception.DomainException;
+
+public class InvalidCategoryOrderException extends DomainException {
 
     public InvalidCategoryOrderException(String message) {
         super(message);
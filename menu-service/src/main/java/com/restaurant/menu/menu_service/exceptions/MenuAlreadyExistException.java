@@ -1,6 +1,8 @@
 package com.restaurant.menu.menu_service.exceptions;
 
-public class MenuAlreadyExistException extends RuntimeException{
+import com.restaurant.common.exception.DomainException;
+
+public class MenuAlreadyExistException extends DomainException{
 
     public MenuAlreadyExistException(String message){
         super(message);
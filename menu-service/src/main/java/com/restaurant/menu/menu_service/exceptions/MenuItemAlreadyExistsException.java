@@ -1,6 +1,8 @@
 package com.restaurant.menu.menu_service.exceptions;
 
-public class MenuItemAlreadyExistsException extends RuntimeException{
+import com.restaurant.common.exception.DomainException;
+
+public class MenuItemAlreadyExistsException extends DomainException{
     public MenuItemAlreadyExistsException(String message){
         super(message);
     }
@@ -0,0 +1,42 @@
+package com.restaurant.menu.menu_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for one call of {@code MenuService.getActiveMenu}.
+ *
+ * <p>
+ * The event's duration is split into database time (the menu query with its eagerly fetched items)
+ * and DTO mapping time. The menu read is on the public hot path, so by default only reads slower
+ * than 1 ms are recorded; a custom {@code .jfc} can lower the threshold.
+ * </p>
+ */
+@Name("restaurant.menu.ActiveMenuRead")
+@Label("Active Menu Read")
+@Category({"Restaurant", "Menu"})
+@Description("Load and mapping of the active menu")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ActiveMenuReadEvent extends jdk.jfr.Event {
+
+    @Label("Menu ID")
+    @Description("ID of the active menu, or 0 if there is none")
+    public long menuId;
+
+    @Label("Item Count")
+    public int itemCount;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long dbTime;
+
+    @Label("Mapping Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mappingTime;
+}
@@ -9,6 +9,7 @@ import com.restaurant.menu.menu_service.entity.Menu;
 import com.restaurant.menu.menu_service.entity.MenuItem;
 import com.restaurant.menu.menu_service.entity.MenuStatus;
 import com.restaurant.menu.menu_service.exceptions.MenuAlreadyExistException;
+import com.restaurant.menu.menu_service.jfr.ActiveMenuReadEvent;
 import com.restaurant.menu.menu_service.mapper.MenuItemMapper;
 import com.restaurant.menu.menu_service.mapper.MenuMapper;
 import com.restaurant.menu.menu_service.repository.MenuItemRepository;
@@ -124,9 +125,22 @@ public class MenuService {
      * Get the current active menu with menu items eagerly loaded.
      */
     public MenuDtoResponse getActiveMenu() {
-        return menuRepository.findByStatusWithMenuItems(MenuStatus.ACTIVE)
-                .map(menuMapper::toDtoWithMenuItems)
-                .orElseThrow(() -> new ResourceNotFoundException(NO_ACTIVE_MENU_MSG));
+        ActiveMenuReadEvent event = new ActiveMenuReadEvent();
+        event.begin();
+        try {
+            long start = System.nanoTime();
+            Optional<Menu> activeMenu = menuRepository.findByStatusWithMenuItems(MenuStatus.ACTIVE);
+            long mappingStart = System.nanoTime();
+            event.dbTime = mappingStart - start;
+            Menu menu = activeMenu.orElseThrow(() -> new ResourceNotFoundException(NO_ACTIVE_MENU_MSG));
+            event.menuId = menu.getId();
+            event.itemCount = menu.getMenuItems() != null ? menu.getMenuItems().size() : 0;
+            MenuDtoResponse response = menuMapper.toDtoWithMenuItems(menu);
+            event.mappingTime = System.nanoTime() - mappingStart;
+            return response;
+        } finally {
+            event.commit();
+        }
     }
 
     // ---------------------------------------------------------------------
@@ -1,9 +1,11 @@
 package com.restaurant.tableorder.table_order_service.exceptions;
 
+import com.restaurant.common.exception.DomainException;
+
 /**
  * Exception thrown when attempting to perform an operation on an order with an invalid status.
  */
-public class InvalidOrderStatusException extends RuntimeException {
+public class InvalidOrderStatusException extends DomainException {
     public InvalidOrderStatusException(String message) {
         super(message);
     }
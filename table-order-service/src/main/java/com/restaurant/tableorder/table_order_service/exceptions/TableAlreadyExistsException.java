@@ -1,9 +1,11 @@
 package com.restaurant.tableorder.table_order_service.exceptions;
 
+import com.restaurant.common.exception.DomainException;
+
 /**
  * Exception thrown when attempting to create a table with a number that already exists.
  */
-public class TableAlreadyExistsException extends RuntimeException {
+public class TableAlreadyExistsException extends DomainException {
     public TableAlreadyExistsException(String message) {
         super(message);
     }
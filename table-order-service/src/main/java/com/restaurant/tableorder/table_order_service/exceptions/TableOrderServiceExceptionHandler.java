@@ -1,13 +1,12 @@
 package com.restaurant.tableorder.table_order_service.exceptions;
 
+import com.restaurant.common.exception.ErrorResponse;
 import com.restaurant.common.exception.GlobalExceptionHandler;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.Map;
-
 @RestControllerAdvice
 /**
  * Service-specific exception translations for the Table Order Service.
@@ -19,13 +18,13 @@ import java.util.Map;
 public class TableOrderServiceExceptionHandler extends GlobalExceptionHandler {
 
     @ExceptionHandler(TableAlreadyExistsException.class)
-    public ResponseEntity<Map<String, Object>> handleTableAlreadyExists(TableAlreadyExistsException ex) {
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Duplicate Table", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleTableAlreadyExists(TableAlreadyExistsException ex) {
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, "Duplicate Table", ex.getMessage());
     }
 
     @ExceptionHandler(InvalidOrderStatusException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidOrderStatus(InvalidOrderStatusException ex) {
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid Order Status", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleInvalidOrderStatus(InvalidOrderStatusException ex) {
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, "Invalid Order Status", ex.getMessage());
     }
 }
 
@@ -0,0 +1,47 @@
+package com.restaurant.tableorder.table_order_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for one call of {@code OrderService.createOrder}.
+ *
+ * <p>
+ * The event's duration covers the whole method, split into database time (table lookup, order and
+ * item inserts, table status update) and DTO mapping time. The surrounding transaction commits after
+ * the method returns, so its flush is not part of the event.
+ * </p>
+ */
+@Name("restaurant.order.OrderPlacement")
+@Label("Order Placement")
+@Category({"Restaurant", "Orders"})
+@Description("Creation of an order with its items")
+@StackTrace(false)
+public class OrderPlacementEvent extends jdk.jfr.Event {
+
+    @Label("Table ID")
+    public long tableId;
+
+    @Label("Order ID")
+    @Description("ID of the created order, or 0 if creation failed")
+    public long orderId;
+
+    @Label("Item Count")
+    public int itemCount;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long dbTime;
+
+    @Label("Mapping Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mappingTime;
+
+    @Label("Outcome")
+    @Description("SUCCESS, or the simple name of the exception that was thrown")
+    public String outcome;
+}
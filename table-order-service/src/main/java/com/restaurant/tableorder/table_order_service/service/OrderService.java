@@ -9,6 +9,7 @@ import com.restaurant.tableorder.table_order_service.entity.OrderStatus;
 import com.restaurant.tableorder.table_order_service.entity.Table;
 import com.restaurant.tableorder.table_order_service.entity.TableStatus;
 import com.restaurant.tableorder.table_order_service.exceptions.InvalidOrderStatusException;
+import com.restaurant.tableorder.table_order_service.jfr.OrderPlacementEvent;
 import com.restaurant.tableorder.table_order_service.mapper.OrderMapper;
 import com.restaurant.tableorder.table_order_service.repository.OrderItemRepository;
 import com.restaurant.tableorder.table_order_service.repository.OrderRepository;
@@ -34,6 +35,7 @@ public class OrderService {
     // ==================== CONSTANTS ====================
     private static final String ORDER_NOT_FOUND_MSG = "Order not found with ID: %s";
     private static final String TABLE_NOT_FOUND_MSG = "Table not found with ID: %s";
+    private static final String OUTCOME_SUCCESS = "SUCCESS";
 
     // ==================== DEPENDENCIES ====================
     private final OrderRepository orderRepository;
@@ -50,54 +52,72 @@ public class OrderService {
      * Orders are created with PENDING status (approved and sent to kitchen).
      */
     public OrderDtoResponse createOrder(CreateOrderDtoRequest request) {
-        Table table = tableRepository.findById(request.getTableId())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format(TABLE_NOT_FOUND_MSG, request.getTableId())));
-
-        // Validate order has items
-        if (request.getOrderItems() == null || request.getOrderItems().isEmpty()) {
-            throw new IllegalArgumentException("Order must contain at least one item");
+        OrderPlacementEvent event = new OrderPlacementEvent();
+        event.begin();
+        event.tableId = request.getTableId() != null ? request.getTableId() : 0;
+        event.outcome = OUTCOME_SUCCESS;
+        long start = System.nanoTime();
+        try {
+            Table table = tableRepository.findById(request.getTableId())
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            String.format(TABLE_NOT_FOUND_MSG, request.getTableId())));
+
+            // Validate order has items
+            if (request.getOrderItems() == null || request.getOrderItems().isEmpty()) {
+                throw new IllegalArgumentException("Order must contain at least one item");
+            }
+
+            // Create order with PENDING status (approved and sent to kitchen)
+            Order order = Order.builder()
+                    .table(table)
+                    .waitressId(request.getWaitressId())
+                    .status(OrderStatus.PENDING)
+                    .totalAmount(BigDecimal.ZERO)
+                    .build();
+
+            Order savedOrder = orderRepository.save(order);
+
+            // Create order items
+            List<OrderItem> orderItems = request.getOrderItems().stream()
+                    .map(itemRequest -> OrderItem.builder()
+                            .order(savedOrder)
+                            .menuItemId(itemRequest.getMenuItemId())
+                            .menuItemName(itemRequest.getMenuItemName())
+                            .quantity(itemRequest.getQuantity())
+                            .price(itemRequest.getPrice())
+                            .specialInstructions(itemRequest.getSpecialInstructions())
+                            .build())
+                    .collect(Collectors.toList());
+
+            orderItems.forEach(orderItemRepository::save);
+            savedOrder.setOrderItems(orderItems);
+            savedOrder.setApprovedAt(LocalDateTime.now());
+            savedOrder.setSentToKitchenAt(LocalDateTime.now());
+
+            // Recalculate total
+            recalculateOrderTotal(savedOrder);
+            Order saved = orderRepository.save(savedOrder);
+
+            // Update table status to OCCUPIED if it was AVAILABLE
+            if (table.getStatus() == TableStatus.AVAILABLE) {
+                tableService.updateTableStatus(table.getId(), TableStatus.OCCUPIED);
+            }
+
+            // TODO: Send order to kitchen service via REST call or message queue
+
+            long mappingStart = System.nanoTime();
+            event.dbTime = mappingStart - start;
+            event.orderId = saved.getId();
+            event.itemCount = orderItems.size();
+            OrderDtoResponse response = orderMapper.toDto(saved);
+            event.mappingTime = System.nanoTime() - mappingStart;
+            return response;
+        } catch (RuntimeException e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
         }
-
-        // Create order with PENDING status (approved and sent to kitchen)
-        Order order = Order.builder()
-                .table(table)
-                .waitressId(request.getWaitressId())
-                .status(OrderStatus.PENDING)
-                .totalAmount(BigDecimal.ZERO)
-                .build();
-
-        Order savedOrder = orderRepository.save(order);
-
-        // Create order items
-        List<OrderItem> orderItems = request.getOrderItems().stream()
-                .map(itemRequest -> OrderItem.builder()
-                        .order(savedOrder)
-                        .menuItemId(itemRequest.getMenuItemId())
-                        .menuItemName(itemRequest.getMenuItemName())
-                        .quantity(itemRequest.getQuantity())
-                        .price(itemRequest.getPrice())
-                        .specialInstructions(itemRequest.getSpecialInstructions())
-                        .build())
-                .collect(Collectors.toList());
-
-        orderItems.forEach(orderItemRepository::save);
-        savedOrder.setOrderItems(orderItems);
-        savedOrder.setApprovedAt(LocalDateTime.now());
-        savedOrder.setSentToKitchenAt(LocalDateTime.now());
-
-        // Recalculate total
-        recalculateOrderTotal(savedOrder);
-        Order saved = orderRepository.save(savedOrder);
-
-        // Update table status to OCCUPIED if it was AVAILABLE
-        if (table.getStatus() == TableStatus.AVAILABLE) {
-            tableService.updateTableStatus(table.getId(), TableStatus.OCCUPIED);
-        }
-
-        // TODO: Send order to kitchen service via REST call or message queue
-
-        return orderMapper.toDto(saved);
     }
 
     // ---------------------------------------------------------------------